@@ -0,0 +1,135 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+
+/**
+ * AppCDS archive of jeo classes.
+ * A training JVM runs all the goals of {@link Cli} over a small generated class
+ * and records the list of loaded classes of jeo, ASM, Saxon, eo-parser and jcabi.
+ * Then another JVM dumps these classes to the archive. Next invocations of the
+ * CLI with '-XX:SharedArchiveFile=&lt;archive&gt;' map the classes from the archive
+ * instead of loading and verifying them again.
+ * The archive is static and without lambda proxy classes, since some JVMs
+ * crash while archiving lambdas of classes from signed jars, like Saxon.
+ * It requires Java 10 or newer, the same JVM and the same classpath,
+ * and all the classpath elements must be jar files.
+ * @since 0.6
+ */
+final class AppCds {
+
+    /**
+     * Where to save the archive.
+     */
+    private final Path archive;
+
+    /**
+     * Constructor.
+     * @param archive Where to save the archive.
+     */
+    AppCds(final Path archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Create the archive.
+     * @throws IOException If the training files can't be written.
+     */
+    void create() throws IOException {
+        final Path temp = Files.createTempDirectory("jeo-cds");
+        try {
+            Files.write(
+                temp.resolve("Training.class"),
+                new BytecodeProgram(new BytecodeClass("Training")).bytecode().bytes()
+            );
+            final Path list = temp.resolve("classes.lst");
+            AppCds.exec(
+                "-Xshare:off",
+                String.format("-XX:DumpLoadedClassList=%s", list),
+                "-cp",
+                WorkerPool.classpath(),
+                Cli.class.getName(),
+                "train",
+                temp.toString()
+            );
+            Files.write(
+                list,
+                Files.readAllLines(list).stream()
+                    .filter(line -> !line.startsWith("@"))
+                    .collect(Collectors.toList())
+            );
+            AppCds.exec(
+                "-Xshare:dump",
+                String.format("-XX:SharedClassListFile=%s", list),
+                String.format("-XX:SharedArchiveFile=%s", this.archive.toAbsolutePath()),
+                "-cp",
+                WorkerPool.classpath()
+            );
+            Logger.info(
+                this,
+                "AppCDS archive '%[file]s' is created, run the CLI with '-XX:SharedArchiveFile=%s'",
+                this.archive,
+                this.archive.toAbsolutePath()
+            );
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(
+                String.format("Interrupted while creating AppCDS archive '%s'", this.archive),
+                exception
+            );
+        } finally {
+            Cli.delete(temp);
+        }
+    }
+
+    /**
+     * Run a JVM and wait for it.
+     * @param options Options and arguments of the JVM.
+     * @throws IOException If the JVM can't be started.
+     * @throws InterruptedException If the thread is interrupted.
+     */
+    private static void exec(final String... options)
+        throws IOException, InterruptedException {
+        final List<String> command = new ArrayList<>(options.length + 1);
+        command.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        command.addAll(Arrays.asList(options));
+        final int code = new ProcessBuilder(command).inheritIO().start().waitFor();
+        if (code != 0) {
+            throw new IllegalStateException(
+                String.format("Command %s failed with exit code %d", command, code)
+            );
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Jar file from the classpath, opened once.
+ * The archive remembers the size and the modification time of the jar file,
+ * so {@link SessionCache} can tell whether it is still valid. The cache closes
+ * the archive when the jar file changes or when the session ends.
+ * @since 0.6
+ */
+final class Archive implements Closeable {
+
+    /**
+     * Path to the jar file.
+     */
+    private final Path path;
+
+    /**
+     * Size of the jar file when it was opened.
+     */
+    private final long size;
+
+    /**
+     * Modification time of the jar file when it was opened.
+     */
+    private final FileTime modified;
+
+    /**
+     * Opened jar file.
+     */
+    private final JarFile jar;
+
+    /**
+     * Constructor.
+     * @param path Path to the jar file.
+     */
+    Archive(final Path path) {
+        this.path = path;
+        try {
+            final BasicFileAttributes attrs = Files.readAttributes(
+                path, BasicFileAttributes.class
+            );
+            this.size = attrs.size();
+            this.modified = attrs.lastModifiedTime();
+            this.jar = new JarFile(path.toFile());
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't open the jar file '%s'", path),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Is the jar file the same as it was when it was opened?
+     * @return True if its size and modification time didn't change.
+     */
+    boolean fresh() {
+        boolean result;
+        try {
+            final BasicFileAttributes attrs = Files.readAttributes(
+                this.path, BasicFileAttributes.class
+            );
+            result = attrs.size() == this.size
+                && attrs.lastModifiedTime().equals(this.modified);
+        } catch (final IOException exception) {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * Resource of the jar file.
+     * @param name Resource name, like 'org/eolang/Foo.class'.
+     * @return Stream of the resource or empty if there is no such resource.
+     */
+    Optional<InputStream> stream(final String name) {
+        final Optional<InputStream> result;
+        final JarEntry entry = this.jar.getJarEntry(name);
+        if (entry == null) {
+            result = Optional.empty();
+        } else {
+            try {
+                result = Optional.of(this.jar.getInputStream(entry));
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't read '%s' from the jar file '%s'", name, this.path),
+                    exception
+                );
+            }
+        }
+        return result;
+    }
+
+    /**
+     * URL of the resource.
+     * @param name Resource name, like 'org/eolang/Foo.class'.
+     * @return URL or empty if there is no such resource.
+     */
+    Optional<URL> url(final String name) {
+        final Optional<URL> result;
+        if (this.jar.getJarEntry(name) == null) {
+            result = Optional.empty();
+        } else {
+            try {
+                result = Optional.of(
+                    new URL(String.format("jar:%s!/%s", this.path.toUri(), name))
+                );
+            } catch (final MalformedURLException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't make URL of '%s' in '%s'", name, this.path),
+                    exception
+                );
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.jar.close();
+    }
+}
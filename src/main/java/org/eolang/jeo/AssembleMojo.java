@@ -25,7 +25,11 @@ package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
 import java.io.File;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.execution.MavenSession;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
@@ -41,7 +45,7 @@ import org.apache.maven.project.MavenProject;
  *
  * @since 0.1.0
  */
-@Mojo(name = "assemble", defaultPhase = LifecyclePhase.PROCESS_CLASSES)
+@Mojo(name = "assemble", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
 public final class AssembleMojo extends AbstractMojo {
 
     /**
@@ -52,6 +56,16 @@ public final class AssembleMojo extends AbstractMojo {
     @Parameter(defaultValue = "${project}", required = true, readonly = true)
     private MavenProject project;
 
+    /**
+     * Maven session.
+     * Warm state, like opened jar files and indexes of folders of other modules,
+     * is shared by all the executions of the session.
+     *
+     * @since 0.6
+     */
+    @Parameter(defaultValue = "${session}", required = true, readonly = true)
+    private MavenSession session;
+
     /**
      * Source directory.
      *
@@ -90,6 +104,19 @@ public final class AssembleMojo extends AbstractMojo {
     )
     private boolean skipVerification;
 
+    /**
+     * File with the results of previous bytecode verifications.
+     * Classes that passed verification before and didn't change, as well as
+     * their super types, are not verified again.
+     *
+     * @since 0.6
+     */
+    @Parameter(
+        property = "jeo.assemble.verification.cache",
+        defaultValue = "${project.build.directory}/jeo-verification.txt"
+    )
+    private File verified;
+
     /**
      * Whether the plugin is disabled.
      * If it's disabled, then it won't do anything.
@@ -103,26 +130,167 @@ public final class AssembleMojo extends AbstractMojo {
     )
     private boolean disabled;
 
+    /**
+     * Shard of the files to process on the current node.
+     * Format is 'i/n', where 'n' is the total number of nodes and 'i' is
+     * the number of the current node starting from 1. By default, all the files
+     * are processed on a single node. Only the classes assembled on the current
+     * node are verified.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.shard", defaultValue = "1/1")
+    private String shard;
+
+    /**
+     * Filter of the classes to assemble.
+     * Comma-separated list of Ant-style patterns of class names, like
+     * 'com.acme.engine.**, !**.*Dto'. Patterns with the '!' prefix exclude classes.
+     * Excluded classes are left in the output directory as they are and
+     * are not verified.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.filter", defaultValue = "**")
+    private String filter;
+
+    /**
+     * Directory where to save shard manifests.
+     * Manifests of all the shards are reconciled by the 'merge' goal.
+     *
+     * @since 0.6
+     */
+    @Parameter(
+        property = "jeo.shard.manifests",
+        defaultValue = "${project.build.directory}/jeo-shards"
+    )
+    private File manifests;
+
+    /**
+     * Number of forked worker JVMs.
+     * If it's greater than zero, files are dispatched in batches to a pool of
+     * forked worker JVMs instead of being processed inside the Maven JVM.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.fork.workers", defaultValue = "0")
+    private int workers;
+
+    /**
+     * Number of files in a single batch sent to a forked worker JVM.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.fork.batch", defaultValue = "16")
+    private int batch;
+
+    /**
+     * JVM options of each forked worker, like heap and stack sizes or GC flags.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.fork.jvm", defaultValue = "-Xmx1g -Xss256m")
+    private String jvm;
+
+    /**
+     * Directory where to save performance metrics of the goal.
+     * Metrics of each goal are saved to the '&lt;goal&gt;.json' file.
+     *
+     * @since 0.6
+     */
+    @Parameter(
+        property = "jeo.metrics",
+        defaultValue = "${project.build.directory}/jeo-metrics"
+    )
+    private File metrics;
+
+    /**
+     * Directory of the content-addressed store of transformation results shared
+     * between projects and worktrees, for example '~/.m2/jeo-cache'.
+     * The store is disabled if the directory is not set.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.cache")
+    private File cache;
+
+    /**
+     * Maximum size of the content-addressed store in megabytes.
+     * Least recently used results are removed when the store grows bigger.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.cache.size", defaultValue = "1024")
+    private long size;
+
+    /**
+     * Time budget of a single file in milliseconds.
+     * If the transformation of a file takes longer, it's interrupted and
+     * the original class file is left in the output directory as it is.
+     * Such files are listed in the summary and in the metrics of the goal.
+     * Zero means no budget.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.budget", defaultValue = "0")
+    private long budget;
+
     @Override
     public void execute() throws MojoExecutionException {
         try {
             if (this.disabled) {
                 Logger.info(this, "Assemble mojo is disabled. Skipping.");
             } else {
-                new Assembler(
-                    this.sourcesDir.toPath(),
-                    this.outputDir.toPath()
-                ).assemble();
-                if (this.skipVerification) {
-                    Logger.info(this, "Verification is disabled. Skipping.");
-                } else {
-                    Logger.info(this, "Verification of all the generated classes.");
-                    new PluginStartup(this.project, this.outputDir.toPath()).init();
-                    new BytecodeClasses(this.outputDir.toPath()).verify();
+                final PluginStartup startup = new PluginStartup(
+                    this.project, SessionCache.of(this.session), this.outputDir.toPath()
+                );
+                final Metrics measured = new Metrics("assemble");
+                try {
+                    measured.record(() -> new Scans().within(() -> this.assemble(startup)));
+                } finally {
+                    measured.save(this.metrics.toPath());
                 }
             }
         } catch (final DependencyResolutionRequiredException exception) {
             throw new MojoExecutionException(exception);
         }
     }
+
+    /**
+     * Assemble all the classes and verify exactly the ones this shard produced.
+     * @param startup Plugin startup with all the folders with classes.
+     */
+    private void assemble(final PluginStartup startup) {
+        final ClassLoader loader = startup.loader();
+        final List<Path> assembled = new Assembler(
+            this.sourcesDir.toPath(),
+            this.outputDir.toPath(),
+            new Settings()
+                .withShard(new Shard(this.shard), this.manifests.toPath())
+                .withFilter(new ClassFilter(this.filter))
+                .withFork(new Fork(this.workers, this.batch, this.jvm, startup.folders(), loader))
+                .withStore(
+                    new ContentStore(
+                        Optional.ofNullable(this.cache).map(File::toString).orElse(""),
+                        this.size * 1024 * 1024
+                    )
+                )
+                .withBudget(this.budget)
+        ).assemble();
+        if (this.skipVerification) {
+            Logger.info(this, "Verification is disabled. Skipping.");
+        } else {
+            Logger.info(
+                this,
+                "Verification of %d classes assembled by the shard %s",
+                assembled.size(),
+                this.shard
+            );
+            new BytecodeClasses(
+                this.outputDir.toPath(),
+                new VerificationCache(this.verified.toPath()),
+                loader
+            ).verify(assembled);
+        }
+    }
 }
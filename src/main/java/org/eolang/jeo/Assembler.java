@@ -24,9 +24,9 @@
 package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -46,21 +46,46 @@ final class Assembler {
      */
     private final Path output;
 
+    /**
+     * Settings of the goal.
+     */
+    private final Settings settings;
+
+    /**
+     * Fingerprints of super types of the assembled classes.
+     * They are shared by all the files of the goal, so all of them see the
+     * same class hierarchy.
+     */
+    private final ClassFingerprints fingerprints;
+
     /**
      * Constructor.
      * @param input Input folder with "xmir" files.
      * @param output Output folder for the assembled classes.
      */
     Assembler(final Path input, final Path output) {
+        this(input, output, new Settings());
+    }
+
+    /**
+     * Constructor.
+     * @param input Input folder with "xmir" files.
+     * @param output Output folder for the assembled classes.
+     * @param settings Settings of the goal.
+     */
+    Assembler(final Path input, final Path output, final Settings settings) {
         this.input = input;
         this.output = output;
+        this.settings = settings;
+        this.fingerprints = new ClassFingerprints(settings.fork().loader());
     }
 
     /**
      * Assemble all "xmir" files.
+     * @return Class files produced by the current shard.
      * @since 0.2
      */
-    void assemble() {
+    List<Path> assemble() {
         final String assembling = "Assembling";
         final String assembled = "assembled";
         final Stream<Path> all = new Summary(
@@ -68,22 +93,52 @@ final class Assembler {
             assembled,
             this.input,
             this.output,
-            new ParallelTranslator(this::assemble)
-        ).apply(new XmirFiles(this.input).all());
-        all.forEach(this::log);
-        all.close();
+            new Sharded(
+                "assemble",
+                this.settings.shard(),
+                this.input,
+                this.output,
+                this.settings.manifests(this.input),
+                this.settings.fork().translator(
+                    this::assemble,
+                    this.settings.task("assemble", this.input, this.output)
+                )
+            )
+        ).apply(this.settings.filter().select(this.input, new XmirFiles(this.input).all()));
+        final List<Path> produced;
+        try {
+            produced = all.collect(Collectors.toList());
+        } finally {
+            all.close();
+        }
+        produced.forEach(this::log);
+        return produced;
     }
 
     /**
      * Assemble a single "xmir" file.
+     * Frames of the assembled class depend on its super types found on the
+     * classpath, so their fingerprint is a part of the key in the store.
      * @param path Path to the "xmir" file.
      * @return Path to the assembled class.
      */
-    private Path assemble(final Path path) {
+    Path assemble(final Path path) {
+        final Assembling assembling = new Assembling(this.output, path);
         final Transformation trans = new Logging(
             "Assembling",
             "assembled",
-            new Caching(new Assembling(this.output, path))
+            new Budgeted(
+                new Caching(
+                    assembling,
+                    this.settings.store(),
+                    () -> String.format(
+                        "assemble, supertypes %s",
+                        this.fingerprints.supertypes(assembling.name())
+                    )
+                ),
+                this.settings.budget(),
+                Passthrough.KEEP
+            )
         );
         trans.transform();
         return trans.target();
@@ -94,18 +149,11 @@ final class Assembler {
      * @param disassembled Disassembled file.
      */
     private void log(final Path disassembled) {
-        try {
-            Logger.debug(
-                this,
-                "Assembling of '%s' (%[size]s) finished successfully.",
-                disassembled,
-                Files.size(disassembled)
-            );
-        } catch (final IOException exception) {
-            throw new IllegalStateException(
-                String.format("Can't get size of '%s'", disassembled),
-                exception
-            );
-        }
+        Logger.debug(
+            this,
+            "Assembling of '%s' (%[size]s) finished successfully.",
+            disassembled,
+            Scans.current().size(disassembled)
+        );
     }
 }
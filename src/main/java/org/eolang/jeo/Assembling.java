@@ -25,6 +25,8 @@ package org.eolang.jeo;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
+import org.eolang.jeo.jfr.Flight;
+import org.eolang.jeo.jfr.JeoEvent;
 import org.eolang.jeo.representation.PrefixedName;
 import org.eolang.jeo.representation.XmirRepresentation;
 
@@ -73,8 +75,24 @@ public final class Assembling implements Transformation {
         return Paths.get(this.folder.toString(), subpath);
     }
 
+    /**
+     * Internal name of the assembled class.
+     * @return Internal name, like 'org/eolang/Foo'.
+     */
+    String name() {
+        return new PrefixedName(this.repr.name()).decode().replace('.', '/');
+    }
+
     @Override
     public byte[] transform() {
-        return this.repr.toBytecode().bytes();
+        final Flight flight = JeoEvent.ASSEMBLE.start();
+        final byte[] result = this.repr.toBytecode().bytes();
+        if (flight.recorded()) {
+            flight.file(this.from)
+                .bytecode(result)
+                .sizes(this.from.toFile().length(), result.length);
+        }
+        flight.end();
+        return result;
     }
 }
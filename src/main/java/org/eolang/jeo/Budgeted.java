@@ -0,0 +1,199 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Transformation with a time budget.
+ * A watchdog interrupts the thread that transforms the file if the budget is
+ * exceeded. Long loops of the transformation, like XSL passes and data-flow
+ * analysis, stop when their thread is interrupted, and then the file is passed
+ * through unchanged and recorded to the {@link Metrics} of the goal.
+ * The transformation that finishes despite the interruption keeps its result.
+ * @since 0.6
+ */
+public final class Budgeted implements Transformation {
+
+    /**
+     * Watchdog that interrupts transformations exceeding their budgets.
+     */
+    private static final ScheduledExecutorService WATCHDOG =
+        Executors.newSingleThreadScheduledExecutor(
+            runnable -> {
+                final Thread thread = new Thread(runnable, "jeo-watchdog");
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+
+    /**
+     * The transformation is running.
+     */
+    private static final int RUNNING = 0;
+
+    /**
+     * The transformation is finished in time.
+     */
+    private static final int FINISHED = 1;
+
+    /**
+     * The transformation exceeded its budget.
+     */
+    private static final int EXPIRED = 2;
+
+    /**
+     * Original transformation.
+     */
+    private final Transformation origin;
+
+    /**
+     * Time budget in milliseconds, zero means no budget.
+     */
+    private final long budget;
+
+    /**
+     * What to leave in place of the file if the budget is exceeded.
+     */
+    private final Passthrough passthrough;
+
+    /**
+     * Constructor.
+     * @param origin Original transformation.
+     * @param budget Time budget in milliseconds, zero means no budget.
+     * @param passthrough What to leave in place of the file if the budget is exceeded.
+     */
+    Budgeted(final Transformation origin, final long budget, final Passthrough passthrough) {
+        if (budget < 0) {
+            throw new IllegalArgumentException(
+                String.format("Time budget can't be negative: %d ms", budget)
+            );
+        }
+        this.origin = origin;
+        this.budget = budget;
+        this.passthrough = passthrough;
+    }
+
+    @Override
+    public Path source() {
+        return this.origin.source();
+    }
+
+    @Override
+    public Path target() {
+        return this.origin.target();
+    }
+
+    @Override
+    public byte[] transform() {
+        final byte[] result;
+        if (this.budget == 0) {
+            result = this.origin.transform();
+        } else {
+            result = this.watched();
+        }
+        return result;
+    }
+
+    /**
+     * Transform the file under the watchdog.
+     * @return Transformed file, or the file passed through.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private byte[] watched() {
+        final Thread thread = Thread.currentThread();
+        final AtomicInteger state = new AtomicInteger(Budgeted.RUNNING);
+        final ScheduledFuture<?> alarm = Budgeted.WATCHDOG.schedule(
+            () -> {
+                synchronized (state) {
+                    if (state.compareAndSet(Budgeted.RUNNING, Budgeted.EXPIRED)) {
+                        thread.interrupt();
+                    }
+                }
+            },
+            this.budget,
+            TimeUnit.MILLISECONDS
+        );
+        byte[] result;
+        try {
+            result = this.origin.transform();
+        } catch (final RuntimeException | StackOverflowError exception) {
+            if (!Budgeted.expired(state)) {
+                throw exception;
+            }
+            result = this.passed();
+        } finally {
+            alarm.cancel(false);
+        }
+        Budgeted.expired(state);
+        return result;
+    }
+
+    /**
+     * Finish the transformation and check whether it exceeded its budget.
+     * The interruption of the watchdog is cleared, so it doesn't affect
+     * the next work of the thread.
+     * @param state State of the transformation.
+     * @return True if the budget is exceeded.
+     */
+    private static boolean expired(final AtomicInteger state) {
+        synchronized (state) {
+            final boolean expired = !state.compareAndSet(Budgeted.RUNNING, Budgeted.FINISHED)
+                && state.get() == Budgeted.EXPIRED;
+            if (expired) {
+                Thread.interrupted();
+            }
+            return expired;
+        }
+    }
+
+    /**
+     * Pass the file through unchanged.
+     * @return Content of the target.
+     */
+    private byte[] passed() {
+        Logger.warn(
+            this,
+            "'%[file]s' exceeded the time budget of %[ms]s and is passed through unchanged",
+            this.source(),
+            this.budget
+        );
+        Metrics.current().overdue(this.source());
+        try {
+            return this.passthrough.apply(this.source(), this.target());
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Failed to pass '%s' through to '%s'", this.source(), this.target()),
+                exception
+            );
+        }
+    }
+}
@@ -27,12 +27,18 @@ import com.jcabi.log.Logger;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.eolang.jeo.jfr.Flight;
+import org.eolang.jeo.jfr.JeoEvent;
+import org.eolang.jeo.representation.bytecode.ClassHierarchy;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.Type;
@@ -45,8 +51,10 @@ import org.objectweb.asm.util.CheckClassAdapter;
 
 /**
  * This class knows how to verify generated bytecode.
- * It requires all the classes to be loaded into the current classloader.
- * See {@link PluginStartup#init()} how to load all the generated classes.
+ * It requires all the classes to be available from the given classloader.
+ * See {@link PluginStartup#loader()} how to make all the generated classes available.
+ * Types are checked by {@link HierarchyVerifier} that reads class file headers
+ * instead of loading classes.
  * @since 0.6
  */
 final class BytecodeClasses {
@@ -56,12 +64,99 @@ final class BytecodeClasses {
      */
     private final Path input;
 
+    /**
+     * Shard of the classes to verify.
+     */
+    private final Shard shard;
+
+    /**
+     * Filter of the classes to verify.
+     */
+    private final ClassFilter filter;
+
+    /**
+     * Results of previous verifications.
+     */
+    private final VerificationCache cache;
+
+    /**
+     * Class loader to find class files of super types.
+     */
+    private final ClassLoader loader;
+
     /**
      * Constructor.
      * @param input Input directory where all the generated class files are placed.
      */
     BytecodeClasses(final Path input) {
+        this(input, new Shard());
+    }
+
+    /**
+     * Constructor.
+     * @param input Input directory where all the generated class files are placed.
+     * @param shard Shard of the classes to verify.
+     */
+    BytecodeClasses(final Path input, final Shard shard) {
+        this(input, shard, new VerificationCache());
+    }
+
+    /**
+     * Constructor.
+     * @param input Input directory where all the generated class files are placed.
+     * @param shard Shard of the classes to verify.
+     * @param cache Results of previous verifications.
+     */
+    BytecodeClasses(final Path input, final Shard shard, final VerificationCache cache) {
+        this(input, shard, new ClassFilter(), cache);
+    }
+
+    /**
+     * Constructor.
+     * @param input Input directory where all the generated class files are placed.
+     * @param cache Results of previous verifications.
+     * @param loader Class loader to find class files of super types.
+     */
+    BytecodeClasses(final Path input, final VerificationCache cache, final ClassLoader loader) {
+        this(input, new Shard(), new ClassFilter(), cache, loader);
+    }
+
+    /**
+     * Constructor.
+     * @param input Input directory where all the generated class files are placed.
+     * @param shard Shard of the classes to verify.
+     * @param filter Filter of the classes to verify.
+     * @param cache Results of previous verifications.
+     */
+    BytecodeClasses(
+        final Path input,
+        final Shard shard,
+        final ClassFilter filter,
+        final VerificationCache cache
+    ) {
+        this(input, shard, filter, cache, BytecodeClasses.class.getClassLoader());
+    }
+
+    /**
+     * Constructor.
+     * @param input Input directory where all the generated class files are placed.
+     * @param shard Shard of the classes to verify.
+     * @param filter Filter of the classes to verify.
+     * @param cache Results of previous verifications.
+     * @param loader Class loader to find class files of super types.
+     */
+    BytecodeClasses(
+        final Path input,
+        final Shard shard,
+        final ClassFilter filter,
+        final VerificationCache cache,
+        final ClassLoader loader
+    ) {
         this.input = input;
+        this.shard = shard;
+        this.filter = filter;
+        this.cache = cache;
+        this.loader = loader;
     }
 
     /**
@@ -84,9 +179,88 @@ final class BytecodeClasses {
 
     /**
      * Verify bytecode in the folder.
+     * Classes are verified in parallel. Verification doesn't stop on the first
+     * failure: all the failures are collected and reported together.
+     * Classes that passed verification before and whose bytes and super types
+     * didn't change since then are not verified again, the numbers of such
+     * cache hits and misses are reported to the current {@link Metrics}.
      */
     void verify() {
-        this.all().map(BytecodeClasses::read).forEach(BytecodeClasses::verify);
+        this.verify(
+            this.shard.select(this.input, this.filter.select(this.input, this.all()))
+                .collect(Collectors.toList())
+        );
+    }
+
+    /**
+     * Verify the given class files, like the ones produced by a single shard.
+     * @param classes Class files inside the input directory.
+     */
+    void verify(final Collection<Path> classes) {
+        final Collection<IllegalStateException> failures = new ConcurrentLinkedQueue<>();
+        final AtomicInteger broken = new AtomicInteger();
+        final AtomicInteger cached = new AtomicInteger();
+        final ClassFingerprints fingerprints = new ClassFingerprints(this.loader);
+        final ClassHierarchy hierarchy = new ClassHierarchy(this.loader);
+        final int verified = new ParallelTranslator(
+            clazz -> {
+                final byte[] bytes = BytecodeClasses.read(clazz);
+                final String key = this.input.relativize(clazz).toString();
+                final long start = System.nanoTime();
+                final Optional<String> fingerprint = BytecodeClasses.name(bytes)
+                    .map(name -> fingerprints.fingerprint(name, bytes));
+                Metrics.current().phase("fingerprint", start);
+                final boolean passed = fingerprint.isPresent()
+                    && this.cache.passed(key, fingerprint.get());
+                Metrics.current().checked(passed);
+                if (passed) {
+                    cached.incrementAndGet();
+                } else {
+                    final Flight flight = JeoEvent.VERIFY.start();
+                    final long verification = System.nanoTime();
+                    final List<IllegalStateException> found = BytecodeClasses.verify(
+                        clazz, bytes, hierarchy
+                    );
+                    Metrics.current().phase("verify", verification);
+                    if (flight.recorded()) {
+                        flight.file(clazz).bytecode(bytes).sizes(bytes.length, 0L);
+                    }
+                    flight.end();
+                    if (found.isEmpty()) {
+                        fingerprint.ifPresent(print -> this.cache.pass(key, print));
+                    } else {
+                        this.cache.fail(key);
+                        broken.incrementAndGet();
+                        failures.addAll(found);
+                    }
+                }
+                return clazz;
+            },
+            this.loader
+        ).apply(classes.stream()).collect(Collectors.toList()).size();
+        this.cache.save();
+        Logger.info(
+            this,
+            "Bytecode verification passed for %d of %d classes, %d of them passed before and didn't change",
+            verified - broken.get(),
+            verified,
+            cached.get()
+        );
+        if (!failures.isEmpty()) {
+            final IllegalStateException report = new IllegalStateException(
+                String.format(
+                    "Bytecode verification failed for %d of %d classes:%n%s",
+                    broken.get(),
+                    verified,
+                    failures.stream()
+                        .map(Throwable::getMessage)
+                        .collect(Collectors.joining(System.lineSeparator()))
+                ),
+                failures.iterator().next()
+            );
+            failures.stream().skip(1).forEach(report::addSuppressed);
+            throw report;
+        }
     }
 
     /**
@@ -108,12 +282,9 @@ final class BytecodeClasses {
                 )
             );
         }
-        try (Stream<Path> walk = Files.walk(this.input)) {
-            return walk
-                .filter(Files::isRegularFile)
-                .filter(path -> path.toString().endsWith(".class"))
-                .collect(Collectors.toList());
-        }
+        return Scans.current().files(this.input)
+            .filter(path -> path.toString().endsWith(".class"))
+            .collect(Collectors.toList());
     }
 
     /**
@@ -132,43 +303,77 @@ final class BytecodeClasses {
         }
     }
 
+    /**
+     * Internal name of the class.
+     * @param bytes Bytes of the class file.
+     * @return Internal name or empty if the class file header is broken.
+     */
+    private static Optional<String> name(final byte[] bytes) {
+        Optional<String> result;
+        try {
+            result = Optional.of(new ClassReader(bytes).getClassName());
+        } catch (final IllegalArgumentException | IndexOutOfBoundsException exception) {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
     /**
      * Verify the generated bytecode.
+     * The structural check is performed while the class node is being read,
+     * and then the data-flow analysis runs over each method of the same node.
+     * @param path Path to the class file.
      * @param bytes Bytecode to verify.
+     * @param hierarchy Class hierarchy.
+     * @return Verification failures, empty if the class is correct.
      */
-    private static void verify(final byte[] bytes) {
+    private static List<IllegalStateException> verify(
+        final Path path, final byte[] bytes, final ClassHierarchy hierarchy
+    ) {
+        final List<IllegalStateException> failures = new ArrayList<>(0);
         final ClassNode clazz = new ClassNode();
-        new ClassReader(bytes)
-            .accept(new CheckClassAdapter(clazz, false), ClassReader.SKIP_DEBUG);
-        final Optional<Type> syper = Optional.ofNullable(clazz.superName)
-            .map(Type::getObjectType);
-        final List<Type> interfaces = clazz.interfaces.stream().map(Type::getObjectType)
-            .collect(Collectors.toList());
+        try {
+            new ClassReader(bytes)
+                .accept(new CheckClassAdapter(clazz, false), ClassReader.SKIP_DEBUG);
+        } catch (final IllegalArgumentException | IllegalStateException
+            | IndexOutOfBoundsException exception) {
+            failures.add(
+                new IllegalStateException(
+                    String.format("Bytecode structure is broken in the class file '%s'", path),
+                    exception
+                )
+            );
+            return failures;
+        }
+        final SimpleVerifier verifier = new HierarchyVerifier(
+            Type.getObjectType(clazz.name),
+            Optional.ofNullable(clazz.superName).map(Type::getObjectType).orElse(null),
+            clazz.interfaces.stream().map(Type::getObjectType).collect(Collectors.toList()),
+            (clazz.access & Opcodes.ACC_INTERFACE) != 0,
+            hierarchy
+        );
         for (final MethodNode method : clazz.methods) {
             try {
-                final SimpleVerifier verifier =
-                    new SimpleVerifier(
-                        Type.getObjectType(clazz.name),
-                        syper.orElse(null),
-                        interfaces,
-                        (clazz.access & Opcodes.ACC_INTERFACE) != 0
-                    );
-                verifier.setClassLoader(Thread.currentThread().getContextClassLoader());
                 new Analyzer<>(verifier).analyze(clazz.name, method);
             } catch (final ClassFormatError | AnalyzerException exception) {
-                throw new IllegalStateException(
-                    String.format(
-                        "Bytecode verification failed for the class '%s' and method '%s'",
-                        clazz.name,
-                        method.name
-                    ),
-                    exception
+                failures.add(
+                    new IllegalStateException(
+                        String.format(
+                            "Bytecode verification failed for the class '%s' and method '%s'",
+                            clazz.name,
+                            method.name
+                        ),
+                        exception
+                    )
                 );
             }
         }
-        Logger.info(
-            BytecodeClasses.class,
-            String.format("Bytecode verification passed for the class '%s'", clazz.name)
-        );
+        if (failures.isEmpty()) {
+            Logger.info(
+                BytecodeClasses.class,
+                String.format("Bytecode verification passed for the class '%s'", clazz.name)
+            );
+        }
+        return failures;
     }
 }
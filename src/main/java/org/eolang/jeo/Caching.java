@@ -25,11 +25,17 @@ package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
 import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Optional;
+import java.util.function.Supplier;
+import org.eolang.jeo.representation.Gzip;
 
 /**
  * Cached transformation.
+ * If the target is newer than the source, the target is reused. Otherwise, the
+ * result is looked up in the {@link ContentStore} shared between projects, and
+ * only then the original transformation is applied.
  * @since 0.6
  */
 public final class Caching implements Transformation {
@@ -39,12 +45,87 @@ public final class Caching implements Transformation {
      */
     private final Transformation origin;
 
+    /**
+     * Content-addressed store of transformation results.
+     */
+    private final ContentStore store;
+
+    /**
+     * Transformation name and options that affect its result.
+     * They are computed only when the store is enabled.
+     */
+    private final Supplier<String> options;
+
+    /**
+     * Compression of targets with the '.gz' extension.
+     */
+    private final Gzip gzip;
+
     /**
      * Constructor.
      * @param origin Original transformation.
      */
     Caching(final Transformation origin) {
+        this(origin, new ContentStore(), "");
+    }
+
+    /**
+     * Constructor.
+     * @param origin Original transformation.
+     * @param store Content-addressed store of transformation results.
+     * @param options Transformation name and options that affect its result.
+     */
+    Caching(final Transformation origin, final ContentStore store, final String options) {
+        this(origin, store, () -> options);
+    }
+
+    /**
+     * Constructor.
+     * @param origin Original transformation.
+     * @param store Content-addressed store of transformation results.
+     * @param options Transformation name and options that affect its result.
+     */
+    Caching(
+        final Transformation origin,
+        final ContentStore store,
+        final Supplier<String> options
+    ) {
+        this(origin, store, options, new Gzip());
+    }
+
+    /**
+     * Constructor.
+     * @param origin Original transformation.
+     * @param store Content-addressed store of uncompressed transformation results.
+     * @param options Transformation name and options that affect its result.
+     * @param gzip Compression of targets with the '.gz' extension.
+     */
+    Caching(
+        final Transformation origin,
+        final ContentStore store,
+        final String options,
+        final Gzip gzip
+    ) {
+        this(origin, store, () -> options, gzip);
+    }
+
+    /**
+     * Constructor.
+     * @param origin Original transformation.
+     * @param store Content-addressed store of uncompressed transformation results.
+     * @param options Transformation name and options that affect its result.
+     * @param gzip Compression of targets with the '.gz' extension.
+     */
+    Caching(
+        final Transformation origin,
+        final ContentStore store,
+        final Supplier<String> options,
+        final Gzip gzip
+    ) {
         this.origin = origin;
+        this.store = store;
+        this.options = options;
+        this.gzip = gzip;
     }
 
     @Override
@@ -88,26 +169,59 @@ public final class Caching implements Transformation {
                 this.source(),
                 target
             );
-            result = Files.readAllBytes(target);
+            final long start = System.nanoTime();
+            result = Gzip.read(target);
+            Metrics.current().phase("read", start);
+            Metrics.current().hit();
         } else {
-            final byte[] transform = this.origin.transform();
-            Files.createDirectories(target.getParent());
-            Files.write(target, transform);
+            final byte[] transform = this.stored();
+            Writes.write(target, transform, this.gzip);
             result = transform;
         }
         return result;
     }
 
+    /**
+     * Take the result from the store or transform the file.
+     * @return The transformed file content.
+     * @throws IOException If something goes wrong.
+     */
+    private byte[] stored() throws IOException {
+        final byte[] result;
+        if (this.store.enabled()) {
+            final String key = this.store.key(this.options.get(), Gzip.read(this.source()));
+            final Optional<byte[]> found = this.store.get(key);
+            if (found.isPresent()) {
+                Logger.info(
+                    this,
+                    "The file '%s' is found in the store '%s'. Skipping.",
+                    this.source(),
+                    this.store.location()
+                );
+                Metrics.current().hit();
+                result = found.get();
+            } else {
+                Metrics.current().miss();
+                result = this.origin.transform();
+                this.store.put(key, result);
+            }
+        } else {
+            Metrics.current().miss();
+            result = this.origin.transform();
+        }
+        return result;
+    }
+
     /**
      * Check if the file has already been transformed.
      * @return True if the file has already been transformed.
-     * @throws IOException If something goes wrong.
      */
-    private boolean alreadyTransformed() throws IOException {
-        final Path source = this.source();
-        final Path target = this.target();
-        return Files.exists(target)
-            && Files.exists(source)
-            && Files.getLastModifiedTime(target).compareTo(Files.getLastModifiedTime(source)) >= 0;
+    private boolean alreadyTransformed() {
+        final Scans scans = Scans.current();
+        final Optional<FileTime> target = scans.modified(this.target());
+        final Optional<FileTime> source = scans.modified(this.source());
+        return target.isPresent()
+            && source.isPresent()
+            && target.get().compareTo(source.get()) >= 0;
     }
 }
@@ -0,0 +1,187 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.File;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eolang.jeo.representation.Gzip;
+import org.eolang.jeo.representation.NamePattern;
+
+/**
+ * Filter of classes by Ant-style patterns of their names.
+ * <p>The specification is a comma-separated list of patterns, like
+ * {@code com.acme.engine.**, !**.*Dto}. Patterns with the '!' prefix exclude
+ * classes, all the other patterns include them. A class is accepted if it matches
+ * at least one include pattern (or there are no include patterns at all) and
+ * doesn't match any exclude pattern.</p>
+ * <p>See {@link NamePattern} for the syntax of patterns.</p>
+ * <p>Names of classes are taken from the paths of class and XMIR files
+ * relative to the root directory, like 'com/acme/Engine.class'.</p>
+ * @since 0.6
+ */
+final class ClassFilter {
+
+    /**
+     * Prefix of exclude patterns.
+     */
+    private static final String EXCLUDE = "!";
+
+    /**
+     * Original specification.
+     */
+    private final String spec;
+
+    /**
+     * Include patterns.
+     */
+    private final List<NamePattern> includes;
+
+    /**
+     * Exclude patterns.
+     */
+    private final List<NamePattern> excludes;
+
+    /**
+     * Constructor.
+     * The filter that accepts all the classes.
+     */
+    ClassFilter() {
+        this("**");
+    }
+
+    /**
+     * Constructor.
+     * @param spec Comma-separated list of patterns, like 'com.acme.**, !**.*Dto'.
+     */
+    ClassFilter(final String spec) {
+        this(
+            spec,
+            ClassFilter.patterns(spec, false),
+            ClassFilter.patterns(spec, true)
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param spec Original specification.
+     * @param includes Include patterns.
+     * @param excludes Exclude patterns.
+     */
+    private ClassFilter(
+        final String spec, final List<NamePattern> includes, final List<NamePattern> excludes
+    ) {
+        this.spec = spec;
+        this.includes = includes;
+        this.excludes = excludes;
+    }
+
+    @Override
+    public String toString() {
+        return this.spec;
+    }
+
+    /**
+     * Does the filter accept all the classes?
+     * @return True if it does.
+     */
+    boolean all() {
+        return this.excludes.isEmpty()
+            && this.includes.stream().anyMatch(NamePattern::any);
+    }
+
+    /**
+     * Select the files of accepted classes.
+     * @param root Root directory of the files.
+     * @param files Files of classes or XMIRs.
+     * @return Files of accepted classes.
+     */
+    Stream<Path> select(final Path root, final Stream<Path> files) {
+        final Stream<Path> result;
+        if (this.all()) {
+            result = files;
+        } else {
+            result = files.filter(file -> this.accepts(root, file));
+        }
+        return result;
+    }
+
+    /**
+     * Is the class file or XMIR file accepted?
+     * @param root Root directory of the file.
+     * @param file Class file or XMIR file.
+     * @return True if it is accepted.
+     */
+    boolean accepts(final Path root, final Path file) {
+        return this.all() || this.accepts(ClassFilter.name(root, file));
+    }
+
+    /**
+     * Is the class accepted?
+     * @param name Fully qualified class name, like 'com.acme.Engine'.
+     * @return True if it is accepted.
+     */
+    boolean accepts(final String name) {
+        return (this.includes.isEmpty()
+            || this.includes.stream().anyMatch(pattern -> pattern.matches(name)))
+            && this.excludes.stream().noneMatch(pattern -> pattern.matches(name));
+    }
+
+    /**
+     * Class name of the file.
+     * @param root Root directory.
+     * @param file Class file or XMIR file.
+     * @return Class name, like 'com.acme.Engine'.
+     */
+    private static String name(final Path root, final Path file) {
+        final String relative = Gzip.plain(root.relativize(file).toString());
+        final int dot = relative.lastIndexOf('.');
+        final String bare;
+        if (dot > relative.lastIndexOf(File.separatorChar)) {
+            bare = relative.substring(0, dot);
+        } else {
+            bare = relative;
+        }
+        return bare.replace(File.separatorChar, '.');
+    }
+
+    /**
+     * Compile patterns of the specification.
+     * @param spec Specification.
+     * @param exclude Compile exclude patterns or include patterns.
+     * @return Compiled patterns.
+     */
+    private static List<NamePattern> patterns(final String spec, final boolean exclude) {
+        return Arrays.stream(spec.split(","))
+            .map(String::trim)
+            .filter(pattern -> !pattern.isEmpty())
+            .filter(pattern -> pattern.startsWith(ClassFilter.EXCLUDE) == exclude)
+            .map(pattern -> pattern.replaceFirst("^!", "").trim())
+            .map(NamePattern::new)
+            .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,222 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.SortedSet;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import org.eolang.jeo.representation.bytecode.ClassHierarchy;
+
+/**
+ * Fingerprints of classes for incremental verification and assembling.
+ * The fingerprint of a class covers its own bytes and the bytes of all its super
+ * classes and interfaces, because the verification result depends on them.
+ * Frames computed by assembling depend on the same super types, so their
+ * fingerprint is a part of the key of assembled classes in {@link ContentStore}.
+ * JDK classes are covered by the Java version instead of their bytes.
+ * Digests of super types are shared between all the classes of a single run.
+ * @since 0.6
+ */
+final class ClassFingerprints {
+
+    /**
+     * Absent class digest.
+     */
+    private static final String ABSENT = "absent";
+
+    /**
+     * Class loader to find class files of super types.
+     */
+    private final ClassLoader loader;
+
+    /**
+     * Class hierarchy.
+     */
+    private final ClassHierarchy hierarchy;
+
+    /**
+     * Version of jeo that is a part of each fingerprint.
+     */
+    private final String version;
+
+    /**
+     * Digests of super types by their internal names.
+     */
+    private final Map<String, String> digests;
+
+    /**
+     * Constructor.
+     * Uses the context class loader of the current thread.
+     */
+    ClassFingerprints() {
+        this(
+            Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElseGet(ClassLoader::getSystemClassLoader)
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param loader Class loader to find class files of super types.
+     */
+    ClassFingerprints(final ClassLoader loader) {
+        this(loader, new ClassHierarchy(loader));
+    }
+
+    /**
+     * Constructor.
+     * @param loader Class loader to find class files of super types.
+     * @param hierarchy Class hierarchy.
+     */
+    private ClassFingerprints(final ClassLoader loader, final ClassHierarchy hierarchy) {
+        this.loader = loader;
+        this.hierarchy = hierarchy;
+        this.version = new JeoVersion().toString();
+        this.digests = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Fingerprint of the class.
+     * @param name Internal name of the class.
+     * @param bytes Bytes of the class file.
+     * @return Fingerprint.
+     */
+    String fingerprint(final String name, final byte[] bytes) {
+        final MessageDigest digest = ClassFingerprints.sha();
+        digest.update(bytes);
+        digest.update(this.supertypes(name).getBytes(StandardCharsets.UTF_8));
+        return ClassFingerprints.hex(digest.digest());
+    }
+
+    /**
+     * Fingerprint of all super classes and interfaces of the class, without its own bytes.
+     * @param name Internal name of the class.
+     * @return Fingerprint.
+     */
+    String supertypes(final String name) {
+        final MessageDigest digest = ClassFingerprints.sha();
+        digest.update(
+            String.format(
+                "java %s, jeo %s",
+                System.getProperty("java.version"),
+                this.version
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        for (final String type : this.types(name)) {
+            digest.update(
+                String.format("%s %s", type, this.digests.computeIfAbsent(type, this::digest))
+                    .getBytes(StandardCharsets.UTF_8)
+            );
+        }
+        return ClassFingerprints.hex(digest.digest());
+    }
+
+    /**
+     * All super classes and interfaces of the class, excluding JDK classes.
+     * @param name Internal name of the class.
+     * @return Sorted internal names.
+     */
+    private SortedSet<String> types(final String name) {
+        final SortedSet<String> result = new TreeSet<>();
+        this.collect(name, result);
+        result.remove(name);
+        return result;
+    }
+
+    /**
+     * Collect all super types of the class.
+     * @param name Internal name of the class.
+     * @param types Collected types.
+     */
+    private void collect(final String name, final Collection<String> types) {
+        if (!name.startsWith("java/") && types.add(name)) {
+            final String parent = this.hierarchy.superName(name);
+            if (parent != null) {
+                this.collect(parent, types);
+            }
+            for (final String iface : this.hierarchy.interfaces(name)) {
+                this.collect(iface, types);
+            }
+        }
+    }
+
+    /**
+     * Digest of the class file found by the class loader.
+     * @param name Internal name of the class.
+     * @return Digest or "absent" if the class file is not found.
+     */
+    private String digest(final String name) {
+        try (InputStream input = this.loader.getResourceAsStream(String.format("%s.class", name))) {
+            final String result;
+            if (input == null) {
+                result = ClassFingerprints.ABSENT;
+            } else {
+                final MessageDigest digest = ClassFingerprints.sha();
+                final byte[] buffer = new byte[8192];
+                int read = input.read(buffer);
+                while (read >= 0) {
+                    digest.update(buffer, 0, read);
+                    read = input.read(buffer);
+                }
+                result = ClassFingerprints.hex(digest.digest());
+            }
+            return result;
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read the class file of '%s'", name),
+                exception
+            );
+        }
+    }
+
+    /**
+     * New SHA-256 digest.
+     * @return Digest.
+     */
+    private static MessageDigest sha() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not supported by the JVM", exception);
+        }
+    }
+
+    /**
+     * Hexadecimal representation of bytes.
+     * @param bytes Bytes.
+     * @return Hex string.
+     */
+    private static String hex(final byte[] bytes) {
+        return String.format("%064x", new BigInteger(1, bytes));
+    }
+}
@@ -0,0 +1,276 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Enumeration;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Command line interface.
+ * It runs the goals without Maven, so scripts and pre-commit hooks don't pay for
+ * the Maven bootstrap:
+ * <pre>
+ * java -cp &lt;classpath&gt; org.eolang.jeo.Cli disassemble &lt;classes&gt; &lt;xmir&gt;
+ * java -cp &lt;classpath&gt; org.eolang.jeo.Cli assemble &lt;xmir&gt; &lt;classes&gt;
+ * java -cp &lt;classpath&gt; org.eolang.jeo.Cli unroll &lt;xmir&gt; &lt;unrolled&gt;
+ * java -cp &lt;classpath&gt; org.eolang.jeo.Cli verify &lt;classes&gt;
+ * java -cp &lt;classpath&gt; org.eolang.jeo.Cli cds &lt;archive&gt;
+ * </pre>
+ * Classes are taken either from a directory or from a jar file. The 'cds' command
+ * creates an AppCDS archive of the classes jeo loads, see {@link AppCds}.
+ * Any failure ends with an exception, so the exit code of the JVM is not zero.
+ * @since 0.6
+ */
+public final class Cli {
+
+    /**
+     * Usage message.
+     */
+    private static final String USAGE = String.join(
+        System.lineSeparator(),
+        "Usage: java -cp <classpath> org.eolang.jeo.Cli <command> <arguments>",
+        "  disassemble <classes directory or jar> <xmir directory>",
+        "  assemble <xmir directory> <classes directory>",
+        "  unroll <xmir directory> <unrolled directory>",
+        "  verify <classes directory or jar>",
+        "  cds <archive>",
+        "  train <scratch classes directory>, runs all the goals in place, used by cds"
+    );
+
+    /**
+     * Command and its arguments.
+     */
+    private final String[] args;
+
+    /**
+     * Constructor.
+     * @param args Command and its arguments.
+     */
+    Cli(final String... args) {
+        this.args = Arrays.copyOf(args, args.length);
+    }
+
+    /**
+     * Entry point.
+     * @param args Command and its arguments.
+     * @throws IOException If files can't be read or written.
+     */
+    public static void main(final String... args) throws IOException {
+        new Cli(args).run();
+    }
+
+    /**
+     * Run the command.
+     * @throws IOException If files can't be read or written.
+     */
+    void run() throws IOException {
+        if (this.args.length == 0) {
+            throw new IllegalArgumentException(Cli.USAGE);
+        }
+        switch (this.args[0]) {
+            case "disassemble":
+                Cli.disassemble(this.path(1), this.path(2));
+                break;
+            case "assemble":
+                Cli.assemble(this.path(1), this.path(2));
+                break;
+            case "unroll":
+                new Scans().within(() -> new Unroller(this.path(1), this.path(2)).unroll());
+                break;
+            case "verify":
+                Cli.verify(this.path(1));
+                break;
+            case "cds":
+                new AppCds(this.path(1)).create();
+                break;
+            case "train":
+                Cli.train(this.path(1));
+                break;
+            default:
+                throw new IllegalArgumentException(
+                    String.format("Unknown command '%s'%n%s", this.args[0], Cli.USAGE)
+                );
+        }
+    }
+
+    /**
+     * Argument of the command as a path.
+     * @param position Position of the argument.
+     * @return Path.
+     */
+    private Path path(final int position) {
+        if (this.args.length <= position) {
+            throw new IllegalArgumentException(
+                String.format("Not enough arguments for '%s'%n%s", this.args[0], Cli.USAGE)
+            );
+        }
+        return Paths.get(this.args[position]);
+    }
+
+    /**
+     * Disassemble classes.
+     * @param classes Directory or jar with classes.
+     * @param xmir Directory where to save XMIR files.
+     * @throws IOException If the jar can't be extracted.
+     */
+    private static void disassemble(final Path classes, final Path xmir) throws IOException {
+        final Path dir = Cli.directory(classes);
+        try {
+            new Scans().within(() -> new Disassembler(dir, xmir).disassemble());
+        } finally {
+            if (!classes.equals(dir)) {
+                Cli.delete(dir);
+            }
+        }
+    }
+
+    /**
+     * Assemble XMIR files.
+     * @param xmir Directory with XMIR files.
+     * @param classes Directory where to save classes.
+     */
+    private static void assemble(final Path xmir, final Path classes) {
+        final ClassLoader loader = new PluginStartup(classes.toString()).loader();
+        new Scans().within(
+            () -> new Assembler(
+                xmir,
+                classes,
+                new Settings().withFork(new Fork(0, 1, "", Collections.emptyList(), loader))
+            ).assemble()
+        );
+    }
+
+    /**
+     * Verify classes.
+     * @param classes Directory or jar with classes.
+     * @throws IOException If the jar can't be extracted.
+     */
+    private static void verify(final Path classes) throws IOException {
+        final Path dir = Cli.directory(classes);
+        try {
+            new Scans().within(
+                () -> new BytecodeClasses(
+                    dir,
+                    new Shard(),
+                    new ClassFilter(),
+                    new VerificationCache(),
+                    new PluginStartup(dir.toString()).loader()
+                ).verify()
+            );
+        } finally {
+            if (!classes.equals(dir)) {
+                Cli.delete(dir);
+            }
+        }
+    }
+
+    /**
+     * Run all the goals over the classes, so the JVM loads everything it needs.
+     * It's used by {@link AppCds} to record the classes of jeo.
+     * @param dir Directory with classes.
+     */
+    private static void train(final Path dir) {
+        final Path xmir = dir.resolve("xmir");
+        new Scans().within(() -> new Disassembler(dir, xmir).disassemble());
+        Cli.assemble(xmir, dir);
+        new Scans().within(
+            () -> new BytecodeClasses(dir, new Shard()).verify()
+        );
+        try {
+            new Scans().within(() -> new Unroller(xmir, dir.resolve("unrolled")).unroll());
+        } catch (final IllegalStateException exception) {
+            Logger.debug(
+                Cli.class,
+                "Plain XMIR can't be unrolled, but the classes are loaded anyway: %s",
+                exception.getMessage()
+            );
+        }
+    }
+
+    /**
+     * Directory with classes.
+     * Jar files are extracted to a temporary directory.
+     * @param classes Directory or jar with classes.
+     * @return Directory.
+     * @throws IOException If the jar can't be extracted.
+     */
+    private static Path directory(final Path classes) throws IOException {
+        final Path result;
+        if (Files.isRegularFile(classes)) {
+            result = Files.createTempDirectory("jeo-cli");
+            try (JarFile jar = new JarFile(classes.toFile())) {
+                final Enumeration<JarEntry> entries = jar.entries();
+                while (entries.hasMoreElements()) {
+                    final JarEntry entry = entries.nextElement();
+                    if (!entry.isDirectory() && entry.getName().endsWith(".class")) {
+                        final Path target = result.resolve(entry.getName()).normalize();
+                        if (!target.startsWith(result)) {
+                            throw new IllegalStateException(
+                                String.format(
+                                    "Entry '%s' of '%s' is outside of the jar",
+                                    entry.getName(),
+                                    classes
+                                )
+                            );
+                        }
+                        Files.createDirectories(target.getParent());
+                        try (InputStream input = jar.getInputStream(entry)) {
+                            Files.copy(input, target, StandardCopyOption.REPLACE_EXISTING);
+                        }
+                    }
+                }
+            }
+        } else {
+            result = classes;
+        }
+        return result;
+    }
+
+    /**
+     * Delete the directory with all its content.
+     * @param dir Directory.
+     * @throws IOException If the directory can't be deleted.
+     */
+    static void delete(final Path dir) throws IOException {
+        try (Stream<Path> all = Files.walk(dir)) {
+            for (final Path path : all.sorted(Comparator.reverseOrder())
+                .collect(Collectors.toList())) {
+                Files.delete(path);
+            }
+        }
+    }
+}
@@ -0,0 +1,362 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Content-addressed store of transformation results shared between projects.
+ * Results are kept under the hash of the transformation input, the plugin version
+ * and the transformation options, so the same class disassembled in different
+ * modules or worktrees is transformed only once.
+ * Each entry is written to a temporary file first and then atomically moved
+ * to its place, so parallel Maven processes never see half-written entries.
+ * Reading an entry updates its modification time, and when the store grows
+ * beyond its limit, least recently used entries are removed.
+ * If the root directory is empty, the store is disabled.
+ * @since 0.6
+ */
+public final class ContentStore {
+
+    /**
+     * How often to check the size of the store, in writes.
+     */
+    private static final int CHECK = 64;
+
+    /**
+     * Root directory of the store, empty if the store is disabled.
+     */
+    private final Optional<Path> root;
+
+    /**
+     * Maximum size of the store in bytes.
+     */
+    private final long limit;
+
+    /**
+     * Version of jeo that is a part of each key.
+     */
+    private final String version;
+
+    /**
+     * Number of writes since the store was created.
+     */
+    private final AtomicInteger writes;
+
+    /**
+     * Constructor of a disabled store.
+     */
+    ContentStore() {
+        this("", 0L);
+    }
+
+    /**
+     * Constructor.
+     * @param root Root directory of the store, empty to disable the store.
+     * @param limit Maximum size of the store in bytes.
+     */
+    ContentStore(final String root, final long limit) {
+        this(root, limit, new JeoVersion().toString());
+    }
+
+    /**
+     * Constructor.
+     * @param root Root directory of the store, empty to disable the store.
+     * @param limit Maximum size of the store in bytes.
+     * @param version Version of jeo that is a part of each key.
+     */
+    ContentStore(final String root, final long limit, final String version) {
+        this(
+            Optional.ofNullable(root).filter(dir -> !dir.isEmpty()).map(Paths::get),
+            limit,
+            version
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param root Root directory of the store, empty if the store is disabled.
+     * @param limit Maximum size of the store in bytes.
+     * @param version Version of jeo that is a part of each key.
+     */
+    private ContentStore(final Optional<Path> root, final long limit, final String version) {
+        this.root = root;
+        this.limit = limit;
+        this.version = version;
+        this.writes = new AtomicInteger();
+    }
+
+    /**
+     * Root directory of the store.
+     * @return Root directory or empty string if the store is disabled.
+     */
+    String location() {
+        return this.root.map(Path::toString).orElse("");
+    }
+
+    /**
+     * Maximum size of the store.
+     * @return Bytes.
+     */
+    long capacity() {
+        return this.limit;
+    }
+
+    /**
+     * Is the store enabled?
+     * @return True if it is.
+     */
+    boolean enabled() {
+        return this.root.isPresent();
+    }
+
+    /**
+     * Key of the transformation result.
+     * @param options Transformation name and options.
+     * @param input Transformation input.
+     * @return Key.
+     */
+    String key(final String options, final byte[] input) {
+        try {
+            final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            digest.update(
+                String.format(
+                    "jeo %s, %s%n",
+                    this.version,
+                    options
+                ).getBytes(StandardCharsets.UTF_8)
+            );
+            digest.update(input);
+            return String.format("%064x", new BigInteger(1, digest.digest()));
+        } catch (final NoSuchAlgorithmException exception) {
+            throw new IllegalStateException("SHA-256 is not supported by the JVM", exception);
+        }
+    }
+
+    /**
+     * Find the transformation result.
+     * @param key Key of the result.
+     * @return Result or empty if it's not in the store.
+     */
+    Optional<byte[]> get(final String key) {
+        Optional<byte[]> result = Optional.empty();
+        if (this.root.isPresent()) {
+            final Path entry = this.entry(key);
+            try {
+                result = Optional.of(Files.readAllBytes(entry));
+                Files.setLastModifiedTime(entry, FileTime.fromMillis(System.currentTimeMillis()));
+            } catch (final NoSuchFileException exception) {
+                Logger.debug(this, "The entry '%s' is not in the store", key);
+            } catch (final IOException exception) {
+                Logger.warn(this, "Can't read the entry '%s' from the store: %s", key, exception);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Save the transformation result.
+     * @param key Key of the result.
+     * @param content Result.
+     */
+    void put(final String key, final byte[] content) {
+        if (this.root.isPresent()) {
+            final Path entry = this.entry(key);
+            try {
+                Files.createDirectories(entry.getParent());
+                final Path temp = Files.createTempFile(entry.getParent(), key, ".tmp");
+                Files.write(temp, content);
+                ContentStore.move(temp, entry);
+            } catch (final IOException exception) {
+                Logger.warn(this, "Can't save the entry '%s' to the store: %s", key, exception);
+            }
+            if (this.writes.incrementAndGet() % ContentStore.CHECK == 1) {
+                this.evict();
+            }
+        }
+    }
+
+    /**
+     * Remove least recently used entries if the store is too big.
+     */
+    void evict() {
+        if (this.root.isPresent() && Files.exists(this.root.get())) {
+            try (Stream<Path> walk = Files.walk(this.root.get())) {
+                final List<Entry> entries = walk.filter(Files::isRegularFile)
+                    .map(Entry::new)
+                    .sorted(Comparator.comparingLong(Entry::used).reversed())
+                    .collect(Collectors.toList());
+                long total = 0L;
+                for (final Entry entry : entries) {
+                    total += entry.size();
+                    if (total > this.limit) {
+                        Files.deleteIfExists(entry.path());
+                    }
+                }
+            } catch (final IOException exception) {
+                Logger.warn(this, "Can't remove old entries from the store: %s", exception);
+            }
+        }
+    }
+
+    /**
+     * File of the entry.
+     * @param key Key.
+     * @return File.
+     */
+    private Path entry(final String key) {
+        return this.root.get().resolve(key.substring(0, 2)).resolve(key.substring(2));
+    }
+
+    /**
+     * Move the temporary file to the entry atomically.
+     * @param temp Temporary file.
+     * @param entry Entry.
+     * @throws IOException If fails.
+     */
+    private static void move(final Path temp, final Path entry) throws IOException {
+        try {
+            Files.move(temp, entry, StandardCopyOption.ATOMIC_MOVE);
+        } catch (final AtomicMoveNotSupportedException | FileAlreadyExistsException exception) {
+            Files.move(temp, entry, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Entry of the store with its size and the last usage time.
+     * Entries might be removed by other processes at any moment, so removed
+     * entries are considered empty and unused.
+     * @since 0.6
+     */
+    private static final class Entry {
+
+        /**
+         * File of the entry.
+         */
+        private final Path file;
+
+        /**
+         * Size of the entry.
+         */
+        private final long bytes;
+
+        /**
+         * Last usage time of the entry.
+         */
+        private final long time;
+
+        /**
+         * Constructor.
+         * @param file File of the entry.
+         */
+        Entry(final Path file) {
+            this(file, ContentStore.Entry.size(file), ContentStore.Entry.time(file));
+        }
+
+        /**
+         * Constructor.
+         * @param file File of the entry.
+         * @param bytes Size of the entry.
+         * @param time Last usage time of the entry.
+         */
+        private Entry(final Path file, final long bytes, final long time) {
+            this.file = file;
+            this.bytes = bytes;
+            this.time = time;
+        }
+
+        /**
+         * File of the entry.
+         * @return File.
+         */
+        Path path() {
+            return this.file;
+        }
+
+        /**
+         * Size of the entry.
+         * @return Bytes.
+         */
+        long size() {
+            return this.bytes;
+        }
+
+        /**
+         * Last usage time.
+         * @return Milliseconds.
+         */
+        long used() {
+            return this.time;
+        }
+
+        /**
+         * Size of the file.
+         * @param file File.
+         * @return Bytes or zero if the file was removed.
+         */
+        private static long size(final Path file) {
+            long result;
+            try {
+                result = Files.size(file);
+            } catch (final IOException exception) {
+                result = 0L;
+            }
+            return result;
+        }
+
+        /**
+         * Last modification time of the file.
+         * @param file File.
+         * @return Milliseconds or zero if the file was removed.
+         */
+        private static long time(final Path file) {
+            long result;
+            try {
+                result = Files.getLastModifiedTime(file).toMillis();
+            } catch (final IOException exception) {
+                result = 0L;
+            }
+            return result;
+        }
+    }
+}
@@ -25,14 +25,14 @@ package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
 import java.io.File;
-import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import java.util.Collections;
+import java.util.Optional;
 import org.apache.maven.plugin.AbstractMojo;
-import org.apache.maven.plugin.MojoExecutionException;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
 import org.apache.maven.plugins.annotations.Parameter;
-import org.apache.maven.project.MavenProject;
 import org.eolang.jeo.representation.asm.DisassembleMode;
+import org.eolang.jeo.representation.asm.MethodSelector;
 
 /**
  * Converts bytecode to EO.
@@ -43,17 +43,9 @@ import org.eolang.jeo.representation.asm.DisassembleMode;
  *
  * @since 0.1.0
  */
-@Mojo(name = "disassemble", defaultPhase = LifecyclePhase.PROCESS_CLASSES)
+@Mojo(name = "disassemble", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
 public final class DisassembleMojo extends AbstractMojo {
 
-    /**
-     * Maven project.
-     *
-     * @since 0.2
-     */
-    @Parameter(defaultValue = "${project}", required = true, readonly = true)
-    private MavenProject project;
-
     /**
      * Source directory.
      * Where to take classes from.
@@ -95,9 +87,11 @@ public final class DisassembleMojo extends AbstractMojo {
 
     /**
      * Mode in which to disassemble the bytecode.
-     * Can be either 'plain' or 'debug':
+     * Can be either 'short', 'debug' or 'frameless':
      * - 'short' mode will disassemble the bytecode without any additional information.
      * - 'debug' mode will disassemble the bytecode with additional information like line numbers.
+     * - 'frameless' mode will disassemble the bytecode without stack map frames,
+     *   'assemble' goal will compute them again.
      * Default is 'short'.
      *
      * @since 0.6
@@ -109,29 +103,176 @@ public final class DisassembleMojo extends AbstractMojo {
     )
     private String mode;
 
+    /**
+     * Methods to disassemble into instructions.
+     * Comma-separated list of patterns like '*.process*, !**.toString', where the
+     * part after the last dot matches the method name and the part before it
+     * matches the class name. Other methods are kept in XMIR as opaque blobs and
+     * are written back to bytecode as they are.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.disassemble.methods", defaultValue = "**")
+    private String methods;
+
+    /**
+     * Minimum number of instructions of a method to disassemble it into instructions.
+     * Smaller methods are kept in XMIR as opaque blobs.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.disassemble.methods.instructions", defaultValue = "0")
+    private int instructions;
+
+    /**
+     * Gzip compression level of XMIR files from 1 to 9.
+     * If it's greater than zero, classes are saved to '.xmir.gz' files, which are
+     * compressed by the writer threads while they are written to the disk.
+     * Other goals read both '.xmir' and '.xmir.gz' files.
+     * Zero disables compression.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.disassemble.gzip", defaultValue = "0")
+    private int gzip;
+
+    /**
+     * Shard of the files to process on the current node.
+     * Format is 'i/n', where 'n' is the total number of nodes and 'i' is
+     * the number of the current node starting from 1. By default, all the files
+     * are processed on a single node.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.shard", defaultValue = "1/1")
+    private String shard;
+
+    /**
+     * Filter of the classes to disassemble.
+     * Comma-separated list of Ant-style patterns of class names, like
+     * 'com.acme.engine.**, !**.*Dto'. Patterns with the '!' prefix exclude classes.
+     * Excluded classes are not disassembled at all.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.filter", defaultValue = "**")
+    private String filter;
+
+    /**
+     * Directory where to save shard manifests.
+     * Manifests of all the shards are reconciled by the 'merge' goal.
+     *
+     * @since 0.6
+     */
+    @Parameter(
+        property = "jeo.shard.manifests",
+        defaultValue = "${project.build.directory}/jeo-shards"
+    )
+    private File manifests;
+
+    /**
+     * Number of forked worker JVMs.
+     * If it's greater than zero, files are dispatched in batches to a pool of
+     * forked worker JVMs instead of being processed inside the Maven JVM.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.fork.workers", defaultValue = "0")
+    private int workers;
+
+    /**
+     * Number of files in a single batch sent to a forked worker JVM.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.fork.batch", defaultValue = "16")
+    private int batch;
+
+    /**
+     * JVM options of each forked worker, like heap and stack sizes or GC flags.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.fork.jvm", defaultValue = "-Xmx1g -Xss256m")
+    private String jvm;
+
+    /**
+     * Directory where to save performance metrics of the goal.
+     * Metrics of each goal are saved to the '&lt;goal&gt;.json' file.
+     *
+     * @since 0.6
+     */
+    @Parameter(
+        property = "jeo.metrics",
+        defaultValue = "${project.build.directory}/jeo-metrics"
+    )
+    private File metrics;
+
+    /**
+     * Directory of the content-addressed store of transformation results shared
+     * between projects and worktrees, for example '~/.m2/jeo-cache'.
+     * The store is disabled if the directory is not set.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.cache")
+    private File cache;
+
+    /**
+     * Maximum size of the content-addressed store in megabytes.
+     * Least recently used results are removed when the store grows bigger.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.cache.size", defaultValue = "1024")
+    private long size;
+
+    /**
+     * Time budget of a single file in milliseconds.
+     * If the transformation of a file takes longer, it's interrupted and
+     * the class is not disassembled, so the 'assemble' goal leaves it as it is.
+     * Such files are listed in the summary and in the metrics of the goal.
+     * Zero means no budget.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.budget", defaultValue = "0")
+    private long budget;
+
     @Override
-    public void execute() throws MojoExecutionException {
-        try {
-            new PluginStartup(this.project, this.sourcesDir.toPath()).init();
-            if (this.disabled) {
-                Logger.info(this, "Disassemble mojo is disabled. Skipping.");
-            } else {
-                Logger.info(this, "Disassembling is started with mode '%s'", this.mode);
-                new Disassembler(
-                    this.sourcesDir.toPath(),
-                    this.outputDir.toPath(),
-                    DisassembleMode.fromString(this.mode)
-                ).disassemble();
-            }
-        } catch (final DependencyResolutionRequiredException exception) {
-            throw new MojoExecutionException(
-                String.format(
-                    "Can't transpile bytecode from '%s' to EO. Output directory: '%s'.",
-                    this.sourcesDir.toPath(),
-                    this.outputDir.toPath()
-                ),
-                exception
+    public void execute() {
+        if (this.disabled) {
+            Logger.info(this, "Disassemble mojo is disabled. Skipping.");
+        } else {
+            Logger.info(this, "Disassembling is started with mode '%s'", this.mode);
+            final Metrics measured = new Metrics("disassemble");
+            measured.record(
+                () -> new Scans().within(
+                    () -> new Disassembler(
+                        this.sourcesDir.toPath(),
+                        this.outputDir.toPath(),
+                        new Settings()
+                            .withDisassembling(
+                                DisassembleMode.fromString(this.mode),
+                                new MethodSelector(this.methods, this.instructions),
+                                this.gzip
+                            )
+                            .withShard(new Shard(this.shard), this.manifests.toPath())
+                            .withFilter(new ClassFilter(this.filter))
+                            .withFork(
+                                new Fork(this.workers, this.batch, this.jvm, Collections.emptyList())
+                            )
+                            .withStore(
+                                new ContentStore(
+                                    Optional.ofNullable(this.cache).map(File::toString).orElse(""),
+                                    this.size * 1024 * 1024
+                                )
+                            )
+                            .withBudget(this.budget)
+                    ).disassemble()
+                )
             );
+            measured.save(this.metrics.toPath());
         }
     }
 }
@@ -24,11 +24,11 @@
 package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.stream.Stream;
+import org.eolang.jeo.representation.Gzip;
 import org.eolang.jeo.representation.asm.DisassembleMode;
+import org.eolang.jeo.representation.asm.MethodSelector;
 
 /**
  * This class disassembles the project's compiled classes.
@@ -48,9 +48,9 @@ public class Disassembler {
     private final Path target;
 
     /**
-     * Disassemble mode.
+     * Settings of the goal.
      */
-    private final DisassembleMode mode;
+    private final Settings settings;
 
     /**
      * Constructor.
@@ -75,15 +75,26 @@ public class Disassembler {
         final Path target,
         final DisassembleMode mode
     ) {
+        this(classes, target, new Settings().withDisassembling(mode, new MethodSelector(), 0));
+    }
+
+    /**
+     * Constructor.
+     * @param classes Project compiled classes.
+     * @param target Project default target directory.
+     * @param settings Settings of the goal.
+     */
+    Disassembler(final Path classes, final Path target, final Settings settings) {
         this.classes = classes;
         this.target = target;
-        this.mode = mode;
+        this.settings = settings;
     }
 
     /**
      * Disassemble all bytecode files.
      */
     public void disassemble() {
+        Scans.current().include(this.target);
         final String process = "Disassembling";
         final String disassembled = "disassembled";
         final Stream<Path> stream = new Summary(
@@ -91,23 +102,54 @@ public class Disassembler {
             disassembled,
             this.classes,
             this.target,
-            new ParallelTranslator(this::disassemble)
-        ).apply(new BytecodeClasses(this.classes).all());
+            new Sharded(
+                "disassemble",
+                this.settings.shard(),
+                this.classes,
+                this.target,
+                this.settings.manifests(this.target),
+                new Produced(
+                    this.settings.fork().translator(
+                        this::disassemble,
+                        this.settings.task("disassemble", this.classes, this.target)
+                    )
+                )
+            )
+        ).apply(
+            this.settings.filter().select(this.classes, new BytecodeClasses(this.classes).all())
+        );
         stream.forEach(this::log);
         stream.close();
     }
 
     /**
      * Disassemble a single bytecode file.
+     * If the file exceeds its time budget, its stale XMIR is removed, so the
+     * returned file doesn't exist and it's left out by {@link Produced}.
      * @param path Path to the bytecode file.
      * @return Path to the decompiled file.
      */
-    private Path disassemble(final Path path) {
+    Path disassemble(final Path path) {
         final Transformation trans = new Logging(
             "Disassembling",
             "disassembled",
-            new Caching(
-                new Disassembling(this.target, path, this.mode)
+            new Budgeted(
+                new Caching(
+                    new Disassembling(
+                        this.target,
+                        path,
+                        this.settings.mode(),
+                        this.settings.selector(),
+                        this.settings.gzip() > 0
+                    ),
+                    this.settings.store(),
+                    String.format(
+                        "disassemble %s %s", this.settings.mode(), this.settings.selector()
+                    ),
+                    new Gzip(this.settings.gzip())
+                ),
+                this.settings.budget(),
+                Passthrough.DROP
             )
         );
         trans.transform();
@@ -119,21 +161,11 @@ public class Disassembler {
      * @param disassembled The disassembled file path.
      */
     private void log(final Path disassembled) {
-        try {
-            Logger.debug(
-                this,
-                "Dissembling of '%s' (%[size]s) finished successfully.",
-                disassembled,
-                Files.size(disassembled)
-            );
-        } catch (final IOException exception) {
-            throw new IllegalStateException(
-                String.format(
-                    "Filed to get size of '%s'",
-                    disassembled
-                ),
-                exception
-            );
-        }
+        Logger.debug(
+            this,
+            "Dissembling of '%s' (%[size]s) finished successfully.",
+            disassembled,
+            Scans.current().size(disassembled)
+        );
     }
 }
@@ -23,12 +23,18 @@
  */
 package org.eolang.jeo;
 
+import com.jcabi.xml.XML;
 import java.io.File;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import org.cactoos.bytes.BytesOf;
+import org.cactoos.bytes.UncheckedBytes;
+import org.eolang.jeo.jfr.Flight;
+import org.eolang.jeo.jfr.JeoEvent;
 import org.eolang.jeo.representation.BytecodeRepresentation;
 import org.eolang.jeo.representation.PrefixedName;
 import org.eolang.jeo.representation.asm.DisassembleMode;
+import org.eolang.jeo.representation.asm.MethodSelector;
 
 /**
  * Disassembling transformation.
@@ -51,6 +57,16 @@ public final class Disassembling implements Transformation {
      */
     private final DisassembleMode mode;
 
+    /**
+     * Selector of methods to disassemble into instructions.
+     */
+    private final MethodSelector selector;
+
+    /**
+     * Whether to save the class to the compressed '.xmir.gz' file.
+     */
+    private final boolean gzip;
+
     /**
      * Constructor.
      * @param target Target folder.
@@ -58,9 +74,29 @@ public final class Disassembling implements Transformation {
      * @param mode Disassemble mode.
      */
     Disassembling(final Path target, final Path representation, final DisassembleMode mode) {
+        this(target, representation, mode, new MethodSelector(), false);
+    }
+
+    /**
+     * Constructor.
+     * @param target Target folder.
+     * @param representation Representation to disassemble.
+     * @param mode Disassemble mode.
+     * @param selector Selector of methods to disassemble into instructions.
+     * @param gzip Whether to save the class to the compressed '.xmir.gz' file.
+     */
+    Disassembling(
+        final Path target,
+        final Path representation,
+        final DisassembleMode mode,
+        final MethodSelector selector,
+        final boolean gzip
+    ) {
         this.folder = target;
         this.from = representation;
         this.mode = mode;
+        this.selector = selector;
+        this.gzip = gzip;
     }
 
     @Override
@@ -70,21 +106,35 @@ public final class Disassembling implements Transformation {
 
     @Override
     public Path target() {
+        final String extension;
+        if (this.gzip) {
+            extension = "xmir.gz";
+        } else {
+            extension = "xmir";
+        }
         return this.folder.resolve(
             String.format(
-                "%s.xmir",
+                "%s.%s",
                 new PrefixedName(
                     new BytecodeRepresentation(this.from).name()
-                ).decode().replace('/', File.separatorChar)
+                ).decode().replace('/', File.separatorChar),
+                extension
             )
         );
     }
 
     @Override
     public byte[] transform() {
-        return new BytecodeRepresentation(this.from)
-            .toEO(this.mode)
-            .toString()
-            .getBytes(StandardCharsets.UTF_8);
+        final Flight flight = JeoEvent.DISASSEMBLE.start();
+        final XML xmir = new BytecodeRepresentation(this.from).toEO(this.mode, this.selector);
+        final long start = System.nanoTime();
+        final byte[] result = xmir.toString().getBytes(StandardCharsets.UTF_8);
+        Metrics.current().phase("serialize", start);
+        if (flight.recorded()) {
+            final byte[] clazz = new UncheckedBytes(new BytesOf(this.from)).asBytes();
+            flight.file(this.from).bytecode(clazz).sizes(clazz.length, result.length);
+        }
+        flight.end();
+        return result;
     }
 }
@@ -0,0 +1,108 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Unchecked;
+import org.eolang.jeo.representation.XmirRepresentation;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+import org.xembly.Xembler;
+
+/**
+ * Class in the middle of passes.
+ * It's either a bytecode program or XMIR, and it's converted to the other
+ * form only when the next pass needs it.
+ * @since 0.6
+ */
+final class Draft {
+
+    /**
+     * Listing of classes that are converted to XMIR in memory.
+     * The original listing describes the class before the passes, so it's
+     * not used, and the schema requires a non-empty one.
+     */
+    private static final String LISTING = "Listing is not available between passes";
+
+    /**
+     * Bytecode program of the class.
+     */
+    private final Unchecked<BytecodeProgram> bytecode;
+
+    /**
+     * XMIR of the class.
+     */
+    private final Unchecked<XML> xml;
+
+    /**
+     * Constructor.
+     * @param program Bytecode program of the class.
+     */
+    Draft(final BytecodeProgram program) {
+        this(
+            new Unchecked<>(() -> program),
+            new Unchecked<>(
+                new Sticky<>(() -> new XMLDocument(new Xembler(program.directives(Draft.LISTING)).dom()))
+            )
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param xmir XMIR of the class.
+     */
+    Draft(final XML xmir) {
+        this(
+            new Unchecked<>(new Sticky<>(() -> new XmirRepresentation(xmir).program())),
+            new Unchecked<>(() -> xmir)
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param bytecode Bytecode program of the class.
+     * @param xml XMIR of the class.
+     */
+    private Draft(final Unchecked<BytecodeProgram> bytecode, final Unchecked<XML> xml) {
+        this.bytecode = bytecode;
+        this.xml = xml;
+    }
+
+    /**
+     * Bytecode program of the class.
+     * @return Program.
+     */
+    BytecodeProgram program() {
+        return this.bytecode.value();
+    }
+
+    /**
+     * XMIR of the class.
+     * @return XMIR.
+     */
+    XML xmir() {
+        return this.xml.value();
+    }
+}
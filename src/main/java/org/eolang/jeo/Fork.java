@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Fork settings.
+ * Decides whether files are translated inside the current JVM or dispatched
+ * to a pool of forked worker JVMs.
+ * @since 0.6
+ */
+final class Fork {
+
+    /**
+     * Number of worker JVMs.
+     * Zero means that all the files are translated inside the current JVM.
+     */
+    private final int workers;
+
+    /**
+     * Number of files in a single batch sent to a worker.
+     */
+    private final int batch;
+
+    /**
+     * JVM options of each worker, like '-Xmx1g -Xss256m -XX:+UseParallelGC'.
+     */
+    private final List<String> jvm;
+
+    /**
+     * Folders with classes that workers need to load.
+     */
+    private final Collection<String> folders;
+
+    /**
+     * Class loader of the classes that are translated inside the current JVM.
+     */
+    private final ClassLoader loader;
+
+    /**
+     * Constructor.
+     * All the files are translated inside the current JVM.
+     */
+    Fork() {
+        this(0, 1, "", Collections.emptyList());
+    }
+
+    /**
+     * Constructor.
+     * @param workers Number of worker JVMs, zero disables forking.
+     * @param batch Number of files in a single batch.
+     * @param jvm JVM options of each worker separated by spaces.
+     * @param folders Folders with classes that workers need to load.
+     */
+    Fork(final int workers, final int batch, final String jvm, final Collection<String> folders) {
+        this(workers, batch, jvm, folders, Fork.class.getClassLoader());
+    }
+
+    /**
+     * Constructor.
+     * @param workers Number of worker JVMs, zero disables forking.
+     * @param batch Number of files in a single batch.
+     * @param jvm JVM options of each worker separated by spaces.
+     * @param folders Folders with classes that workers need to load.
+     * @param loader Class loader of the classes translated inside the current JVM.
+     */
+    Fork(
+        final int workers,
+        final int batch,
+        final String jvm,
+        final Collection<String> folders,
+        final ClassLoader loader
+    ) {
+        this(
+            workers,
+            batch,
+            Arrays.stream(jvm.trim().split("\\s+"))
+                .filter(option -> !option.isEmpty())
+                .collect(Collectors.toList()),
+            folders,
+            loader
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param workers Number of worker JVMs, zero disables forking.
+     * @param batch Number of files in a single batch.
+     * @param jvm JVM options of each worker.
+     * @param folders Folders with classes that workers need to load.
+     * @param loader Class loader of the classes translated inside the current JVM.
+     */
+    private Fork(
+        final int workers,
+        final int batch,
+        final List<String> jvm,
+        final Collection<String> folders,
+        final ClassLoader loader
+    ) {
+        if (workers < 0 || batch < 1) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Invalid fork settings: %d workers and batches of %d files",
+                    workers,
+                    batch
+                )
+            );
+        }
+        this.workers = workers;
+        this.batch = batch;
+        this.jvm = jvm;
+        this.folders = folders;
+        this.loader = loader;
+    }
+
+    /**
+     * Class loader of the classes that are translated inside the current JVM.
+     * @return Class loader.
+     */
+    ClassLoader loader() {
+        return this.loader;
+    }
+
+    /**
+     * Translator that applies the translation either locally or in worker JVMs.
+     * @param local Translation to apply inside the current JVM.
+     * @param task Task of the worker JVM: named options of the goal,
+     *  see {@link Settings#task(String, Path, Path)}.
+     * @return Translator.
+     */
+    Translator translator(
+        final Function<? super Path, ? extends Path> local,
+        final Map<String, String> task
+    ) {
+        final Translator result;
+        if (this.workers == 0) {
+            result = new PipelinedTranslator(local, this.loader);
+        } else {
+            result = new ForkedTranslator(
+                () -> new WorkerPool(this.workers, this.jvm, this.folders),
+                this.batch,
+                task
+            );
+        }
+        return result;
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Translator that dispatches batches of files to a pool of forked worker JVMs.
+ * Workers are reused across batches. If a worker crashes, only the files of
+ * the current batch are considered failed, the worker is replaced, and all
+ * the other batches are processed as usual. All the failures are reported
+ * together when all the batches are finished.
+ * @since 0.6
+ */
+final class ForkedTranslator implements Translator {
+
+    /**
+     * Pool of workers.
+     */
+    private final Supplier<WorkerPool> pool;
+
+    /**
+     * Number of files in a single batch.
+     */
+    private final int batch;
+
+    /**
+     * Task of the worker: named options of the goal.
+     */
+    private final Map<String, String> task;
+
+    /**
+     * Constructor.
+     * @param pool Pool of workers.
+     * @param batch Number of files in a single batch.
+     * @param task Task of the worker: named options of the goal.
+     */
+    ForkedTranslator(
+        final Supplier<WorkerPool> pool,
+        final int batch,
+        final Map<String, String> task
+    ) {
+        this.pool = pool;
+        this.batch = batch;
+        this.task = task;
+    }
+
+    @Override
+    public Stream<Path> apply(final Stream<Path> representations) {
+        final List<List<Path>> batches = this.batches(representations);
+        final Collection<Path> translated = new ConcurrentLinkedQueue<>();
+        final Collection<String> failures = new ConcurrentLinkedQueue<>();
+        try (WorkerPool workers = this.pool.get()) {
+            final ExecutorService executor = Executors.newFixedThreadPool(workers.size());
+            try {
+                final List<Future<?>> futures = new ArrayList<>(batches.size());
+                for (final List<Path> files : batches) {
+                    futures.add(
+                        executor.submit(
+                            () -> workers.process(this.task, files, translated, failures)
+                        )
+                    );
+                }
+                for (final Future<?> future : futures) {
+                    future.get();
+                }
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException(
+                    "Translation in worker JVMs was interrupted",
+                    exception
+                );
+            } catch (final ExecutionException exception) {
+                throw new IllegalStateException(
+                    "Translation in worker JVMs failed unexpectedly",
+                    exception
+                );
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+        if (!failures.isEmpty()) {
+            failures.forEach(failure -> Logger.error(this, failure));
+            throw new IllegalStateException(
+                String.format(
+                    "%d files failed to translate in worker JVMs:%n%s",
+                    failures.size(),
+                    String.join(System.lineSeparator(), failures)
+                )
+            );
+        }
+        final Scans scans = Scans.current();
+        translated.forEach(scans::written);
+        return translated.stream();
+    }
+
+    /**
+     * Split files into batches.
+     * @param files All the files.
+     * @return Batches.
+     */
+    private List<List<Path>> batches(final Stream<Path> files) {
+        final List<Path> all = files.collect(Collectors.toList());
+        final List<List<Path>> result = new ArrayList<>(all.size() / this.batch + 1);
+        for (int start = 0; start < all.size(); start += this.batch) {
+            result.add(all.subList(start, Math.min(start + this.batch, all.size())));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,379 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.BufferedReader;
+import java.io.FileDescriptor;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Worker that runs inside a forked JVM.
+ * It reads commands from the standard input and writes results to the standard output.
+ * Each command is a single line where the parts are separated by tabs.
+ * Backslashes, tabs and line breaks inside the parts are escaped, so paths
+ * and messages with any characters don't break the lines, see {@link #encode(List)}:
+ * - 'init' with folders of classes to load, sent once after the start;
+ * - 'task' with named options like 'goal=assemble', see {@link Settings#task},
+ *   and the file to translate as the 'file' option;
+ * - 'end' that finishes the batch of tasks;
+ * - 'exit' that stops the worker.
+ * For each task of the batch the worker answers either with 'ok', the file, and
+ * the path of the translated file or with 'fail', the file, and the reason. When the batch is
+ * finished, the worker answers with 'done'.
+ * Since the standard output is used by the protocol, all the logs go to the standard error.
+ * @since 0.6
+ */
+public final class ForkedWorker {
+
+    /**
+     * Separator of the command parts.
+     */
+    static final String SEPARATOR = "\t";
+
+    /**
+     * Task option with the file to translate.
+     */
+    static final String FILE = "file";
+
+    /**
+     * Task options that are required besides the {@link Settings#OPTIONS}.
+     */
+    private static final List<String> REQUIRED = Arrays.asList(
+        "goal", "input", "output", ForkedWorker.FILE
+    );
+
+    /**
+     * Initialization command.
+     */
+    static final String INIT = "init";
+
+    /**
+     * Task command.
+     */
+    static final String TASK = "task";
+
+    /**
+     * End of the batch command.
+     */
+    static final String END = "end";
+
+    /**
+     * Exit command.
+     */
+    static final String EXIT = "exit";
+
+    /**
+     * Successful result.
+     */
+    static final String OK = "ok";
+
+    /**
+     * Failed result.
+     */
+    static final String FAIL = "fail";
+
+    /**
+     * End of the batch result.
+     */
+    static final String DONE = "done";
+
+    /**
+     * Commands.
+     */
+    private final BufferedReader commands;
+
+    /**
+     * Results.
+     */
+    private final PrintWriter results;
+
+    /**
+     * Translations by the options of their tasks without the file.
+     * All the files of the same goal execution share a single translation.
+     */
+    private final Map<Map<String, String>, Function<Path, Path>> translations;
+
+    /**
+     * Constructor.
+     * @param commands Commands.
+     * @param results Results.
+     */
+    ForkedWorker(final BufferedReader commands, final PrintWriter results) {
+        this.commands = commands;
+        this.results = results;
+        this.translations = new HashMap<>(1);
+    }
+
+    /**
+     * Entry point of the worker JVM.
+     * @param args Command line arguments, not used.
+     * @throws IOException If the protocol streams fail.
+     */
+    public static void main(final String... args) throws IOException {
+        final PrintWriter results = new PrintWriter(
+            new OutputStreamWriter(
+                new FileOutputStream(FileDescriptor.out),
+                StandardCharsets.UTF_8
+            )
+        );
+        System.setOut(System.err);
+        new ForkedWorker(
+            new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8)),
+            results
+        ).run();
+    }
+
+    /**
+     * Process commands until 'exit' or the end of the input.
+     * @throws IOException If the protocol streams fail.
+     */
+    void run() throws IOException {
+        final List<List<String>> batch = new ArrayList<>(0);
+        while (true) {
+            final String line = this.commands.readLine();
+            if (line == null) {
+                break;
+            }
+            final List<String> parts = ForkedWorker.decode(line);
+            final String command = parts.get(0);
+            if (ForkedWorker.EXIT.equals(command)) {
+                break;
+            } else if (ForkedWorker.INIT.equals(command)) {
+                ForkedWorker.init(parts.subList(1, parts.size()));
+            } else if (ForkedWorker.TASK.equals(command)) {
+                batch.add(parts.subList(1, parts.size()));
+            } else if (ForkedWorker.END.equals(command)) {
+                batch.forEach(this::execute);
+                batch.clear();
+                this.results.println(ForkedWorker.DONE);
+                this.results.flush();
+            } else {
+                throw new IllegalStateException(
+                    String.format("Unknown command '%s' received by the worker", line)
+                );
+            }
+        }
+    }
+
+    /**
+     * Encode the parts of a protocol line.
+     * @param parts Parts of the line.
+     * @return Line without line breaks, where the parts are separated by tabs.
+     */
+    static String encode(final List<String> parts) {
+        return parts.stream()
+            .map(
+                part -> part.replace("\\", "\\\\")
+                    .replace("\t", "\\t")
+                    .replace("\n", "\\n")
+                    .replace("\r", "\\r")
+            )
+            .collect(Collectors.joining(ForkedWorker.SEPARATOR));
+    }
+
+    /**
+     * Decode the parts of a protocol line.
+     * @param line Line where the parts are separated by tabs.
+     * @return Parts of the line.
+     */
+    static List<String> decode(final String line) {
+        final List<String> parts = new ArrayList<>(0);
+        final StringBuilder part = new StringBuilder(line.length());
+        int index = 0;
+        while (index < line.length()) {
+            final char chr = line.charAt(index);
+            if (chr == '\t') {
+                parts.add(part.toString());
+                part.setLength(0);
+            } else if (chr == '\\') {
+                if (index + 1 == line.length()) {
+                    throw new IllegalArgumentException(
+                        String.format("The protocol line '%s' ends with a single backslash", line)
+                    );
+                }
+                index += 1;
+                part.append(ForkedWorker.unescaped(line.charAt(index)));
+            } else {
+                part.append(chr);
+            }
+            index += 1;
+        }
+        parts.add(part.toString());
+        return parts;
+    }
+
+    /**
+     * Execute a single task and report the result.
+     * @param task Named options of the task.
+     * @checkstyle IllegalCatchCheck (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void execute(final List<String> task) {
+        String file = task.toString();
+        try {
+            final Map<String, String> options = ForkedWorker.options(task);
+            file = options.remove(ForkedWorker.FILE);
+            final Function<Path, Path> translation = this.translations.computeIfAbsent(
+                options, ForkedWorker::translation
+            );
+            this.results.println(
+                ForkedWorker.encode(
+                    Arrays.asList(
+                        ForkedWorker.OK,
+                        file,
+                        translation.apply(Paths.get(file)).toString()
+                    )
+                )
+            );
+        } catch (final RuntimeException | Error exception) {
+            this.results.println(
+                ForkedWorker.encode(
+                    Arrays.asList(ForkedWorker.FAIL, file, String.valueOf(exception))
+                )
+            );
+        }
+    }
+
+    /**
+     * Named options of the task.
+     * All the required options must be present and unknown options are rejected.
+     * @param task Options like 'goal=assemble'.
+     * @return Options by their names.
+     */
+    private static Map<String, String> options(final List<String> task) {
+        final Map<String, String> options = new TreeMap<>();
+        for (final String option : task) {
+            final int equals = option.indexOf('=');
+            if (equals < 0) {
+                throw new IllegalArgumentException(
+                    String.format("The task option '%s' has no value", option)
+                );
+            }
+            final String name = option.substring(0, equals);
+            if (!ForkedWorker.REQUIRED.contains(name) && !Settings.OPTIONS.contains(name)) {
+                throw new IllegalArgumentException(
+                    String.format("Unknown task option '%s' received by the worker", name)
+                );
+            }
+            if (options.put(name, option.substring(equals + 1)) != null) {
+                throw new IllegalArgumentException(
+                    String.format("The task option '%s' is repeated", name)
+                );
+            }
+        }
+        for (final String name : ForkedWorker.REQUIRED) {
+            if (!options.containsKey(name)) {
+                throw new IllegalArgumentException(
+                    String.format("The task option '%s' is missing in %s", name, task)
+                );
+            }
+        }
+        return options;
+    }
+
+    /**
+     * Translation of the goal.
+     * @param task Named options of the task.
+     * @return Translation.
+     */
+    private static Function<Path, Path> translation(final Map<String, String> task) {
+        final Path input = Paths.get(task.get("input"));
+        final Path output = Paths.get(task.get("output"));
+        final Settings settings = new Settings(task);
+        final Function<Path, Path> result;
+        switch (task.get("goal")) {
+            case "disassemble":
+                result = new Disassembler(input, output, settings)::disassemble;
+                break;
+            case "assemble":
+                result = new Assembler(input, output, settings)::assemble;
+                break;
+            case "unroll-phi":
+                result = new Unroller(input, output, settings)::unroll;
+                break;
+            default:
+                throw new IllegalArgumentException(
+                    String.format("Unknown goal '%s' received by the worker", task.get("goal"))
+                );
+        }
+        return result;
+    }
+
+    /**
+     * Character of an escape sequence.
+     * @param chr Character after the backslash.
+     * @return Unescaped character.
+     */
+    private static char unescaped(final char chr) {
+        final char result;
+        switch (chr) {
+            case 't':
+                result = '\t';
+                break;
+            case 'n':
+                result = '\n';
+                break;
+            case 'r':
+                result = '\r';
+                break;
+            case '\\':
+                result = '\\';
+                break;
+            default:
+                throw new IllegalArgumentException(
+                    String.format("Unknown escape sequence '\\%c' in the protocol line", chr)
+                );
+        }
+        return result;
+    }
+
+    /**
+     * Initialize the class loader of the worker.
+     * The worker JVM serves a single goal execution, so the class loader
+     * is simply set as the context class loader of its thread.
+     * @param folders Folders with classes.
+     */
+    private static void init(final List<String> folders) {
+        if (!folders.isEmpty() && !folders.get(0).isEmpty()) {
+            Thread.currentThread().setContextClassLoader(
+                new PluginStartup(folders.toArray(new String[0])).loader()
+            );
+        }
+    }
+}
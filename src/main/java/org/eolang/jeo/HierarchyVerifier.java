@@ -0,0 +1,176 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.util.List;
+import org.eolang.jeo.representation.DefaultVersion;
+import org.eolang.jeo.representation.bytecode.ClassHierarchy;
+import org.objectweb.asm.Type;
+import org.objectweb.asm.tree.analysis.SimpleVerifier;
+
+/**
+ * Bytecode verifier that answers type questions from class file headers.
+ * {@link SimpleVerifier} loads classes into the JVM to check assignability, which
+ * is slow, runs static initializers, and fails on classes with missing optional
+ * dependencies. This verifier uses {@link ClassHierarchy} instead.
+ * If some class of the hierarchy can't be found, we can't prove that the types
+ * are incompatible, so we consider them compatible.
+ * @since 0.6
+ */
+final class HierarchyVerifier extends SimpleVerifier {
+
+    /**
+     * Root of all the classes.
+     */
+    private static final Type OBJECT = Type.getObjectType("java/lang/Object");
+
+    /**
+     * Class being verified.
+     */
+    private final Type current;
+
+    /**
+     * Super class of the class being verified.
+     */
+    private final Type parent;
+
+    /**
+     * Interfaces of the class being verified.
+     */
+    private final List<Type> interfaces;
+
+    /**
+     * Is the class being verified an interface?
+     */
+    private final boolean iface;
+
+    /**
+     * Class hierarchy.
+     */
+    private final ClassHierarchy hierarchy;
+
+    /**
+     * Constructor.
+     * @param current Class being verified.
+     * @param parent Super class of the class being verified.
+     * @param interfaces Interfaces of the class being verified.
+     * @param iface Is the class being verified an interface?
+     * @param hierarchy Class hierarchy.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    HierarchyVerifier(
+        final Type current,
+        final Type parent,
+        final List<Type> interfaces,
+        final boolean iface,
+        final ClassHierarchy hierarchy
+    ) {
+        super(new DefaultVersion().api(), current, parent, interfaces, iface);
+        this.current = current;
+        this.parent = parent;
+        this.interfaces = interfaces;
+        this.iface = iface;
+        this.hierarchy = hierarchy;
+    }
+
+    @Override
+    protected boolean isInterface(final Type type) {
+        final boolean result;
+        if (type.equals(this.current)) {
+            result = this.iface;
+        } else if (type.getSort() == Type.OBJECT) {
+            result = this.hierarchy.isInterface(type.getInternalName());
+        } else {
+            result = false;
+        }
+        return result;
+    }
+
+    @Override
+    protected Type getSuperClass(final Type type) {
+        final Type result;
+        if (type.equals(this.current)) {
+            result = this.parent;
+        } else if (type.getSort() == Type.OBJECT) {
+            final String name = this.hierarchy.superName(type.getInternalName());
+            if (name == null) {
+                result = null;
+            } else {
+                result = Type.getObjectType(name);
+            }
+        } else {
+            result = HierarchyVerifier.OBJECT;
+        }
+        return result;
+    }
+
+    @Override
+    protected boolean isAssignableFrom(final Type expected, final Type actual) {
+        final boolean result;
+        if (expected.equals(actual) || expected.equals(HierarchyVerifier.OBJECT)) {
+            result = true;
+        } else if (actual.equals(this.current)) {
+            result = this.parent != null && this.isAssignableFrom(expected, this.parent)
+                || this.interfaces.stream().anyMatch(type -> this.isAssignableFrom(expected, type));
+        } else if (actual.getSort() == Type.ARRAY) {
+            result = this.arrayAssignable(expected, actual);
+        } else if (expected.getSort() == Type.OBJECT && actual.getSort() == Type.OBJECT) {
+            result = this.hierarchy.isAssignableFrom(
+                expected.getInternalName(), actual.getInternalName()
+            ) || !this.hierarchy.resolved(actual.getInternalName());
+        } else {
+            result = false;
+        }
+        return result;
+    }
+
+    /**
+     * Can an array be assigned to the expected type?
+     * @param expected Expected type.
+     * @param actual Actual array type.
+     * @return True if it can.
+     */
+    private boolean arrayAssignable(final Type expected, final Type actual) {
+        final boolean result;
+        if (expected.getSort() == Type.ARRAY) {
+            if (expected.getDimensions() > actual.getDimensions()) {
+                result = false;
+            } else {
+                final Type target = expected.getElementType();
+                final Type element = Type.getType(
+                    actual.getDescriptor().substring(expected.getDimensions())
+                );
+                if (target.getSort() == Type.OBJECT) {
+                    result = this.isAssignableFrom(target, element);
+                } else {
+                    result = target.equals(element);
+                }
+            }
+        } else {
+            final String name = expected.getInternalName();
+            result = "java/lang/Cloneable".equals(name) || "java/io/Serializable".equals(name);
+        }
+        return result;
+    }
+}
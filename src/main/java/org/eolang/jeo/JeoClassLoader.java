@@ -23,31 +23,49 @@
  */
 package org.eolang.jeo;
 
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.net.MalformedURLException;
+import java.net.URL;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.Collection;
-import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
-import org.cactoos.bytes.BytesOf;
-import org.cactoos.bytes.UncheckedBytes;
-import org.cactoos.map.MapEntry;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
 
 /**
  * JEO class loader.
- * This classloader reads classes folder, uploads these classes into a memory
- * and then loads them.
- * This happens before any transformations are applied.
- * Preloading allows safe classes validation.
+ * This classloader knows about classes from the classes folders and loads them on demand.
+ * When the first class is requested, it indexes all the folders and remembers
+ * where each class file is placed. It doesn't read the class file bytes until
+ * the class is actually loaded, so creating the loader is cheap and indexing
+ * happens only if verification or frame computation needs it.
+ * Transformations may rewrite the class files while the loader reads them,
+ * but every file is replaced atomically (see {@link org.eolang.jeo.representation.Gzip}),
+ * so the loader reads either the old class or the new one, never a half-written one.
  * Validator loads "old" classes and uses them for the validation of the "newly" generated classes.
  * Moreover, by using {@link JeoClassLoader}, we can guarantee that the classes loaded
  * before any transformations are correct.
  * If we use any other {@link ClassLoader} implementation it leads to flaky tests as
  * <a href="https://github.com/objectionary/jeo-maven-plugin/issues/672">issue 672</a> shows.
+ * The loader is parallel capable: it's shared between all the threads of parallel
+ * assembling and verification, so it locks each class name separately instead of
+ * locking the whole loader.
+ * Class files of the folders and jar files from the classpath are also available
+ * as resources, so {@link org.eolang.jeo.representation.bytecode.ClassHierarchy}
+ * can read class headers without defining the classes. Jar files and indexes of
+ * folders of other modules are taken from the {@link SessionCache}, so modules
+ * of a reactor build don't open and scan them again.
  * @since 0.6
  */
 public final class JeoClassLoader extends ClassLoader {
@@ -57,50 +75,87 @@ public final class JeoClassLoader extends ClassLoader {
      */
     private static final String CLASS = ".class";
 
+    static {
+        ClassLoader.registerAsParallelCapable();
+    }
+
+    /**
+     * Index of classes: class name to the class file.
+     */
+    private final Unchecked<Map<String, Path>> classes;
+
     /**
-     * Classes.
+     * Jar files from the classpath.
      */
-    private final Map<String, byte[]> classes;
+    private final Unchecked<List<Archive>> archives;
 
     /**
-     * Cache.
+     * Classes defined by this class loader.
      */
     private final Map<String, Class<?>> cache;
 
     /**
      * Constructor.
      * @param parent Parent class loader.
-     * @param classes Classes as file paths.
+     * @param classes Classes as file paths: folders and jar files.
      */
     JeoClassLoader(final ClassLoader parent, final Collection<String> classes) {
-        this(parent, JeoClassLoader.prestructor(classes));
+        this(parent, classes, new SessionCache(), path -> true);
+    }
+
+    /**
+     * Constructor.
+     * @param parent Parent class loader.
+     * @param classes Classes as file paths: folders and jar files.
+     * @param session Warm state of the Maven session.
+     * @param own Which folders belong to the module that is being built.
+     */
+    JeoClassLoader(
+        final ClassLoader parent,
+        final Collection<String> classes,
+        final SessionCache session,
+        final Predicate<Path> own
+    ) {
+        this(
+            parent,
+            new Unchecked<>(
+                new Synced<>(new Sticky<>(() -> JeoClassLoader.index(classes, session, own)))
+            ),
+            new Unchecked<>(
+                new Synced<>(new Sticky<>(() -> JeoClassLoader.archives(classes, session)))
+            )
+        );
     }
 
     /**
      * Constructor.
      * @param parent Parent class loader.
-     * @param classes Classes as byte arrays.
+     * @param classes Lazy index of classes.
+     * @param archives Lazy jar files.
      */
-    private JeoClassLoader(final ClassLoader parent, final Map<String, byte[]> classes) {
+    private JeoClassLoader(
+        final ClassLoader parent,
+        final Unchecked<Map<String, Path>> classes,
+        final Unchecked<List<Archive>> archives
+    ) {
         super(parent);
         this.classes = classes;
-        this.cache = new HashMap<>(0);
+        this.archives = archives;
+        this.cache = new ConcurrentHashMap<>(0);
     }
 
     @Override
-    public Class<?> loadClass(final String name) throws ClassNotFoundException {
+    protected Class<?> loadClass(final String name, final boolean resolve)
+        throws ClassNotFoundException {
         try {
-            final Class<?> result;
-            if (this.cache.containsKey(name)) {
-                result = this.cache.get(name);
-            } else if (this.classes.containsKey(name)) {
-                final Class<?> created = this.defineClass(
-                    name, this.classes.get(name), 0, this.classes.get(name).length
-                );
-                this.cache.put(name, created);
-                result = created;
-            } else {
-                result = super.loadClass(name);
+            Class<?> result = this.cache.get(name);
+            if (result == null) {
+                synchronized (this.getClassLoadingLock(name)) {
+                    result = this.cache.get(name);
+                    if (result == null) {
+                        result = this.define(name, resolve);
+                    }
+                }
             }
             return result;
         } catch (final ClassNotFoundException exception) {
@@ -108,69 +163,227 @@ public final class JeoClassLoader extends ClassLoader {
                 String.format(
                     "Class not found: '%s', known classes: '%s'",
                     name,
-                    this.classes.keySet()
+                    this.classes.value().keySet()
                 ), exception
             );
         }
     }
 
+    @Override
+    public InputStream getResourceAsStream(final String name) {
+        InputStream result = null;
+        if (this.getParent() != null) {
+            result = this.getParent().getResourceAsStream(name);
+        }
+        if (result == null) {
+            result = this.local(name).orElse(null);
+        }
+        return result;
+    }
+
+    @Override
+    protected URL findResource(final String name) {
+        URL result = null;
+        final Optional<Path> file = this.file(name);
+        if (file.isPresent()) {
+            result = JeoClassLoader.url(file.get());
+        } else {
+            for (final Archive archive : this.archives.value()) {
+                final Optional<URL> url = archive.url(name);
+                if (url.isPresent()) {
+                    result = url.get();
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
     /**
-     * Construct a map of classes.
-     * @param classes File paths.
-     * @return Map of classes.
+     * Define the class from the index or delegate it to the parent class loader.
+     * Must be called under the class loading lock of the class.
+     * @param name Class name.
+     * @param resolve Whether to resolve the class.
+     * @return Loaded class.
+     * @throws ClassNotFoundException If the class is not found.
      */
-    private static Map<String, byte[]> prestructor(final Collection<String> classes) {
-        return classes.stream()
-            .parallel()
-            .map(Paths::get)
-            .filter(Files::exists)
-            .flatMap(JeoClassLoader::clazzes)
-            .collect(
-                Collectors.toMap(MapEntry::getKey, MapEntry::getValue, (first, second) -> first)
+    private Class<?> define(final String name, final boolean resolve)
+        throws ClassNotFoundException {
+        final Optional<InputStream> local = this.local(
+            String.format("%s%s", name.replace('.', '/'), JeoClassLoader.CLASS)
+        );
+        final Class<?> result;
+        if (local.isPresent()) {
+            final byte[] bytes = JeoClassLoader.read(name, local.get());
+            result = this.defineClass(name, bytes, 0, bytes.length);
+            if (resolve) {
+                this.resolveClass(result);
+            }
+            this.cache.put(name, result);
+        } else {
+            result = super.loadClass(name, resolve);
+        }
+        return result;
+    }
+
+    /**
+     * Resource from the folders or the jar files of this loader.
+     * @param name Resource name, like 'org/eolang/Foo.class'.
+     * @return Stream of the resource or empty if this loader doesn't have it.
+     */
+    private Optional<InputStream> local(final String name) {
+        Optional<InputStream> result = Optional.empty();
+        final Optional<Path> file = this.file(name);
+        if (file.isPresent()) {
+            try {
+                result = Optional.of(Files.newInputStream(file.get()));
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Failed to read the class file '%s'", file.get()),
+                    exception
+                );
+            }
+        } else {
+            for (final Archive archive : this.archives.value()) {
+                result = archive.stream(name);
+                if (result.isPresent()) {
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Class file of the folders.
+     * @param name Resource name, like 'org/eolang/Foo.class'.
+     * @return Class file or empty if it's not a class from the folders.
+     */
+    private Optional<Path> file(final String name) {
+        Optional<Path> result = Optional.empty();
+        if (name.endsWith(JeoClassLoader.CLASS)) {
+            result = Optional.ofNullable(
+                this.classes.value().get(
+                    name.substring(0, name.length() - JeoClassLoader.CLASS.length())
+                        .replace('/', '.')
+                )
             );
+        }
+        return result;
     }
 
     /**
-     * Check if the path is a class.
-     * @param path Path to check.
-     * @return True if the path is a class.
+     * Jar files from the classpath.
+     * @param classes Classes as file paths: folders and jar files.
+     * @param session Warm state of the Maven session.
+     * @return Opened jar files in the order of the classpath.
      */
-    private static boolean isClass(final Path path) {
-        return Files.isRegularFile(path)
-            && path.getFileName().toString().endsWith(JeoClassLoader.CLASS);
+    private static List<Archive> archives(
+        final Collection<String> classes, final SessionCache session
+    ) {
+        return classes.stream()
+            .map(Paths::get)
+            .filter(path -> path.getFileName().toString().endsWith(".jar"))
+            .filter(Files::isRegularFile)
+            .map(session::archive)
+            .collect(Collectors.toList());
     }
 
     /**
-     * Find classes in the root folder.
-     * @param root Root folder.
-     * @return Stream of classes with their names.
+     * Convert a path to URL.
+     * @param path Path.
+     * @return URL.
      */
-    private static Stream<MapEntry<String, byte[]>> clazzes(final Path root) {
+    private static URL url(final Path path) {
         try {
-            return Files.walk(root)
-                .filter(JeoClassLoader::isClass)
-                .map(clazz -> JeoClassLoader.entry(root, clazz));
-        } catch (final IOException exception) {
+            return path.toUri().toURL();
+        } catch (final MalformedURLException exception) {
             throw new IllegalStateException(
-                String.format("Failed to walk through the folder '%s'", root),
+                String.format("Can't convert the path '%s' to URL", path),
                 exception
             );
         }
     }
 
     /**
-     * Create a class entry.
+     * Build an index of classes.
+     * @param classes Folders with classes.
+     * @param session Warm state of the Maven session.
+     * @param own Which folders belong to the module that is being built.
+     * @return Class names with paths to their class files.
+     */
+    private static Map<String, Path> index(
+        final Collection<String> classes,
+        final SessionCache session,
+        final Predicate<Path> own
+    ) {
+        return classes.stream()
+            .parallel()
+            .map(Paths::get)
+            .filter(Files::isDirectory)
+            .flatMap(
+                root -> session.classes(root, own.test(root), JeoClassLoader::clazzes)
+                    .entrySet()
+                    .stream()
+            )
+            .collect(
+                Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue, (first, second) -> first)
+            );
+    }
+
+    /**
+     * Find classes in the root folder.
+     * The folder is taken from the directory scans of the goal, so it's not
+     * walked again if the goal has already scanned it.
+     * @param root Root folder.
+     * @return Class names with their class files.
+     */
+    private static Map<String, Path> clazzes(final Path root) {
+        return Scans.current().files(root)
+            .filter(path -> path.getFileName().toString().endsWith(JeoClassLoader.CLASS))
+            .collect(
+                Collectors.toMap(
+                    clazz -> JeoClassLoader.name(root, clazz),
+                    Path::toAbsolutePath,
+                    (first, second) -> first
+                )
+            );
+    }
+
+    /**
+     * Class name of the class file.
      * @param root Root folder.
      * @param file File of the class.
-     * @return Class entry.
-     */
-    private static MapEntry<String, byte[]> entry(final Path root, final Path file) {
-        return new MapEntry<>(
-            root.relativize(file)
-                .toString()
-                .replace(File.separatorChar, '.')
-                .replace(JeoClassLoader.CLASS, ""),
-            new UncheckedBytes(new BytesOf(file.toAbsolutePath())).asBytes()
-        );
+     * @return Class name.
+     */
+    private static String name(final Path root, final Path file) {
+        return root.relativize(file)
+            .toString()
+            .replace(File.separatorChar, '.')
+            .replace(JeoClassLoader.CLASS, "");
+    }
+
+    /**
+     * Read class file bytes.
+     * @param name Class name.
+     * @param input Stream of the class file.
+     * @return Bytes.
+     */
+    private static byte[] read(final String name, final InputStream input) {
+        try (InputStream stream = input) {
+            final ByteArrayOutputStream result = new ByteArrayOutputStream(4096);
+            final byte[] buffer = new byte[4096];
+            int read = stream.read(buffer);
+            while (read >= 0) {
+                result.write(buffer, 0, read);
+                read = stream.read(buffer);
+            }
+            return result.toByteArray();
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Failed to read the class file of '%s'", name),
+                exception
+            );
+        }
     }
 }
@@ -0,0 +1,222 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.xml.XML;
+import com.yegor256.xsline.Shift;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import org.eolang.jeo.representation.BytecodeRepresentation;
+import org.eolang.jeo.representation.XmirRepresentation;
+import org.eolang.jeo.representation.asm.AsmProgram;
+import org.eolang.jeo.representation.asm.DisassembleMode;
+import org.eolang.jeo.representation.asm.MethodSelector;
+import org.eolang.jeo.representation.bytecode.Bytecode;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+
+/**
+ * Embeddable engine of jeo.
+ * It's for services that transform classes in memory without Maven: it never
+ * touches the filesystem. The engine is thread-safe, so it's built once and
+ * shared by all the threads. Compiled schema, stylesheets and opcode tables are
+ * shared by all the engines, and each thread reuses its own XML parser.
+ * The engine is also the core of the 'optimize' goal.
+ * <pre>
+ * final JeoEngine engine = new JeoEngine();
+ * final List&lt;byte[]&gt; optimized = engine.transformAll(classes);
+ * </pre>
+ * Classes that are assembled are loaded by the class loader of the engine
+ * to compute stack map frames.
+ * @since 0.6
+ */
+public final class JeoEngine {
+
+    /**
+     * Disassemble mode.
+     */
+    private final DisassembleMode mode;
+
+    /**
+     * Selector of methods to disassemble into instructions.
+     */
+    private final MethodSelector selector;
+
+    /**
+     * Class loader of the classes that are assembled.
+     */
+    private final ClassLoader loader;
+
+    /**
+     * Passes applied to each class in {@link #transformAll(Collection)}.
+     */
+    private final Passes passes;
+
+    /**
+     * Constructor.
+     * Classes are transformed back and forth without any passes.
+     */
+    public JeoEngine() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * Constructor.
+     * @param passes Passes applied to XMIR of each class in order.
+     */
+    public JeoEngine(final Collection<? extends Shift> passes) {
+        this(
+            DisassembleMode.SHORT,
+            new MethodSelector(),
+            JeoEngine.class.getClassLoader(),
+            passes
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param mode Disassemble mode.
+     * @param selector Selector of methods to disassemble into instructions.
+     * @param loader Class loader of the classes that are assembled.
+     * @param passes Passes applied to XMIR of each class in order.
+     */
+    public JeoEngine(
+        final DisassembleMode mode,
+        final MethodSelector selector,
+        final ClassLoader loader,
+        final Collection<? extends Shift> passes
+    ) {
+        this(mode, selector, loader, new Passes(passes));
+    }
+
+    /**
+     * Constructor.
+     * @param mode Disassemble mode.
+     * @param selector Selector of methods to disassemble into instructions.
+     * @param loader Class loader of the classes that are assembled.
+     * @param passes Passes applied to each class.
+     */
+    JeoEngine(
+        final DisassembleMode mode,
+        final MethodSelector selector,
+        final ClassLoader loader,
+        final Passes passes
+    ) {
+        this.mode = mode;
+        this.selector = selector;
+        this.loader = loader;
+        this.passes = passes;
+    }
+
+    /**
+     * Disassemble a class to XMIR.
+     * @param bytecode Bytecode of the class.
+     * @param output Stream where to write XMIR, it's not closed.
+     * @throws IOException If the stream can't be written.
+     */
+    public void disassemble(final byte[] bytecode, final OutputStream output)
+        throws IOException {
+        output.write(this.xmir(bytecode).toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Assemble a class from XMIR.
+     * @param xmir Stream with XMIR, it's not closed.
+     * @return Bytecode of the class.
+     */
+    public byte[] assemble(final InputStream xmir) {
+        return this.within(() -> new XmirRepresentation(xmir).toBytecode().bytes());
+    }
+
+    /**
+     * Transform classes.
+     * Each class is disassembled, all the passes are applied to it, and
+     * it is assembled back. Classes are transformed in parallel. XMIR is built
+     * only for passes over XMIR and it's never serialized.
+     * @param classes Bytecode of the classes.
+     * @return Bytecode of the transformed classes in the same order.
+     */
+    public List<byte[]> transformAll(final Collection<byte[]> classes) {
+        return classes.parallelStream().map(this::transform).collect(Collectors.toList());
+    }
+
+    /**
+     * Transform a single class.
+     * @param bytecode Bytecode of the class.
+     * @return Bytecode of the transformed class.
+     */
+    byte[] transform(final byte[] bytecode) {
+        final Metrics metrics = Metrics.current();
+        long start = System.nanoTime();
+        final Draft draft = new Draft(
+            new AsmProgram(bytecode).bytecode(this.mode.asmOptions(), this.selector)
+        );
+        metrics.phase("asm", start);
+        start = System.nanoTime();
+        final BytecodeProgram program = this.passes.apply(draft).program();
+        metrics.phase("passes", start);
+        return this.within(
+            () -> {
+                final long writing = System.nanoTime();
+                final byte[] result = program.bytecode().bytes();
+                metrics.phase("bytecode", writing);
+                return result;
+            }
+        );
+    }
+
+    /**
+     * Disassemble a class.
+     * @param bytecode Bytecode of the class.
+     * @return XMIR.
+     */
+    private XML xmir(final byte[] bytecode) {
+        return new BytecodeRepresentation(new Bytecode(bytecode)).toEO(this.mode, this.selector);
+    }
+
+    /**
+     * Run an action with the class loader of the engine as the context class
+     * loader of the current thread, which is used to compute stack map frames.
+     * The original class loader is restored afterwards.
+     * @param action Action.
+     * @param <T> Type of the result.
+     * @return Result of the action.
+     */
+    private <T> T within(final Supplier<T> action) {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(this.loader);
+        try {
+            return action.get();
+        } finally {
+            thread.setContextClassLoader(original);
+        }
+    }
+}
@@ -24,9 +24,8 @@
 package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
-import java.io.IOException;
-import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
 
 /**
  * Translation that leaves a log message before and after applying the original translation.
@@ -78,25 +77,30 @@ public final class Logging implements Transformation {
     @Override
     public byte[] transform() {
         final byte[] result;
-        this.logStartWithSize(this.source());
-        final long start = System.currentTimeMillis();
+        final long input = Scans.current().size(this.source());
+        this.logStartWithSize(this.source(), input);
+        final Metrics metrics = Metrics.current();
+        final long start = System.nanoTime();
+        metrics.begin();
         result = this.origin.transform();
-        final long time = System.currentTimeMillis() - start;
-        this.logEndWithSize(this.source(), this.target(), time);
+        final long time = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        this.logEndWithSize(this.source(), this.target(), result.length, time);
+        metrics.file(this.source(), start, input, result.length);
         return result;
     }
 
     /**
      * Log the start of the process.
      * @param source Initial path.
+     * @param size Size of the initial file.
      */
-    private void logStartWithSize(final Path source) {
+    private void logStartWithSize(final Path source, final long size) {
         Logger.info(
             this,
             "%s '%[file]s' (%[size]s)",
             this.process,
             source,
-            Logging.size(source)
+            size
         );
     }
 
@@ -104,39 +108,20 @@ public final class Logging implements Transformation {
      * Log the end of the process.
      * @param source Initial path
      * @param after Path after the process
+     * @param size Size of the file after the process
      * @param time Time spent
      */
-    private void logEndWithSize(final Path source, final Path after, final long time) {
+    private void logEndWithSize(
+        final Path source, final Path after, final long size, final long time
+    ) {
         Logger.info(
             this,
             "'%[file]s' %s to '%[file]s' (%[size]s) in %[ms]s",
             source,
             this.participle,
             after,
-            Logging.size(after),
+            size,
             time
         );
     }
-
-    /**
-     * Size of the file.
-     * @param path Path to the file
-     * @return Size of the file
-     */
-    private static long size(final Path path) {
-        try {
-            final long result;
-            if (Files.exists(path)) {
-                result = Files.size(path);
-            } else {
-                result = 0L;
-            }
-            return result;
-        } catch (final IOException exception) {
-            throw new IllegalStateException(
-                String.format("Can't determine size of '%s'", path),
-                exception
-            );
-        }
-    }
 }
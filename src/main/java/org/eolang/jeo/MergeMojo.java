@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+
+/**
+ * Merges manifests of sharded runs.
+ * When 'disassemble', 'assemble' or 'unroll-phi' goals run on several CI nodes
+ * with the 'jeo.shard' parameter, each node writes a manifest of the files it produced.
+ * This mojo reconciles all these manifests into a single one and checks that
+ * the work of all the shards is complete.
+ * @since 0.6
+ */
+@Mojo(name = "merge", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public final class MergeMojo extends AbstractMojo {
+
+    /**
+     * Directory with shard manifests.
+     *
+     * @since 0.6
+     */
+    @Parameter(
+        property = "jeo.shard.manifests",
+        defaultValue = "${project.build.directory}/jeo-shards"
+    )
+    private File manifests;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        try {
+            final int goals = new ShardManifests(this.manifests.toPath()).merge();
+            Logger.info(this, "Shard manifests of %d goals were merged", goals);
+        } catch (final IllegalStateException exception) {
+            throw new MojoExecutionException(
+                String.format("Can't merge shard manifests from '%s'", this.manifests),
+                exception
+            );
+        }
+    }
+}
@@ -0,0 +1,605 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+
+/**
+ * Performance metrics of a goal.
+ * Metrics are attached to the thread that executes the goal, and
+ * {@link ParallelTranslator} and {@link PipelinedTranslator} attach them to all
+ * their worker threads, so any code that runs during the goal can record the time
+ * of its phase by {@link #current()}. If no metrics are attached, nothing is recorded.
+ * Phases recorded by the thread between {@link #begin()} and
+ * {@link #file(Path, long, long, long)} are also attributed to that file, so
+ * the slowest files are reported with the breakdown of their time by phases.
+ * Transformations that run in forked worker JVMs are not measured.
+ * @since 0.6
+ */
+@SuppressWarnings("PMD.TooManyMethods")
+public final class Metrics {
+
+    /**
+     * Metrics attached to the current thread.
+     */
+    private static final ThreadLocal<Metrics> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Metrics that record nothing.
+     */
+    private static final Metrics DISABLED = new Metrics("disabled", false);
+
+    /**
+     * How many slowest files to report.
+     */
+    private static final int SLOWEST = 10;
+
+    /**
+     * Goal name.
+     */
+    private final String goal;
+
+    /**
+     * Are metrics recorded?
+     */
+    private final boolean enabled;
+
+    /**
+     * Durations of phases in nanoseconds.
+     */
+    private final Map<String, Queue<Long>> phases;
+
+    /**
+     * Transformed files.
+     */
+    private final Queue<Timing> files;
+
+    /**
+     * Durations of phases of the file transformed by the current thread in nanoseconds.
+     */
+    private final ThreadLocal<Map<String, Long>> current;
+
+    /**
+     * Busy time of threads in nanoseconds.
+     */
+    private final Map<String, AtomicLong> threads;
+
+    /**
+     * Busy time of threads of pipeline stages in nanoseconds.
+     */
+    private final Map<String, Map<String, AtomicLong>> stages;
+
+    /**
+     * Number of files taken from the cache.
+     */
+    private final AtomicLong hits;
+
+    /**
+     * Number of files that were transformed.
+     */
+    private final AtomicLong misses;
+
+    /**
+     * Number of classes that passed verification before and weren't verified again.
+     */
+    private final AtomicLong passed;
+
+    /**
+     * Number of classes that were verified.
+     */
+    private final AtomicLong verified;
+
+    /**
+     * Files that exceeded their time budget and were passed through unchanged.
+     */
+    private final Queue<Path> overdue;
+
+    /**
+     * Wall-clock time of the goal in nanoseconds.
+     */
+    private final AtomicLong wall;
+
+    /**
+     * Constructor.
+     * @param goal Goal name.
+     */
+    public Metrics(final String goal) {
+        this(goal, true);
+    }
+
+    /**
+     * Constructor.
+     * @param goal Goal name.
+     * @param enabled Are metrics recorded?
+     */
+    private Metrics(final String goal, final boolean enabled) {
+        this.goal = goal;
+        this.enabled = enabled;
+        this.phases = new ConcurrentHashMap<>(0);
+        this.files = new ConcurrentLinkedQueue<>();
+        this.current = new ThreadLocal<>();
+        this.threads = new ConcurrentHashMap<>(0);
+        this.stages = new ConcurrentHashMap<>(0);
+        this.hits = new AtomicLong();
+        this.misses = new AtomicLong();
+        this.passed = new AtomicLong();
+        this.verified = new AtomicLong();
+        this.overdue = new ConcurrentLinkedQueue<>();
+        this.wall = new AtomicLong();
+    }
+
+    /**
+     * Metrics attached to the current thread.
+     * @return Metrics, which record nothing if no metrics are attached.
+     */
+    @SuppressWarnings("PMD.ProhibitPublicStaticMethods")
+    public static Metrics current() {
+        return Optional.ofNullable(Metrics.CURRENT.get()).orElse(Metrics.DISABLED);
+    }
+
+    /**
+     * Record the duration of a phase.
+     * @param name Phase name.
+     * @param start Start of the phase, see {@link System#nanoTime()}.
+     */
+    public void phase(final String name, final long start) {
+        if (this.enabled) {
+            final long nanos = System.nanoTime() - start;
+            this.phases.computeIfAbsent(name, key -> new ConcurrentLinkedQueue<>()).add(nanos);
+            final Map<String, Long> file = this.current.get();
+            if (file != null) {
+                file.merge(name, nanos, Long::sum);
+            }
+        }
+    }
+
+    /**
+     * Run the goal with these metrics attached to the current thread.
+     * @param action Goal.
+     */
+    void record(final Runnable action) {
+        final Metrics previous = this.attach();
+        final long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            this.wall.addAndGet(System.nanoTime() - start);
+            Metrics.detach(previous);
+        }
+    }
+
+    /**
+     * Attach these metrics to the current thread.
+     * @return Metrics that were attached before, or null.
+     */
+    Metrics attach() {
+        final Metrics previous = Metrics.CURRENT.get();
+        Metrics.CURRENT.set(this);
+        return previous;
+    }
+
+    /**
+     * Attach previous metrics back to the current thread.
+     * @param previous Metrics that were attached before, or null.
+     */
+    static void detach(final Metrics previous) {
+        if (previous == null) {
+            Metrics.CURRENT.remove();
+        } else {
+            Metrics.CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Start recording phases of the file transformed by the current thread.
+     * They are attributed to the file recorded next by {@link #file(Path, long, long, long)}.
+     */
+    void begin() {
+        if (this.enabled) {
+            this.current.set(new TreeMap<>());
+        }
+    }
+
+    /**
+     * Record a transformed file.
+     * Phases recorded by the current thread since {@link #begin()} are attributed to it.
+     * @param path Source file.
+     * @param start Start of the transformation, see {@link System#nanoTime()}.
+     * @param input Size of the source file in bytes.
+     * @param output Size of the target file in bytes.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    void file(final Path path, final long start, final long input, final long output) {
+        if (this.enabled) {
+            final Map<String, Long> breakdown = Optional.ofNullable(this.current.get())
+                .orElseGet(Collections::emptyMap);
+            this.current.remove();
+            this.files.add(
+                new Timing(path, System.nanoTime() - start, input, output, breakdown)
+            );
+        }
+    }
+
+    /**
+     * Record that a file was taken from the cache.
+     */
+    void hit() {
+        if (this.enabled) {
+            this.hits.incrementAndGet();
+        }
+    }
+
+    /**
+     * Record that a file was transformed, since it wasn't found in the cache.
+     */
+    void miss() {
+        if (this.enabled) {
+            this.misses.incrementAndGet();
+        }
+    }
+
+    /**
+     * Record that a class was checked by the bytecode verification.
+     * @param cached Did the class pass verification before, so it wasn't verified again?
+     */
+    void checked(final boolean cached) {
+        if (this.enabled) {
+            if (cached) {
+                this.passed.incrementAndGet();
+            } else {
+                this.verified.incrementAndGet();
+            }
+        }
+    }
+
+    /**
+     * Record that a file exceeded its time budget and was passed through unchanged.
+     * @param path Source file.
+     */
+    void overdue(final Path path) {
+        if (this.enabled) {
+            this.overdue.add(path);
+        }
+    }
+
+    /**
+     * Files that exceeded their time budget.
+     * @return Source files.
+     */
+    Collection<Path> overdue() {
+        return Collections.unmodifiableCollection(this.overdue);
+    }
+
+    /**
+     * Record the time the current thread was busy.
+     * @param start Start of the work, see {@link System#nanoTime()}.
+     */
+    void busy(final long start) {
+        if (this.enabled) {
+            this.threads.computeIfAbsent(
+                Thread.currentThread().getName(), key -> new AtomicLong()
+            ).addAndGet(System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * Record the time the current thread was busy in the pipeline stage.
+     * @param stage Stage name.
+     * @param start Start of the work, see {@link System#nanoTime()}.
+     */
+    void busy(final String stage, final long start) {
+        if (this.enabled) {
+            final long nanos = System.nanoTime() - start;
+            final String name = Thread.currentThread().getName();
+            this.threads.computeIfAbsent(name, key -> new AtomicLong()).addAndGet(nanos);
+            this.stages.computeIfAbsent(stage, key -> new ConcurrentHashMap<>(0))
+                .computeIfAbsent(name, key -> new AtomicLong())
+                .addAndGet(nanos);
+        }
+    }
+
+    /**
+     * Save the report to the '&lt;goal&gt;.json' file.
+     * @param dir Directory where to save the report.
+     */
+    void save(final Path dir) {
+        final Path report = dir.resolve(String.format("%s.json", this.goal));
+        try {
+            Files.createDirectories(dir);
+            Files.write(report, this.json().getBytes(StandardCharsets.UTF_8));
+            Logger.info(this, "Metrics of the '%s' goal saved to '%[file]s'", this.goal, report);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't save metrics to '%s'", report),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Report in JSON format.
+     * @return JSON.
+     */
+    String json() {
+        final long busy = this.threads.values().stream().mapToLong(AtomicLong::get).sum();
+        final long available = this.wall.get() * Math.max(1, this.threads.size());
+        return String.join(
+            System.lineSeparator(),
+            "{",
+            String.format("  \"goal\": %s,", Metrics.quoted(this.goal)),
+            String.format("  \"wall_ms\": %s,", Metrics.millis(this.wall.get())),
+            String.format("  \"files\": %d,", this.files.size()),
+            String.format(
+                "  \"bytes\": {\"in\": %d, \"out\": %d},",
+                this.files.stream().mapToLong(Timing::input).sum(),
+                this.files.stream().mapToLong(Timing::output).sum()
+            ),
+            String.format(
+                "  \"cache\": {\"hits\": %d, \"misses\": %d},",
+                this.hits.get(),
+                this.misses.get()
+            ),
+            String.format(
+                "  \"verification\": {\"hits\": %d, \"misses\": %d},",
+                this.passed.get(),
+                this.verified.get()
+            ),
+            String.format(
+                "  \"overdue\": [%s],",
+                this.overdue.stream()
+                    .map(Path::toString)
+                    .sorted()
+                    .map(Metrics::quoted)
+                    .collect(Collectors.joining(", "))
+            ),
+            String.format(
+                "  \"threads\": {\"count\": %d, \"busy_ms\": %s, \"utilisation\": %s, \"busy\": {%s}},",
+                this.threads.size(),
+                Metrics.millis(busy),
+                String.format(Locale.ENGLISH, "%.3f", (double) busy / Math.max(1L, available)),
+                new TreeMap<>(this.threads).entrySet().stream()
+                    .map(
+                        entry -> String.format(
+                            "%s: %s",
+                            Metrics.quoted(entry.getKey()),
+                            Metrics.millis(entry.getValue().get())
+                        )
+                    )
+                    .collect(Collectors.joining(", "))
+            ),
+            "  \"stages\": {",
+            new TreeMap<>(this.stages).entrySet().stream()
+                .map(entry -> this.stage(entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining(String.format(",%n"))),
+            "  },",
+            "  \"phases\": {",
+            new TreeMap<>(this.phases).entrySet().stream()
+                .map(entry -> Metrics.phase(entry.getKey(), entry.getValue()))
+                .collect(Collectors.joining(String.format(",%n"))),
+            "  },",
+            "  \"slowest\": [",
+            this.files.stream()
+                .sorted(Comparator.comparingLong(Timing::nanos).reversed())
+                .limit(Metrics.SLOWEST)
+                .map(Timing::json)
+                .collect(Collectors.joining(String.format(",%n"))),
+            "  ]",
+            "}"
+        );
+    }
+
+    /**
+     * Pipeline stage utilisation in JSON format.
+     * @param name Stage name.
+     * @param busy Busy time of the stage threads in nanoseconds.
+     * @return JSON.
+     */
+    private String stage(final String name, final Map<String, AtomicLong> busy) {
+        final long total = busy.values().stream().mapToLong(AtomicLong::get).sum();
+        return String.format(
+            "    %s: {\"threads\": %d, \"busy_ms\": %s, \"utilisation\": %s}",
+            Metrics.quoted(name),
+            busy.size(),
+            Metrics.millis(total),
+            String.format(
+                Locale.ENGLISH,
+                "%.3f",
+                (double) total / Math.max(1L, this.wall.get() * busy.size())
+            )
+        );
+    }
+
+    /**
+     * Phase statistics in JSON format.
+     * @param name Phase name.
+     * @param durations Durations in nanoseconds.
+     * @return JSON.
+     */
+    private static String phase(final String name, final Collection<Long> durations) {
+        final List<Long> sorted = new ArrayList<>(durations);
+        sorted.sort(Comparator.naturalOrder());
+        return String.format(
+            "    %s: {\"count\": %d, \"total_ms\": %s, \"p50_ms\": %s, \"p90_ms\": %s, \"p99_ms\": %s, \"max_ms\": %s}",
+            Metrics.quoted(name),
+            sorted.size(),
+            Metrics.millis(sorted.stream().mapToLong(Long::longValue).sum()),
+            Metrics.millis(Metrics.percentile(sorted, 50)),
+            Metrics.millis(Metrics.percentile(sorted, 90)),
+            Metrics.millis(Metrics.percentile(sorted, 99)),
+            Metrics.millis(sorted.get(sorted.size() - 1))
+        );
+    }
+
+    /**
+     * Percentile of sorted values.
+     * @param sorted Sorted values, not empty.
+     * @param percent Percentile.
+     * @return Value.
+     */
+    private static long percentile(final List<Long> sorted, final int percent) {
+        final int index = (int) Math.ceil(percent / 100.0 * sorted.size()) - 1;
+        return sorted.get(Math.max(0, index));
+    }
+
+    /**
+     * Nanoseconds as milliseconds.
+     * @param nanos Nanoseconds.
+     * @return Milliseconds with fraction.
+     */
+    private static String millis(final long nanos) {
+        return String.format(
+            Locale.ENGLISH, "%.3f", (double) nanos / TimeUnit.MILLISECONDS.toNanos(1)
+        );
+    }
+
+    /**
+     * JSON string.
+     * @param text Text.
+     * @return Quoted and escaped text.
+     */
+    private static String quoted(final String text) {
+        return String.format("\"%s\"", text.replace("\\", "\\\\").replace("\"", "\\\""));
+    }
+
+    /**
+     * Timing of a transformed file.
+     * @since 0.6
+     */
+    private static final class Timing {
+
+        /**
+         * Source file.
+         */
+        private final Path path;
+
+        /**
+         * Duration of the transformation in nanoseconds.
+         */
+        private final long time;
+
+        /**
+         * Size of the source file in bytes.
+         */
+        private final long before;
+
+        /**
+         * Size of the target file in bytes.
+         */
+        private final long after;
+
+        /**
+         * Durations of the phases of the transformation in nanoseconds.
+         */
+        private final Map<String, Long> breakdown;
+
+        /**
+         * Constructor.
+         * @param path Source file.
+         * @param time Duration of the transformation in nanoseconds.
+         * @param before Size of the source file in bytes.
+         * @param after Size of the target file in bytes.
+         * @param breakdown Durations of the phases of the transformation in nanoseconds.
+         * @checkstyle ParameterNumberCheck (10 lines)
+         */
+        Timing(
+            final Path path,
+            final long time,
+            final long before,
+            final long after,
+            final Map<String, Long> breakdown
+        ) {
+            this.path = path;
+            this.time = time;
+            this.before = before;
+            this.after = after;
+            this.breakdown = breakdown;
+        }
+
+        /**
+         * Duration of the transformation.
+         * @return Nanoseconds.
+         */
+        long nanos() {
+            return this.time;
+        }
+
+        /**
+         * Size of the source file.
+         * @return Bytes.
+         */
+        long input() {
+            return this.before;
+        }
+
+        /**
+         * Size of the target file.
+         * @return Bytes.
+         */
+        long output() {
+            return this.after;
+        }
+
+        /**
+         * File in JSON format.
+         * @return JSON.
+         */
+        String json() {
+            return String.format(
+                "    {\"file\": %s, \"ms\": %s, \"in\": %d, \"out\": %d, \"phases\": {%s}}",
+                Metrics.quoted(this.path.toString()),
+                Metrics.millis(this.time),
+                this.before,
+                this.after,
+                new TreeMap<>(this.breakdown).entrySet().stream()
+                    .map(
+                        entry -> String.format(
+                            "%s: %s",
+                            Metrics.quoted(entry.getKey()),
+                            Metrics.millis(entry.getValue())
+                        )
+                    )
+                    .collect(Collectors.joining(", "))
+            );
+        }
+    }
+}
@@ -0,0 +1,223 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.LifecyclePhase;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+import org.eolang.jeo.representation.asm.DisassembleMode;
+import org.eolang.jeo.representation.asm.MethodSelector;
+
+/**
+ * Optimizes bytecode by passes that run inside the Maven JVM.
+ * Each class is disassembled, goes through the passes and is assembled back
+ * entirely in memory, without XMIR files on the disk. It's a faster
+ * replacement of the 'disassemble', 'assemble' pair of goals for passes that
+ * are implemented in Java or XSL.
+ *
+ * @since 0.6
+ */
+@Mojo(name = "optimize", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
+public final class OptimizeMojo extends AbstractMojo {
+
+    /**
+     * Maven project.
+     *
+     * @since 0.6
+     */
+    @Parameter(defaultValue = "${project}", required = true, readonly = true)
+    private MavenProject project;
+
+    /**
+     * Maven session.
+     * Warm state, like opened jar files and indexes of folders of other modules,
+     * is shared by all the executions of the session.
+     *
+     * @since 0.6
+     */
+    @Parameter(defaultValue = "${session}", required = true, readonly = true)
+    private MavenSession session;
+
+    /**
+     * Source directory.
+     * Where to take classes from.
+     *
+     * @since 0.6
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.optimize.sourcesDir",
+        defaultValue = "${project.build.outputDirectory}"
+    )
+    private File sourcesDir;
+
+    /**
+     * Target directory.
+     * Where to save optimized classes. By default, classes are optimized in place.
+     *
+     * @since 0.6
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.optimize.outputDir",
+        defaultValue = "${project.build.outputDirectory}"
+    )
+    private File outputDir;
+
+    /**
+     * Passes to apply to each class in order.
+     * Comma-separated list, where each pass is either a path to an '.xsl'
+     * stylesheet over XMIR relative to the project directory, or a name of a
+     * Java class from the project classpath that implements either
+     * {@link ProgramPass} over the bytecode program or
+     * {@link com.yegor256.xsline.Shift} over XMIR, like
+     * 'src/main/xsl/inline.xsl, com.acme.FoldConstants'.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.optimize.passes", defaultValue = "")
+    private String passes;
+
+    /**
+     * Directory where to save XMIR of each class after each pass.
+     * It's only for debugging of passes, XMIR is not saved if it's not set.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.optimize.dump")
+    private File dump;
+
+    /**
+     * Mode in which to disassemble the bytecode.
+     * Can be either 'short', 'debug' or 'frameless', see the 'disassemble' goal.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.disassemble.mode", defaultValue = "short")
+    private String mode;
+
+    /**
+     * Methods to disassemble into instructions.
+     * Other methods are kept as opaque blobs, see the 'disassemble' goal.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.disassemble.methods", defaultValue = "**")
+    private String methods;
+
+    /**
+     * Minimum number of instructions of a method to disassemble it into instructions.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.disassemble.methods.instructions", defaultValue = "0")
+    private int instructions;
+
+    /**
+     * Filter of the classes to optimize.
+     * Comma-separated list of Ant-style patterns of class names, like
+     * 'com.acme.engine.**, !**.*Dto'. Patterns with the '!' prefix exclude classes.
+     * Excluded classes are left as they are.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.filter", defaultValue = "**")
+    private String filter;
+
+    /**
+     * Directory where to save performance metrics of the goal.
+     * Metrics of each goal are saved to the '&lt;goal&gt;.json' file.
+     *
+     * @since 0.6
+     */
+    @Parameter(
+        property = "jeo.metrics",
+        defaultValue = "${project.build.directory}/jeo-metrics"
+    )
+    private File metrics;
+
+    /**
+     * Time budget of a single file in milliseconds.
+     * If the optimization of a file takes longer, it's interrupted and
+     * the original class is saved as it is.
+     * Zero means no budget.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.budget", defaultValue = "0")
+    private long budget;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        try {
+            final ClassLoader loader = new PluginStartup(
+                this.project, SessionCache.of(this.session), this.outputDir.toPath()
+            ).loader();
+            final Passes declared = new Passes(
+                this.passes, this.project.getBasedir().toPath(), loader
+            );
+            final Passes all = Optional.ofNullable(this.dump)
+                .map(dir -> declared.dumping(dir.toPath()))
+                .orElse(declared);
+            Logger.info(this, "Optimizing classes by the passes: %s", all);
+            final JeoEngine engine = new JeoEngine(
+                DisassembleMode.fromString(this.mode),
+                new MethodSelector(this.methods, this.instructions),
+                loader,
+                all
+            );
+            final AtomicLong count = new AtomicLong();
+            final Metrics measured = new Metrics("optimize");
+            try {
+                measured.record(
+                    () -> new Scans().within(
+                        () -> count.set(
+                            new Optimizer(
+                                this.sourcesDir.toPath(),
+                                this.outputDir.toPath(),
+                                new ClassFilter(this.filter),
+                                engine,
+                                this.budget
+                            ).optimize()
+                        )
+                    )
+                );
+            } finally {
+                measured.save(this.metrics.toPath());
+            }
+            Logger.info(this, "Total %d classes were optimized", count.get());
+        } catch (final DependencyResolutionRequiredException exception) {
+            throw new MojoExecutionException(exception);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Optimizer of all the classes of a project.
+ * Classes flow from bytecode through the passes back to bytecode entirely in
+ * memory and in parallel, see {@link JeoEngine}. Unlike the other goals,
+ * it doesn't skip classes that are not changed since the last run, because
+ * the result depends on the passes as well.
+ * @since 0.6
+ */
+final class Optimizer {
+
+    /**
+     * Project compiled classes.
+     */
+    private final Path classes;
+
+    /**
+     * Where to save optimized classes.
+     */
+    private final Path target;
+
+    /**
+     * Filter of the classes to optimize.
+     */
+    private final ClassFilter filter;
+
+    /**
+     * Engine with passes.
+     */
+    private final JeoEngine engine;
+
+    /**
+     * Time budget of a single file in milliseconds, zero means no budget.
+     */
+    private final long budget;
+
+    /**
+     * Constructor.
+     * @param classes Project compiled classes.
+     * @param target Where to save optimized classes.
+     * @param engine Engine with passes.
+     */
+    Optimizer(final Path classes, final Path target, final JeoEngine engine) {
+        this(classes, target, new ClassFilter(), engine, 0L);
+    }
+
+    /**
+     * Constructor.
+     * @param classes Project compiled classes.
+     * @param target Where to save optimized classes.
+     * @param filter Filter of the classes to optimize.
+     * @param engine Engine with passes.
+     * @param budget Time budget of a single file in milliseconds, zero means no budget.
+     */
+    Optimizer(
+        final Path classes,
+        final Path target,
+        final ClassFilter filter,
+        final JeoEngine engine,
+        final long budget
+    ) {
+        this.classes = classes;
+        this.target = target;
+        this.filter = filter;
+        this.engine = engine;
+        this.budget = budget;
+    }
+
+    /**
+     * Optimize all the classes.
+     * @return Number of optimized classes.
+     */
+    long optimize() {
+        Scans.current().include(this.target);
+        final Stream<Path> stream = new Summary(
+            "Optimizing",
+            "optimized",
+            this.classes,
+            this.target,
+            new PipelinedTranslator(this::optimize)
+        ).apply(this.filter.select(this.classes, new BytecodeClasses(this.classes).all()));
+        final long count = stream.count();
+        stream.close();
+        return count;
+    }
+
+    /**
+     * Optimize a single class.
+     * @param path Path to the class file.
+     * @return Path to the optimized class file.
+     */
+    private Path optimize(final Path path) {
+        final Transformation trans = new Logging(
+            "Optimizing",
+            "optimized",
+            new Budgeted(
+                new Optimizing(
+                    path,
+                    this.target.resolve(this.classes.relativize(path)),
+                    this.engine
+                ),
+                this.budget,
+                Passthrough.COPY
+            )
+        );
+        try {
+            Writes.write(trans.target(), trans.transform());
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't save the optimized class to '%s'", trans.target()),
+                exception
+            );
+        }
+        return trans.target();
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import org.eolang.jeo.representation.Gzip;
+
+/**
+ * Optimization of a single class file in memory.
+ * The class goes through all the passes of the engine without writing XMIR.
+ * @since 0.6
+ */
+final class Optimizing implements Transformation {
+
+    /**
+     * Class file.
+     */
+    private final Path from;
+
+    /**
+     * Where to save the optimized class.
+     */
+    private final Path to;
+
+    /**
+     * Engine with passes.
+     */
+    private final JeoEngine engine;
+
+    /**
+     * Constructor.
+     * @param from Class file.
+     * @param to Where to save the optimized class.
+     * @param engine Engine with passes.
+     */
+    Optimizing(final Path from, final Path to, final JeoEngine engine) {
+        this.from = from;
+        this.to = to;
+        this.engine = engine;
+    }
+
+    @Override
+    public Path source() {
+        return this.from;
+    }
+
+    @Override
+    public Path target() {
+        return this.to;
+    }
+
+    @Override
+    public byte[] transform() {
+        final byte[] clazz;
+        final long start = System.nanoTime();
+        try {
+            clazz = Gzip.read(this.from);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read the class file '%s'", this.from),
+                exception
+            );
+        }
+        Metrics.current().phase("read", start);
+        return this.engine.transform(clazz);
+    }
+}
@@ -39,7 +39,7 @@ public final class ParallelTranslator implements Translator {
     private final Function<? super Path, ? extends Path> translation;
 
     /**
-     * Class loader.
+     * Context class loader of the translation threads.
      */
     private final ClassLoader loader;
 
@@ -48,26 +48,57 @@ public final class ParallelTranslator implements Translator {
      * @param translation Original translation.
      */
     ParallelTranslator(final Function<? super Path, ? extends Path> translation) {
+        this(translation, ParallelTranslator.class.getClassLoader());
+    }
+
+    /**
+     * Constructor.
+     * @param translation Original translation.
+     * @param loader Context class loader of the translation threads.
+     */
+    ParallelTranslator(
+        final Function<? super Path, ? extends Path> translation,
+        final ClassLoader loader
+    ) {
         this.translation = translation;
-        this.loader = Thread.currentThread().getContextClassLoader();
+        this.loader = loader;
     }
 
     @Override
     public Stream<Path> apply(final Stream<Path> representations) {
-        return representations.parallel().map(this::translate);
+        final Metrics metrics = Metrics.current();
+        final Scans scans = Scans.current();
+        return representations.parallel().map(rep -> this.translate(rep, metrics, scans));
     }
 
     /**
      * Translate a representation.
      * This method is run in parallel.
      * Pay attention to the class loader;
-     * It's set for each sub-thread to avoid class loading issues.
+     * It's set for each sub-thread to avoid class loading issues and restored
+     * afterwards, since the threads of the common pool are shared with other
+     * modules built concurrently.
+     * Metrics and scans of the calling thread are attached to each sub-thread as well.
      * @param rep Representation to translate.
+     * @param metrics Metrics of the calling thread.
+     * @param scans Directory scans of the calling thread.
      * @return Translated representation.
      */
-    private Path translate(final Path rep) {
-        Thread.currentThread().setContextClassLoader(this.loader);
-        return this.translation.apply(rep);
+    private Path translate(final Path rep, final Metrics metrics, final Scans scans) {
+        final Thread thread = Thread.currentThread();
+        final ClassLoader original = thread.getContextClassLoader();
+        thread.setContextClassLoader(this.loader);
+        final Metrics previous = metrics.attach();
+        final Scans before = scans.attach();
+        final long start = System.nanoTime();
+        try {
+            return this.translation.apply(rep);
+        } finally {
+            metrics.busy(start);
+            Scans.detach(before);
+            Metrics.detach(previous);
+            thread.setContextClassLoader(original);
+        }
     }
 
 }
@@ -0,0 +1,282 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.yegor256.xsline.Shift;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.net.MalformedURLException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import java.util.stream.Collectors;
+import org.eolang.jeo.representation.CompiledShift;
+import org.eolang.jeo.representation.PrefixedName;
+import org.eolang.jeo.representation.XmirRepresentation;
+
+/**
+ * Ordered passes applied to each class in memory.
+ * A pass is either an XSL stylesheet over XMIR, or a Java class that implements
+ * {@link Shift} over XMIR or {@link ProgramPass} over the bytecode program.
+ * The class is converted between XMIR and the bytecode program only when
+ * the next pass needs the other form, see {@link Draft}.
+ * @since 0.6
+ */
+final class Passes {
+
+    /**
+     * Passes by their unique names, in order.
+     */
+    private final Map<String, UnaryOperator<Draft>> all;
+
+    /**
+     * Constructor.
+     * No passes at all.
+     */
+    Passes() {
+        this(Collections.emptyList());
+    }
+
+    /**
+     * Constructor.
+     * @param shifts Passes over XMIR in order.
+     */
+    Passes(final Collection<? extends Shift> shifts) {
+        this(Passes.shifts(shifts));
+    }
+
+    /**
+     * Constructor.
+     * @param spec Comma-separated list of passes, where each pass is either a path
+     *  to an '.xsl' file or a name of a Java class, like 'inline.xsl, com.acme.Fold'.
+     * @param base Directory that paths of stylesheets are relative to.
+     * @param loader Class loader of Java passes.
+     */
+    Passes(final String spec, final Path base, final ClassLoader loader) {
+        this(Passes.parsed(spec, base, loader));
+    }
+
+    /**
+     * Constructor.
+     * @param all Passes by their unique names, in order.
+     */
+    private Passes(final Map<String, UnaryOperator<Draft>> all) {
+        this.all = Collections.unmodifiableMap(all);
+    }
+
+    /**
+     * Apply all the passes to a class.
+     * @param draft Class.
+     * @return Transformed class.
+     */
+    Draft apply(final Draft draft) {
+        Draft result = draft;
+        for (final UnaryOperator<Draft> pass : this.all.values()) {
+            result = pass.apply(result);
+        }
+        return result;
+    }
+
+    /**
+     * Passes that also save XMIR after each pass for debugging.
+     * XMIR of a class after the pass is saved to the '&lt;pass&gt;/&lt;class&gt;.xmir'
+     * file, where the name of the pass is prefixed by its position, like
+     * '01-inline/org/eolang/Foo.xmir'.
+     * @param dir Directory where to save XMIR.
+     * @return Passes.
+     */
+    Passes dumping(final Path dir) {
+        final Map<String, UnaryOperator<Draft>> dumped = new LinkedHashMap<>(0);
+        for (final Map.Entry<String, UnaryOperator<Draft>> pass : this.all.entrySet()) {
+            final Path folder = dir.resolve(pass.getKey());
+            dumped.put(
+                pass.getKey(),
+                draft -> Passes.dump(folder, pass.getValue().apply(draft))
+            );
+        }
+        return new Passes(dumped);
+    }
+
+    @Override
+    public String toString() {
+        return String.join(", ", this.all.keySet());
+    }
+
+    /**
+     * Passes over XMIR.
+     * @param shifts Shifts in order.
+     * @return Passes by their unique names.
+     */
+    private static Map<String, UnaryOperator<Draft>> shifts(
+        final Collection<? extends Shift> shifts
+    ) {
+        final Map<String, UnaryOperator<Draft>> result = new LinkedHashMap<>(0);
+        for (final Shift shift : shifts) {
+            Passes.add(result, shift.uid(), Passes.xmir(shift, result.size()));
+        }
+        return result;
+    }
+
+    /**
+     * Parse passes.
+     * @param spec Comma-separated list of passes.
+     * @param base Directory that paths of stylesheets are relative to.
+     * @param loader Class loader of Java passes.
+     * @return Passes by their unique names.
+     */
+    private static Map<String, UnaryOperator<Draft>> parsed(
+        final String spec, final Path base, final ClassLoader loader
+    ) {
+        final Map<String, UnaryOperator<Draft>> result = new LinkedHashMap<>(0);
+        final Iterable<String> items = Arrays.stream(spec.split(","))
+            .map(String::trim)
+            .filter(item -> !item.isEmpty())
+            .collect(Collectors.toList());
+        for (final String item : items) {
+            if (item.endsWith(".xsl")) {
+                final Shift shift = Passes.stylesheet(base.resolve(item));
+                Passes.add(result, shift.uid(), Passes.xmir(shift, result.size()));
+            } else {
+                final Object pass = Passes.instance(item, loader);
+                final String name = pass.getClass().getSimpleName();
+                if (pass instanceof ProgramPass) {
+                    final ProgramPass program = (ProgramPass) pass;
+                    Passes.add(result, name, draft -> new Draft(program.apply(draft.program())));
+                } else if (pass instanceof Shift) {
+                    Passes.add(result, name, Passes.xmir((Shift) pass, result.size()));
+                } else {
+                    throw new IllegalArgumentException(
+                        String.format(
+                            "Pass '%s' implements neither '%s' nor '%s'",
+                            item,
+                            ProgramPass.class.getName(),
+                            Shift.class.getName()
+                        )
+                    );
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Add a pass with a unique name prefixed by its position.
+     * @param passes Passes.
+     * @param name Name of the pass.
+     * @param pass Pass.
+     */
+    private static void add(
+        final Map<String, UnaryOperator<Draft>> passes,
+        final String name,
+        final UnaryOperator<Draft> pass
+    ) {
+        passes.put(String.format("%02d-%s", passes.size() + 1, name), pass);
+    }
+
+    /**
+     * Pass over XMIR.
+     * @param shift Shift.
+     * @param position Position of the pass.
+     * @return Pass.
+     */
+    private static UnaryOperator<Draft> xmir(final Shift shift, final int position) {
+        return draft -> new Draft(shift.apply(position, draft.xmir()));
+    }
+
+    /**
+     * Compiled stylesheet.
+     * @param path Path of the stylesheet.
+     * @return Shift.
+     */
+    private static Shift stylesheet(final Path path) {
+        if (!Files.isRegularFile(path)) {
+            throw new IllegalArgumentException(
+                String.format("Stylesheet '%s' is not found", path)
+            );
+        }
+        try {
+            return new CompiledShift(path.toUri().toURL());
+        } catch (final MalformedURLException exception) {
+            throw new IllegalArgumentException(
+                String.format("Stylesheet '%s' has a wrong path", path),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Instance of a Java pass.
+     * @param name Class name of the pass.
+     * @param loader Class loader of the pass.
+     * @return Instance.
+     */
+    private static Object instance(final String name, final ClassLoader loader) {
+        try {
+            return Class.forName(name, true, loader).getConstructor().newInstance();
+        } catch (final ClassNotFoundException | NoSuchMethodException
+            | InstantiationException | IllegalAccessException
+            | InvocationTargetException exception) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Can't create the pass '%s', it must have a public constructor without arguments",
+                    name
+                ),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Save XMIR of a class.
+     * @param folder Directory where to save XMIR.
+     * @param draft Class.
+     * @return The same class.
+     */
+    private static Draft dump(final Path folder, final Draft draft) {
+        final Path target = folder.resolve(
+            String.format(
+                "%s.xmir",
+                new PrefixedName(new XmirRepresentation(draft.xmir()).name())
+                    .decode()
+                    .replace('.', File.separatorChar)
+            )
+        );
+        try {
+            Writes.write(target, draft.xmir().toString().getBytes(StandardCharsets.UTF_8));
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't save XMIR to '%s'", target),
+                exception
+            );
+        }
+        return draft;
+    }
+}
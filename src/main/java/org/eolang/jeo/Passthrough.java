@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eolang.jeo.representation.Gzip;
+
+/**
+ * What to leave in place of a file that exceeded its time budget.
+ * In any case the file goes through the goal unchanged.
+ * @since 0.6
+ */
+enum Passthrough {
+    /**
+     * The target stays as it is.
+     * For example, the original class file for the 'assemble' goal.
+     */
+    KEEP,
+    /**
+     * The source is copied to the target.
+     * For example, the original XMIR for the 'unroll-phi' goal.
+     */
+    COPY,
+    /**
+     * The stale target is removed, so the next goals leave the source as it is.
+     * For example, the XMIR of a class for the 'disassemble' goal.
+     */
+    DROP;
+
+    /**
+     * Pass the file through.
+     * @param source Source file.
+     * @param target Target file.
+     * @return Content of the target, empty if there is no target.
+     * @throws IOException If the files can't be read or written.
+     */
+    byte[] apply(final Path source, final Path target) throws IOException {
+        final byte[] result;
+        switch (this) {
+            case KEEP:
+                if (Files.exists(target)) {
+                    result = Gzip.read(target);
+                } else {
+                    result = new byte[0];
+                }
+                break;
+            case COPY:
+                result = Gzip.read(source);
+                Writes.write(target, result);
+                break;
+            case DROP:
+                Files.deleteIfExists(target);
+                result = new byte[0];
+                break;
+            default:
+                throw new IllegalStateException(
+                    String.format("Unknown passthrough: %s", this)
+                );
+        }
+        return result;
+    }
+}
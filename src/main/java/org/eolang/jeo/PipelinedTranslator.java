@@ -0,0 +1,529 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+import org.eolang.jeo.representation.Prefetched;
+
+/**
+ * Translator that applies a translation in three pipelined stages.
+ * <p>A single reader thread takes input files from the stream, which may
+ * scan and filter directories, and reads them ahead. A pool of transformation
+ * threads applies the translation, while the content read ahead is attached
+ * to the thread as {@link Prefetched}, so the transformation takes it from memory
+ * instead of reading the file again, and all its writes are deferred by
+ * {@link Writes}. A single writer thread writes the results to disk.
+ * The stages are connected by bounded queues, so the reader doesn't run too far
+ * ahead, the content read ahead doesn't pile up in memory, and the transformed
+ * files don't pile up either if the disk is slow.
+ * Utilisation of each stage is recorded to the {@link Metrics} of the calling thread.</p>
+ * <p>The stream returned by {@link #apply(Stream)} contains the translated files
+ * in the order they were written, which is the order of completion rather than
+ * the order of the input, and each of them is already on disk.</p>
+ * @since 0.6
+ */
+public final class PipelinedTranslator implements Translator {
+
+    /**
+     * Original translation.
+     */
+    private final Function<? super Path, ? extends Path> translation;
+
+    /**
+     * Context class loader of the transformation threads.
+     */
+    private final ClassLoader loader;
+
+    /**
+     * Number of transformation threads.
+     */
+    private final int threads;
+
+    /**
+     * Capacity of the queues between the stages.
+     */
+    private final int ahead;
+
+    /**
+     * Constructor.
+     * @param translation Original translation.
+     */
+    PipelinedTranslator(final Function<? super Path, ? extends Path> translation) {
+        this(translation, PipelinedTranslator.class.getClassLoader());
+    }
+
+    /**
+     * Constructor.
+     * @param translation Original translation.
+     * @param loader Context class loader of the transformation threads.
+     */
+    PipelinedTranslator(
+        final Function<? super Path, ? extends Path> translation,
+        final ClassLoader loader
+    ) {
+        this(
+            translation,
+            loader,
+            Runtime.getRuntime().availableProcessors(),
+            Runtime.getRuntime().availableProcessors() * 2
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param translation Original translation.
+     * @param threads Number of transformation threads.
+     * @param ahead Capacity of the queues between the stages.
+     */
+    PipelinedTranslator(
+        final Function<? super Path, ? extends Path> translation,
+        final int threads,
+        final int ahead
+    ) {
+        this(translation, PipelinedTranslator.class.getClassLoader(), threads, ahead);
+    }
+
+    /**
+     * Constructor.
+     * @param translation Original translation.
+     * @param loader Context class loader of the transformation threads.
+     * @param threads Number of transformation threads.
+     * @param ahead Capacity of the queues between the stages.
+     */
+    PipelinedTranslator(
+        final Function<? super Path, ? extends Path> translation,
+        final ClassLoader loader,
+        final int threads,
+        final int ahead
+    ) {
+        this.translation = translation;
+        this.loader = loader;
+        this.threads = threads;
+        this.ahead = ahead;
+    }
+
+    @Override
+    public Stream<Path> apply(final Stream<Path> representations) {
+        final Metrics metrics = Metrics.current();
+        final BlockingQueue<Item> read = new ArrayBlockingQueue<>(this.ahead);
+        final BlockingQueue<Item> transformed = new ArrayBlockingQueue<>(this.ahead);
+        final BlockingQueue<Item> written = new LinkedBlockingQueue<>();
+        final AtomicReference<Throwable> error = new AtomicReference<>();
+        final AtomicInteger counter = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(
+            this.threads + 2,
+            runnable -> {
+                final Thread thread = new Thread(
+                    runnable,
+                    String.format("jeo-pipeline-%d", counter.incrementAndGet())
+                );
+                thread.setDaemon(true);
+                return thread;
+            }
+        );
+        final Stage stage = new Stage(
+            metrics, Scans.current(), this.loader, error, executor, written
+        );
+        executor.execute(stage.run("read", () -> this.read(representations, read)));
+        for (int index = 0; index < this.threads; ++index) {
+            executor.execute(stage.run("transform", () -> this.transform(read, transformed)));
+        }
+        executor.execute(stage.run("write", () -> this.write(transformed, written)));
+        executor.shutdown();
+        stage.start();
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(
+                new Results(written, error),
+                Spliterator.NONNULL
+            ),
+            false
+        ).onClose(executor::shutdownNow);
+    }
+
+    /**
+     * Take all the files from the stream and read them ahead.
+     * @param representations Files to transform.
+     * @param read Queue of the read files.
+     * @throws InterruptedException If the pipeline is stopped.
+     */
+    private void read(
+        final Stream<Path> representations, final BlockingQueue<Item> read
+    ) throws InterruptedException {
+        final Iterator<Path> all = representations.iterator();
+        long start = System.nanoTime();
+        while (all.hasNext()) {
+            final Path path = all.next();
+            final Prefetched content = PipelinedTranslator.prefetch(path);
+            Metrics.current().busy("read", start);
+            read.put(new Item(path, content, new Writes()));
+            start = System.nanoTime();
+        }
+        for (int index = 0; index < this.threads; ++index) {
+            read.put(Item.last());
+        }
+    }
+
+    /**
+     * Transform the read files.
+     * @param read Queue of the read files.
+     * @param transformed Queue of the transformed files.
+     * @throws InterruptedException If the pipeline is stopped.
+     */
+    private void transform(
+        final BlockingQueue<Item> read, final BlockingQueue<Item> transformed
+    ) throws InterruptedException {
+        while (true) {
+            final Item item = read.take();
+            if (item.end) {
+                transformed.put(item);
+                break;
+            }
+            final long start = System.nanoTime();
+            final Prefetched attached = item.content.attach();
+            final Writes previous = item.writes.defer();
+            final Path result;
+            try {
+                result = this.translation.apply(item.path);
+            } finally {
+                Writes.restore(previous);
+                Prefetched.detach(attached);
+                Metrics.current().busy("transform", start);
+            }
+            transformed.put(new Item(result, new Prefetched(result), item.writes));
+        }
+    }
+
+    /**
+     * Write the transformed files.
+     * @param transformed Queue of the transformed files.
+     * @param written Queue of the written files.
+     * @throws InterruptedException If the pipeline is stopped.
+     * @throws IOException If a file can't be written.
+     */
+    private void write(
+        final BlockingQueue<Item> transformed, final BlockingQueue<Item> written
+    ) throws InterruptedException, IOException {
+        int finished = 0;
+        while (finished < this.threads) {
+            final Item item = transformed.take();
+            if (item.end) {
+                ++finished;
+            } else {
+                final long start = System.nanoTime();
+                item.writes.flush();
+                Metrics.current().busy("write", start);
+                written.put(item);
+            }
+        }
+        written.put(Item.last());
+    }
+
+    /**
+     * Read the file ahead.
+     * If the file can't be read, it's left to the transformation, which
+     * reads it again and reports the problem.
+     * @param path File to read.
+     * @return Content of the file.
+     */
+    private static Prefetched prefetch(final Path path) {
+        Prefetched result = new Prefetched(path);
+        if (Files.isRegularFile(path)) {
+            try {
+                result = new Prefetched(path, Files.readAllBytes(path));
+            } catch (final IOException ignored) {
+                // The transformation will fail with a proper message.
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Action of a stage that may fail.
+     * @since 0.6
+     */
+    @FunctionalInterface
+    private interface Action {
+
+        /**
+         * Run the action.
+         * @throws Exception If something goes wrong.
+         */
+        void run() throws Exception;
+    }
+
+    /**
+     * Stage of the pipeline.
+     * It attaches metrics, directory scans and the context class loader to the stage
+     * thread and stops the whole pipeline
+     * if the stage fails. Stages wait for {@link #start()}, so the pipeline
+     * can't be stopped before all its stages are submitted.
+     * @since 0.6
+     */
+    private static final class Stage {
+
+        /**
+         * Metrics of the calling thread.
+         */
+        private final Metrics metrics;
+
+        /**
+         * Directory scans of the calling thread.
+         */
+        private final Scans scans;
+
+        /**
+         * Context class loader of the stage threads.
+         */
+        private final ClassLoader loader;
+
+        /**
+         * The first error of the pipeline.
+         */
+        private final AtomicReference<Throwable> error;
+
+        /**
+         * Executor of the stages.
+         */
+        private final ExecutorService executor;
+
+        /**
+         * Queue of the written files.
+         */
+        private final BlockingQueue<Item> written;
+
+        /**
+         * Are all the stages submitted?
+         */
+        private final CountDownLatch ready;
+
+        /**
+         * Constructor.
+         * @param metrics Metrics of the calling thread.
+         * @param scans Directory scans of the calling thread.
+         * @param loader Context class loader of the stage threads.
+         * @param error The first error of the pipeline.
+         * @param executor Executor of the stages.
+         * @param written Queue of the written files.
+         */
+        Stage(
+            final Metrics metrics,
+            final Scans scans,
+            final ClassLoader loader,
+            final AtomicReference<Throwable> error,
+            final ExecutorService executor,
+            final BlockingQueue<Item> written
+        ) {
+            this.metrics = metrics;
+            this.scans = scans;
+            this.loader = loader;
+            this.error = error;
+            this.executor = executor;
+            this.written = written;
+            this.ready = new CountDownLatch(1);
+        }
+
+        /**
+         * Let all the stages run.
+         */
+        void start() {
+            this.ready.countDown();
+        }
+
+        /**
+         * Runnable of the stage.
+         * @param name Stage name.
+         * @param action Stage action.
+         * @return Runnable.
+         */
+        @SuppressWarnings("PMD.AvoidCatchingThrowable")
+        Runnable run(final String name, final Action action) {
+            return () -> {
+                final Metrics previous = this.metrics.attach();
+                final Scans before = this.scans.attach();
+                Thread.currentThread().setContextClassLoader(this.loader);
+                try {
+                    this.ready.await();
+                    action.run();
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                } catch (final Throwable exception) {
+                    if (this.error.compareAndSet(null, exception)) {
+                        this.executor.shutdownNow();
+                        this.written.offer(Item.last());
+                    }
+                } finally {
+                    Scans.detach(before);
+                    Metrics.detach(previous);
+                }
+            };
+        }
+    }
+
+    /**
+     * Files that went through the pipeline.
+     * @since 0.6
+     */
+    private static final class Results implements Iterator<Path> {
+
+        /**
+         * Queue of the written files.
+         */
+        private final BlockingQueue<Item> written;
+
+        /**
+         * The first error of the pipeline.
+         */
+        private final AtomicReference<Throwable> error;
+
+        /**
+         * The next item.
+         */
+        private final AtomicReference<Item> next;
+
+        /**
+         * Constructor.
+         * @param written Queue of the written files.
+         * @param error The first error of the pipeline.
+         */
+        Results(final BlockingQueue<Item> written, final AtomicReference<Throwable> error) {
+            this.written = written;
+            this.error = error;
+            this.next = new AtomicReference<>();
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (this.next.get() == null) {
+                try {
+                    this.next.set(this.written.take());
+                } catch (final InterruptedException exception) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException(
+                        "Interrupted while waiting for the pipeline", exception
+                    );
+                }
+            }
+            final Throwable failure = this.error.get();
+            if (failure instanceof RuntimeException) {
+                throw (RuntimeException) failure;
+            }
+            if (failure instanceof Error) {
+                throw (Error) failure;
+            }
+            if (failure != null) {
+                throw new IllegalStateException("Pipeline failed", failure);
+            }
+            return !this.next.get().end;
+        }
+
+        @Override
+        public Path next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException("No more files in the pipeline");
+            }
+            return this.next.getAndSet(null).path;
+        }
+    }
+
+    /**
+     * File in the pipeline.
+     * @since 0.6
+     */
+    private static final class Item {
+
+        /**
+         * Path to the file.
+         */
+        private final Path path;
+
+        /**
+         * Content of the file read ahead.
+         */
+        private final Prefetched content;
+
+        /**
+         * Deferred writes of the file.
+         */
+        private final Writes writes;
+
+        /**
+         * Is it the end of the stage?
+         */
+        private final boolean end;
+
+        /**
+         * Constructor.
+         * @param path Path to the file.
+         * @param content Content of the file read ahead.
+         * @param writes Deferred writes of the file.
+         */
+        Item(final Path path, final Prefetched content, final Writes writes) {
+            this(path, content, writes, false);
+        }
+
+        /**
+         * Constructor.
+         * @param path Path to the file.
+         * @param content Content of the file read ahead.
+         * @param writes Deferred writes of the file.
+         * @param end Is it the end of the stage?
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        private Item(
+            final Path path, final Prefetched content, final Writes writes, final boolean end
+        ) {
+            this.path = path;
+            this.content = content;
+            this.writes = writes;
+            this.end = end;
+        }
+
+        /**
+         * The item that marks the end of the stage.
+         * @return Item.
+         */
+        static Item last() {
+            final Path none = Paths.get("");
+            return new Item(none, new Prefetched(none), new Writes(), true);
+        }
+    }
+}
@@ -24,9 +24,11 @@
 package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
+import java.io.File;
 import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.function.Predicate;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.maven.artifact.DependencyResolutionRequiredException;
@@ -34,7 +36,7 @@ import org.apache.maven.project.MavenProject;
 
 /**
  * All mojo's initialization step.
- * This class is responsible for initializing classloader.
+ * This class is responsible for creating the classloader of the project classes.
  *
  * @since 0.1
  */
@@ -45,6 +47,16 @@ public final class PluginStartup {
      */
     private final Collection<String> folders;
 
+    /**
+     * Warm state of the Maven session.
+     */
+    private final SessionCache session;
+
+    /**
+     * Which folders belong to the module that is being built.
+     */
+    private final Predicate<Path> own;
+
     /**
      * Constructor.
      * @param project Maven project.
@@ -53,6 +65,19 @@ public final class PluginStartup {
      */
     PluginStartup(
         final MavenProject project, final Path... additional
+    ) throws DependencyResolutionRequiredException {
+        this(project, new SessionCache(), additional);
+    }
+
+    /**
+     * Constructor.
+     * @param project Maven project.
+     * @param session Warm state of the Maven session.
+     * @param additional Additional folders with classes.
+     * @throws DependencyResolutionRequiredException If a problem happened during loading classes.
+     */
+    PluginStartup(
+        final MavenProject project, final SessionCache session, final Path... additional
     ) throws DependencyResolutionRequiredException {
         this(
             Stream.concat(
@@ -64,7 +89,9 @@ public final class PluginStartup {
                     project.getTestClasspathElements().stream(),
                     Arrays.stream(additional).map(Path::toString)
                 )
-            ).collect(Collectors.toSet())
+            ).collect(Collectors.toSet()),
+            session,
+            PluginStartup.module(project)
         );
     }
 
@@ -73,20 +100,38 @@ public final class PluginStartup {
      * @param folders Folders with classes.
      */
     PluginStartup(final String... folders) {
-        this(Arrays.asList(folders));
+        this(Arrays.asList(folders), new SessionCache(), path -> true);
     }
 
     /**
      * Constructor.
      * @param folders Folders with classes.
+     * @param session Warm state of the Maven session.
+     * @param own Which folders belong to the module that is being built.
      */
-    private PluginStartup(final Collection<String> folders) {
+    private PluginStartup(
+        final Collection<String> folders,
+        final SessionCache session,
+        final Predicate<Path> own
+    ) {
         this.folders = folders;
+        this.session = session;
+        this.own = own;
     }
 
     /**
-     * Initialize classloader.
-     * This method is important to load classes that were compiled on the previous maven
+     * All the folders with classes.
+     * @return Folders.
+     */
+    Collection<String> folders() {
+        return this.folders;
+    }
+
+    /**
+     * Class loader of all the folders with classes.
+     * The classloader doesn't read anything until the first class is requested,
+     * so it's cheap to create it even if no classes will be loaded.
+     * This class loader is important to load classes that were compiled on the previous maven
      * phases. Since the jeo plugin works on the 'process-classes' phase, it might
      * see classes that were compiled on the 'compile' phase.
      * We need to have all these classes in the classpath to be able to load them during
@@ -94,21 +139,42 @@ public final class PluginStartup {
      * We need this to solve the problem with computing maxs in ASM library:
      * - https://gitlab.ow2.org/asm/asm/-/issues/317918
      * - https://stackoverflow.com/questions/11292701/error-while-instrumenting-class-files-asm-classwriter-getcommonsuperclass
+     * The parent is the class loader of the plugin itself, and the context class
+     * loader of the current thread is left intact, so concurrent module builds
+     * of 'mvn -T' don't see each other's classes. The loader is passed explicitly
+     * to the threads that need it.
+     * @return Class loader.
      */
-    void init() {
+    ClassLoader loader() {
         Logger.info(
             this,
             String.format(
-                "Trying to load classes for bytecode verification from %s",
+                "Classes for bytecode verification will be loaded on demand from %s",
                 this.folders.stream().collect(Collectors.joining(", ", "[", "]"))
             )
         );
-        Thread.currentThread().setContextClassLoader(
-            new JeoClassLoader(
-                Thread.currentThread().getContextClassLoader(),
-                this.folders
-            )
+        return new JeoClassLoader(
+            PluginStartup.class.getClassLoader(),
+            this.folders,
+            this.session,
+            this.own
         );
     }
 
+    /**
+     * Folders that belong to the project: everything inside its base directory.
+     * @param project Maven project.
+     * @return Predicate of folders.
+     */
+    private static Predicate<Path> module(final MavenProject project) {
+        final Predicate<Path> result;
+        final File basedir = project.getBasedir();
+        if (basedir == null) {
+            result = path -> true;
+        } else {
+            final Path base = basedir.toPath().toAbsolutePath().normalize();
+            result = path -> path.toAbsolutePath().normalize().startsWith(base);
+        }
+        return result;
+    }
 }
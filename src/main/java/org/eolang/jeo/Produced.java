@@ -0,0 +1,57 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
+/**
+ * Translator that leaves out the files its translation didn't produce.
+ * A file that exceeded its time budget with {@link Passthrough#DROP} has no
+ * target on disk, so it's not passed to the next translators, like
+ * {@link Sharded} that lists the produced files in the shard manifest.
+ * The original translator must return files that are already on disk.
+ * @since 0.6
+ */
+final class Produced implements Translator {
+
+    /**
+     * Original translator.
+     */
+    private final Translator original;
+
+    /**
+     * Constructor.
+     * @param original Original translator.
+     */
+    Produced(final Translator original) {
+        this.original = original;
+    }
+
+    @Override
+    public Stream<Path> apply(final Stream<Path> representations) {
+        return this.original.apply(representations).filter(Files::exists);
+    }
+}
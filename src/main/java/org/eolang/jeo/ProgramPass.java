@@ -0,0 +1,46 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+
+/**
+ * Pass of the 'optimize' goal over the bytecode program of a class.
+ * Passes that work with XMIR DOM implement {@link com.yegor256.xsline.Shift}
+ * instead, or they are just XSL stylesheets. Passes over the bytecode program
+ * don't need XMIR at all, so a class that goes only through such passes is
+ * never converted to XMIR.
+ * Implementations are shared by all the threads, so they must be thread-safe,
+ * and they must have a public constructor without arguments.
+ * @since 0.6
+ */
+public interface ProgramPass {
+
+    /**
+     * Apply the pass.
+     * @param program Bytecode program of a class.
+     * @return Transformed program.
+     */
+    BytecodeProgram apply(BytecodeProgram program);
+}
@@ -0,0 +1,230 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.LinkOption;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.stream.Stream;
+
+/**
+ * Snapshot of all the regular files of a directory with their sizes and
+ * modification times.
+ * The directory is scanned once, subdirectories are scanned in parallel,
+ * and the attributes of each file are read by a single call together with
+ * its type. Files written by the goal afterwards are added by {@link #put(Path, Attributes)}.
+ * A missing directory is an empty snapshot.
+ * @since 0.6
+ */
+final class Scan {
+
+    /**
+     * Scanned directory, absolute and normalized.
+     */
+    private final Path root;
+
+    /**
+     * Files relative to the root with their attributes, ordered by path.
+     */
+    private final Map<Path, Attributes> files;
+
+    /**
+     * Constructor.
+     * @param root Directory to scan.
+     */
+    Scan(final Path root) {
+        this.root = root.toAbsolutePath().normalize();
+        this.files = new ConcurrentSkipListMap<>();
+        final long start = System.nanoTime();
+        Scan.walk(this.root, this.root, this.files);
+        Metrics.current().phase("scan", start);
+    }
+
+    /**
+     * All the regular files of the directory.
+     * @param base Directory as the caller sees it, files are resolved against it.
+     * @return Files in the order of their paths.
+     */
+    Stream<Path> files(final Path base) {
+        return this.files.keySet().stream().map(base::resolve);
+    }
+
+    /**
+     * Does the directory contain the file?
+     * @param file Absolute and normalized path to the file.
+     * @return True if the file is inside the scanned directory.
+     */
+    boolean covers(final Path file) {
+        return file.startsWith(this.root);
+    }
+
+    /**
+     * Attributes of the file, if the file is known to the snapshot.
+     * @param file Absolute and normalized path to the file.
+     * @return Attributes or empty if the file wasn't found during the scan.
+     */
+    Optional<Attributes> attributes(final Path file) {
+        return Optional.ofNullable(this.files.get(this.root.relativize(file)));
+    }
+
+    /**
+     * Add or update the file written after the scan.
+     * @param file Absolute and normalized path to the file.
+     * @param attributes Attributes of the file.
+     */
+    void put(final Path file, final Attributes attributes) {
+        this.files.put(this.root.relativize(file), attributes);
+    }
+
+    /**
+     * Scan the directory and its subdirectories.
+     * @param root Root of the scan.
+     * @param dir Directory to scan.
+     * @param found Where to put found files.
+     */
+    private static void walk(final Path root, final Path dir, final Map<Path, Attributes> found) {
+        final List<Path> subdirs = new ArrayList<>(0);
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(dir)) {
+            for (final Path entry : entries) {
+                Scan.visit(root, entry, subdirs, found);
+            }
+        } catch (final NoSuchFileException missing) {
+            subdirs.clear();
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't scan the folder '%s'", dir),
+                exception
+            );
+        }
+        subdirs.parallelStream().forEach(sub -> Scan.walk(root, sub, found));
+    }
+
+    /**
+     * Remember the entry of the directory.
+     * Entries removed after the directory was listed, like temporary files
+     * replaced by the written ones, are skipped.
+     * @param root Root of the scan.
+     * @param entry Entry of the directory.
+     * @param subdirs Where to put subdirectories.
+     * @param found Where to put found files.
+     * @throws IOException If the entry can't be read.
+     */
+    private static void visit(
+        final Path root, final Path entry, final List<Path> subdirs,
+        final Map<Path, Attributes> found
+    ) throws IOException {
+        try {
+            final BasicFileAttributes attrs = Files.readAttributes(
+                entry, BasicFileAttributes.class, LinkOption.NOFOLLOW_LINKS
+            );
+            if (attrs.isDirectory()) {
+                subdirs.add(entry);
+            } else if (attrs.isRegularFile()) {
+                found.put(
+                    root.relativize(entry),
+                    new Attributes(attrs.size(), attrs.lastModifiedTime())
+                );
+            } else if (attrs.isSymbolicLink()) {
+                Scan.link(root, entry, found);
+            }
+        } catch (final NoSuchFileException removed) {
+            Logger.debug(Scan.class, "The entry '%s' was removed during the scan", entry);
+        }
+    }
+
+    /**
+     * Add the file the symbolic link points to.
+     * Links to directories are not followed, like {@link Files#walk(Path, java.nio.file.FileVisitOption...)} does.
+     * @param root Root of the scan.
+     * @param link Symbolic link.
+     * @param found Where to put found files.
+     * @throws IOException If the link can't be read.
+     */
+    private static void link(final Path root, final Path link, final Map<Path, Attributes> found)
+        throws IOException {
+        if (Files.exists(link)) {
+            final BasicFileAttributes attrs = Files.readAttributes(link, BasicFileAttributes.class);
+            if (attrs.isRegularFile()) {
+                found.put(
+                    root.relativize(link),
+                    new Attributes(attrs.size(), attrs.lastModifiedTime())
+                );
+            }
+        }
+    }
+
+    /**
+     * Size and modification time of a file.
+     * @since 0.6
+     */
+    static final class Attributes {
+
+        /**
+         * Size in bytes.
+         */
+        private final long bytes;
+
+        /**
+         * Modification time.
+         */
+        private final FileTime time;
+
+        /**
+         * Constructor.
+         * @param bytes Size in bytes.
+         * @param time Modification time.
+         */
+        Attributes(final long bytes, final FileTime time) {
+            this.bytes = bytes;
+            this.time = time;
+        }
+
+        /**
+         * Size of the file.
+         * @return Size in bytes.
+         */
+        long size() {
+            return this.bytes;
+        }
+
+        /**
+         * Modification time of the file.
+         * @return Modification time.
+         */
+        FileTime modified() {
+            return this.time;
+        }
+    }
+}
@@ -0,0 +1,255 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Directory scans of a goal execution.
+ * Each directory is scanned only once per execution, and all the components
+ * take paths, sizes and modification times of files from that {@link Scan}
+ * instead of walking the directory and asking the file system again. Files
+ * written by the goal are added to the scans, so the snapshots stay up to date.
+ * Files outside of the scanned directories are looked up in the file system,
+ * and files written by forked worker JVMs are added by {@link #written(Path)}.
+ * Scans are attached to the thread that executes the goal, and
+ * {@link ParallelTranslator} and {@link PipelinedTranslator} attach them to all
+ * their worker threads, just like {@link Metrics}. If no scans are attached,
+ * each call gets its own scans, which are not shared.
+ * @since 0.6
+ */
+final class Scans {
+
+    /**
+     * Scans attached to the current thread.
+     */
+    private static final ThreadLocal<Scans> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Scanned directories, absolute and normalized, with their lazy scans.
+     */
+    private final Map<Path, Unchecked<Scan>> scans;
+
+    /**
+     * Constructor.
+     */
+    Scans() {
+        this.scans = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Scans attached to the current thread.
+     * @return Scans, which are not shared if no scans are attached.
+     */
+    static Scans current() {
+        return Optional.ofNullable(Scans.CURRENT.get()).orElseGet(Scans::new);
+    }
+
+    /**
+     * Run the goal with these scans attached to the current thread.
+     * @param action Goal.
+     */
+    void within(final Runnable action) {
+        final Scans previous = this.attach();
+        try {
+            action.run();
+        } finally {
+            Scans.detach(previous);
+        }
+    }
+
+    /**
+     * Attach these scans to the current thread.
+     * @return Scans that were attached before, or null.
+     */
+    Scans attach() {
+        final Scans previous = Scans.CURRENT.get();
+        Scans.CURRENT.set(this);
+        return previous;
+    }
+
+    /**
+     * Attach previous scans back to the current thread.
+     * @param previous Scans that were attached before, or null.
+     */
+    static void detach(final Scans previous) {
+        if (previous == null) {
+            Scans.CURRENT.remove();
+        } else {
+            Scans.CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * All the regular files of the directory.
+     * The directory is scanned only on the first call.
+     * @param dir Directory.
+     * @return Files of the directory resolved against it, in the order of their paths.
+     */
+    Stream<Path> files(final Path dir) {
+        return this.scan(dir).files(dir);
+    }
+
+    /**
+     * Scan the directory in advance.
+     * Files of the directory are looked up in the scan afterwards, even if
+     * nobody asks for the list of them.
+     * @param dir Directory.
+     */
+    void include(final Path dir) {
+        this.scan(dir);
+    }
+
+    /**
+     * Size of the file.
+     * @param file File.
+     * @return Size in bytes or zero if the file doesn't exist.
+     */
+    long size(final Path file) {
+        return this.attributes(file).map(Scan.Attributes::size).orElse(0L);
+    }
+
+    /**
+     * Modification time of the file.
+     * @param file File.
+     * @return Modification time or empty if the file doesn't exist.
+     */
+    Optional<FileTime> modified(final Path file) {
+        return this.attributes(file).map(Scan.Attributes::modified);
+    }
+
+    /**
+     * Record the file written by the goal.
+     * Only the directories scanned before are updated, others will find the
+     * file when they are scanned.
+     * @param file Written file.
+     * @param size Size of the written file.
+     */
+    void written(final Path file, final long size) {
+        final Path absolute = file.toAbsolutePath().normalize();
+        final Scan.Attributes attributes = new Scan.Attributes(
+            size, FileTime.fromMillis(System.currentTimeMillis())
+        );
+        this.covering(absolute).forEach(scan -> scan.put(absolute, attributes));
+    }
+
+    /**
+     * Record the file written by somebody else, for example by a forked worker JVM.
+     * The attributes of the file are read from the file system, but only if
+     * a scanned directory contains the file.
+     * @param file Written file.
+     */
+    void written(final Path file) {
+        final Path absolute = file.toAbsolutePath().normalize();
+        final List<Scan> covering = this.covering(absolute).collect(Collectors.toList());
+        if (!covering.isEmpty()) {
+            Scans.stat(absolute).ifPresent(
+                attributes -> covering.forEach(scan -> scan.put(absolute, attributes))
+            );
+        }
+    }
+
+    /**
+     * Scan of the directory.
+     * @param dir Directory.
+     * @return Scan, made only once.
+     */
+    private Scan scan(final Path dir) {
+        return this.scans.computeIfAbsent(
+            dir.toAbsolutePath().normalize(),
+            key -> new Unchecked<>(new Synced<>(new Sticky<>(() -> new Scan(key))))
+        ).value();
+    }
+
+    /**
+     * Attributes of the file from the scans or from the file system.
+     * If a scanned directory contains the file, the file system is not asked
+     * at all: a file missing in the scan doesn't exist.
+     * @param file File.
+     * @return Attributes or empty if the file doesn't exist.
+     */
+    private Optional<Scan.Attributes> attributes(final Path file) {
+        final Path absolute = file.toAbsolutePath().normalize();
+        final List<Scan> covering = this.covering(absolute).collect(Collectors.toList());
+        final Optional<Scan.Attributes> result;
+        if (covering.isEmpty()) {
+            result = Scans.stat(absolute);
+        } else {
+            result = covering.stream()
+                .map(scan -> scan.attributes(absolute))
+                .filter(Optional::isPresent)
+                .map(Optional::get)
+                .findFirst();
+        }
+        return result;
+    }
+
+    /**
+     * Scanned directories that contain the file.
+     * @param file Absolute and normalized path to the file.
+     * @return Scans of the directories.
+     */
+    private Stream<Scan> covering(final Path file) {
+        return this.scans.values().stream()
+            .map(Unchecked::value)
+            .filter(scan -> scan.covers(file));
+    }
+
+    /**
+     * Attributes of the file from the file system.
+     * @param file File.
+     * @return Attributes or empty if the file doesn't exist.
+     */
+    private static Optional<Scan.Attributes> stat(final Path file) {
+        Optional<Scan.Attributes> result;
+        try {
+            final BasicFileAttributes attrs = Files.readAttributes(
+                file, BasicFileAttributes.class
+            );
+            result = Optional.of(new Scan.Attributes(attrs.size(), attrs.lastModifiedTime()));
+        } catch (final NoSuchFileException missing) {
+            result = Optional.empty();
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read attributes of the file '%s'", file),
+                exception
+            );
+        }
+        return result;
+    }
+}
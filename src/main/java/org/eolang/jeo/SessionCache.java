@@ -0,0 +1,188 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import org.apache.maven.execution.AbstractExecutionListener;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.apache.maven.execution.MavenSession;
+
+/**
+ * Warm state shared by all the goal executions of one Maven session.
+ * In a reactor build every module sees the same jar files and the output
+ * folders of the modules built before it. The cache keeps the jar files open
+ * and the indexes of those folders, so the next module doesn't open and scan
+ * them again.
+ * Jar files are checked by their size and modification time on each request
+ * and are opened again if they changed. Folders are reused only if they don't
+ * belong to the module that is being built, since the output folders of
+ * a module change while it's built and are always scanned again.
+ * Compiled XSD schema and XSL stylesheets don't depend on the project at all,
+ * so they are compiled once per plugin class loader and are not kept here.
+ * The cache of a Maven session is closed when the session ends, which closes
+ * all the jar files it opened.
+ * @since 0.6
+ */
+final class SessionCache implements Closeable {
+
+    /**
+     * Caches of the running sessions.
+     * Sessions are weak keys, so the cache goes away with its session.
+     */
+    private static final Map<Object, SessionCache> SESSIONS =
+        Collections.synchronizedMap(new WeakHashMap<>(1));
+
+    /**
+     * Opened jar files.
+     */
+    private final Map<Path, Archive> archives;
+
+    /**
+     * Indexes of folders of other modules: class names with their class files.
+     */
+    private final Map<Path, Map<String, Path>> folders;
+
+    /**
+     * Constructor.
+     * The cache is not shared with anybody.
+     */
+    SessionCache() {
+        this.archives = new ConcurrentHashMap<>(0);
+        this.folders = new ConcurrentHashMap<>(0);
+    }
+
+    /**
+     * Cache of the session.
+     * @param session Maven session.
+     * @return Cache shared by all the executions of the session.
+     */
+    static SessionCache of(final MavenSession session) {
+        return SessionCache.of(session, session.getRequest());
+    }
+
+    /**
+     * Cache of the session.
+     * The cache is closed and forgotten when the session ends.
+     * @param session Session.
+     * @param request Request of the session that notifies about its end.
+     * @return Cache shared by all the executions of the session.
+     */
+    static SessionCache of(final Object session, final MavenExecutionRequest request) {
+        return SessionCache.SESSIONS.computeIfAbsent(
+            session,
+            key -> {
+                final SessionCache cache = new SessionCache();
+                request.setExecutionListener(
+                    new SessionEnd(
+                        Optional.ofNullable(request.getExecutionListener())
+                            .orElseGet(AbstractExecutionListener::new),
+                        () -> {
+                            SessionCache.SESSIONS.remove(key);
+                            cache.close();
+                        }
+                    )
+                );
+                return cache;
+            }
+        );
+    }
+
+    /**
+     * Opened jar file.
+     * A jar file that changed since it was opened is opened again and the old
+     * archive is closed, since the content it reads is gone anyway.
+     * @param jar Path to the jar file.
+     * @return Archive.
+     */
+    Archive archive(final Path jar) {
+        return this.archives.compute(
+            jar.toAbsolutePath().normalize(),
+            (path, cached) -> {
+                final Archive result;
+                if (cached == null) {
+                    result = new Archive(path);
+                } else if (!cached.fresh()) {
+                    SessionCache.release(cached);
+                    result = new Archive(path);
+                } else {
+                    result = cached;
+                }
+                return result;
+            }
+        );
+    }
+
+    /**
+     * Index of classes of the folder.
+     * @param folder Folder with classes.
+     * @param own Does the folder belong to the module that is being built?
+     * @param index How to index the folder.
+     * @return Class names with their class files.
+     */
+    Map<String, Path> classes(
+        final Path folder,
+        final boolean own,
+        final Function<Path, Map<String, Path>> index
+    ) {
+        final Map<String, Path> result;
+        if (own) {
+            result = index.apply(folder);
+        } else {
+            result = this.folders.computeIfAbsent(folder.toAbsolutePath().normalize(), index);
+        }
+        return result;
+    }
+
+    /**
+     * Close all the opened jar files and forget the indexes of folders.
+     */
+    @Override
+    public void close() {
+        this.archives.values().forEach(SessionCache::release);
+        this.archives.clear();
+        this.folders.clear();
+    }
+
+    /**
+     * Close the archive.
+     * Failure to close a jar file that is no longer used doesn't stop the build.
+     * @param archive Archive to close.
+     */
+    private static void release(final Archive archive) {
+        try {
+            archive.close();
+        } catch (final IOException exception) {
+            Logger.warn(SessionCache.class, "Can't close the jar file: %[exception]s", exception);
+        }
+    }
+}
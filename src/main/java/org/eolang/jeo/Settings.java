@@ -0,0 +1,394 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.eolang.jeo.representation.asm.DisassembleMode;
+import org.eolang.jeo.representation.asm.MethodSelector;
+
+/**
+ * Settings of a goal.
+ * They are shared by {@link Disassembler}, {@link Assembler} and {@link Unroller},
+ * each of them takes only the settings it needs. Settings are immutable, each
+ * 'with' method returns a copy with the changed settings.
+ * Settings that affect the translation of a single file are sent to forked
+ * worker JVMs as named options of the task, see {@link #task(String, Path, Path)}.
+ * @since 0.6
+ */
+final class Settings {
+
+    /**
+     * Names of the task options that are parsed by {@link #Settings(Map)}.
+     */
+    static final List<String> OPTIONS = Collections.unmodifiableList(
+        Arrays.asList("mode", "methods", "instructions", "gzip", "cache", "cache.size", "budget")
+    );
+
+    /**
+     * Shard of the files to translate.
+     */
+    private final Shard shard;
+
+    /**
+     * Where to save shard manifests, empty means the default folder of the goal.
+     */
+    private final Optional<Path> manifests;
+
+    /**
+     * Filter of the classes to translate.
+     */
+    private final ClassFilter filter;
+
+    /**
+     * Fork settings.
+     */
+    private final Fork fork;
+
+    /**
+     * Content-addressed store of transformation results.
+     */
+    private final ContentStore store;
+
+    /**
+     * Time budget of a single file in milliseconds, zero means no budget.
+     */
+    private final long budget;
+
+    /**
+     * Disassemble mode.
+     */
+    private final DisassembleMode mode;
+
+    /**
+     * Selector of methods to disassemble into instructions.
+     */
+    private final MethodSelector selector;
+
+    /**
+     * Gzip compression level of XMIR files from 1 to 9, zero disables compression.
+     */
+    private final int gzip;
+
+    /**
+     * Constructor.
+     * All the files are translated inside the current JVM without sharding,
+     * filtering, caching, budget and compression.
+     */
+    Settings() {
+        this(
+            new Shard(),
+            Optional.empty(),
+            new ClassFilter(),
+            new Fork(),
+            new ContentStore(),
+            0L,
+            DisassembleMode.SHORT,
+            new MethodSelector(),
+            0
+        );
+    }
+
+    /**
+     * Constructor.
+     * Settings of a single file translation parsed from the task options.
+     * Classes are translated by the current thread with its context class loader.
+     * @param task Task options, see {@link #task(String, Path, Path)}.
+     */
+    Settings(final Map<String, String> task) {
+        this(
+            new Shard(),
+            Optional.empty(),
+            new ClassFilter(),
+            new Fork(
+                0,
+                1,
+                "",
+                Collections.emptyList(),
+                Thread.currentThread().getContextClassLoader()
+            ),
+            new ContentStore(
+                Settings.option(task, "cache"),
+                Settings.number(task, "cache.size")
+            ),
+            Settings.number(task, "budget"),
+            DisassembleMode.fromString(Settings.option(task, "mode")),
+            new MethodSelector(
+                Settings.option(task, "methods"),
+                (int) Settings.number(task, "instructions")
+            ),
+            (int) Settings.number(task, "gzip")
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param shard Shard of the files to translate.
+     * @param manifests Where to save shard manifests.
+     * @param filter Filter of the classes to translate.
+     * @param fork Fork settings.
+     * @param store Content-addressed store of transformation results.
+     * @param budget Time budget of a single file in milliseconds.
+     * @param mode Disassemble mode.
+     * @param selector Selector of methods to disassemble into instructions.
+     * @param gzip Gzip compression level of XMIR files.
+     * @checkstyle ParameterNumberCheck (15 lines)
+     */
+    @SuppressWarnings("PMD.ExcessiveParameterList")
+    private Settings(
+        final Shard shard,
+        final Optional<Path> manifests,
+        final ClassFilter filter,
+        final Fork fork,
+        final ContentStore store,
+        final long budget,
+        final DisassembleMode mode,
+        final MethodSelector selector,
+        final int gzip
+    ) {
+        this.shard = shard;
+        this.manifests = manifests;
+        this.filter = filter;
+        this.fork = fork;
+        this.store = store;
+        this.budget = budget;
+        this.mode = mode;
+        this.selector = selector;
+        this.gzip = gzip;
+    }
+
+    /**
+     * Settings with the shard.
+     * @param part Shard of the files to translate.
+     * @param folder Where to save shard manifests.
+     * @return New settings.
+     */
+    Settings withShard(final Shard part, final Path folder) {
+        return new Settings(
+            part, Optional.of(folder), this.filter, this.fork, this.store,
+            this.budget, this.mode, this.selector, this.gzip
+        );
+    }
+
+    /**
+     * Settings with the filter.
+     * @param classes Filter of the classes to translate.
+     * @return New settings.
+     */
+    Settings withFilter(final ClassFilter classes) {
+        return new Settings(
+            this.shard, this.manifests, classes, this.fork, this.store,
+            this.budget, this.mode, this.selector, this.gzip
+        );
+    }
+
+    /**
+     * Settings with the fork.
+     * @param forked Fork settings.
+     * @return New settings.
+     */
+    Settings withFork(final Fork forked) {
+        return new Settings(
+            this.shard, this.manifests, this.filter, forked, this.store,
+            this.budget, this.mode, this.selector, this.gzip
+        );
+    }
+
+    /**
+     * Settings with the store.
+     * @param cache Content-addressed store of transformation results.
+     * @return New settings.
+     */
+    Settings withStore(final ContentStore cache) {
+        return new Settings(
+            this.shard, this.manifests, this.filter, this.fork, cache,
+            this.budget, this.mode, this.selector, this.gzip
+        );
+    }
+
+    /**
+     * Settings with the time budget.
+     * @param millis Time budget of a single file in milliseconds, zero means no budget.
+     * @return New settings.
+     */
+    Settings withBudget(final long millis) {
+        return new Settings(
+            this.shard, this.manifests, this.filter, this.fork, this.store,
+            millis, this.mode, this.selector, this.gzip
+        );
+    }
+
+    /**
+     * Settings with the disassembling options.
+     * @param disassemble Disassemble mode.
+     * @param methods Selector of methods to disassemble into instructions.
+     * @param level Gzip compression level of XMIR files, zero disables compression.
+     * @return New settings.
+     */
+    Settings withDisassembling(
+        final DisassembleMode disassemble,
+        final MethodSelector methods,
+        final int level
+    ) {
+        return new Settings(
+            this.shard, this.manifests, this.filter, this.fork, this.store,
+            this.budget, disassemble, methods, level
+        );
+    }
+
+    /**
+     * Task of a forked worker JVM with named options.
+     * @param goal Goal name, like 'disassemble'.
+     * @param input Input folder of the goal.
+     * @param output Output folder of the goal.
+     * @return Task options.
+     */
+    Map<String, String> task(final String goal, final Path input, final Path output) {
+        final Map<String, String> task = new TreeMap<>();
+        task.put("goal", goal);
+        task.put("input", input.toString());
+        task.put("output", output.toString());
+        task.put("mode", this.mode.name().toLowerCase(Locale.ENGLISH));
+        task.put("methods", this.selector.spec());
+        task.put("instructions", String.valueOf(this.selector.instructions()));
+        task.put("gzip", String.valueOf(this.gzip));
+        task.put("cache", this.store.location());
+        task.put("cache.size", String.valueOf(this.store.capacity()));
+        task.put("budget", String.valueOf(this.budget));
+        return task;
+    }
+
+    /**
+     * Shard of the files to translate.
+     * @return Shard.
+     */
+    Shard shard() {
+        return this.shard;
+    }
+
+    /**
+     * Where to save shard manifests.
+     * @param fallback Default folder of the goal.
+     * @return Folder.
+     */
+    Path manifests(final Path fallback) {
+        return this.manifests.orElse(fallback);
+    }
+
+    /**
+     * Filter of the classes to translate.
+     * @return Filter.
+     */
+    ClassFilter filter() {
+        return this.filter;
+    }
+
+    /**
+     * Fork settings.
+     * @return Fork.
+     */
+    Fork fork() {
+        return this.fork;
+    }
+
+    /**
+     * Content-addressed store of transformation results.
+     * @return Store.
+     */
+    ContentStore store() {
+        return this.store;
+    }
+
+    /**
+     * Time budget of a single file in milliseconds, zero means no budget.
+     * @return Budget.
+     */
+    long budget() {
+        return this.budget;
+    }
+
+    /**
+     * Disassemble mode.
+     * @return Mode.
+     */
+    DisassembleMode mode() {
+        return this.mode;
+    }
+
+    /**
+     * Selector of methods to disassemble into instructions.
+     * @return Selector.
+     */
+    MethodSelector selector() {
+        return this.selector;
+    }
+
+    /**
+     * Gzip compression level of XMIR files, zero disables compression.
+     * @return Level.
+     */
+    int gzip() {
+        return this.gzip;
+    }
+
+    /**
+     * Required task option.
+     * @param task Task options.
+     * @param name Option name.
+     * @return Option value.
+     */
+    private static String option(final Map<String, String> task, final String name) {
+        final String value = task.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException(
+                String.format("The task option '%s' is missing in %s", name, task.keySet())
+            );
+        }
+        return value;
+    }
+
+    /**
+     * Required numeric task option.
+     * @param task Task options.
+     * @param name Option name.
+     * @return Option value.
+     */
+    private static long number(final Map<String, String> task, final String name) {
+        final String value = Settings.option(task, name);
+        try {
+            return Long.parseLong(value);
+        } catch (final NumberFormatException exception) {
+            throw new IllegalArgumentException(
+                String.format("The task option '%s' is not a number: '%s'", name, value),
+                exception
+            );
+        }
+    }
+}
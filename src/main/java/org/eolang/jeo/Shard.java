@@ -0,0 +1,268 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Shard of the files to process.
+ * When a project is too big to be processed on a single CI node, the work can be split
+ * between several nodes. Each node receives a shard specification in the form of 'i/n',
+ * where 'n' is the total number of nodes and 'i' is the number of the current node
+ * (starting from 1). Files are distributed between shards deterministically: they are
+ * sorted by their estimated cost (file size) and by a stable hash of their relative path,
+ * and then greedily assigned to the least loaded shard. Since all the nodes see the same
+ * input, they all compute the same partitioning without any coordination.
+ * @since 0.6
+ */
+final class Shard {
+
+    /**
+     * Current shard number, starting from 1.
+     */
+    private final int index;
+
+    /**
+     * Total number of shards.
+     */
+    private final int total;
+
+    /**
+     * Constructor.
+     * The shard that covers all the files.
+     */
+    Shard() {
+        this(1, 1);
+    }
+
+    /**
+     * Constructor.
+     * @param spec Shard specification like '2/4'.
+     */
+    Shard(final String spec) {
+        this(Shard.number(spec, 0), Shard.number(spec, 1));
+    }
+
+    /**
+     * Constructor.
+     * @param index Current shard number, starting from 1.
+     * @param total Total number of shards.
+     */
+    Shard(final int index, final int total) {
+        if (total < 1 || index < 1 || index > total) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Invalid shard '%d/%d', the shard number must be in the range [1..%d]",
+                    index,
+                    total,
+                    total
+                )
+            );
+        }
+        this.index = index;
+        this.total = total;
+    }
+
+    /**
+     * Does this shard cover all the files?
+     * @return True if there is only one shard.
+     */
+    boolean whole() {
+        return this.total == 1;
+    }
+
+    /**
+     * Select the files that belong to this shard.
+     * @param root Root directory of the files. Relative paths are computed against it.
+     * @param files All the files.
+     * @return Files of the current shard.
+     */
+    Stream<Path> select(final Path root, final Stream<Path> files) {
+        final Stream<Path> result;
+        if (this.whole()) {
+            result = files;
+        } else {
+            final List<Cost> costs = files.map(file -> new Cost(root, file))
+                .sorted(
+                    Comparator.comparingLong(Cost::size).reversed()
+                        .thenComparingLong(Cost::hash)
+                        .thenComparing(Cost::relative)
+                ).collect(Collectors.toList());
+            final long[] loads = new long[this.total];
+            final List<Path> mine = costs.stream().filter(
+                cost -> {
+                    final int lightest = IntStream.range(0, this.total)
+                        .boxed()
+                        .min(Comparator.comparingLong(shard -> loads[shard]))
+                        .orElse(0);
+                    loads[lightest] += Math.max(cost.size(), 1L);
+                    return lightest == this.index - 1;
+                }
+            ).map(Cost::path).collect(Collectors.toList());
+            files.close();
+            result = mine.stream();
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d/%d", this.index, this.total);
+    }
+
+    /**
+     * Parse a number from the shard specification.
+     * @param spec Shard specification like '2/4'.
+     * @param position Position of the number in the specification.
+     * @return Parsed number.
+     */
+    private static int number(final String spec, final int position) {
+        final String[] parts = spec.trim().split("/");
+        if (parts.length != 2) {
+            throw new IllegalArgumentException(
+                String.format(
+                    "Invalid shard specification '%s', expected format is 'i/n', e.g. '2/4'",
+                    spec
+                )
+            );
+        }
+        try {
+            return Integer.parseInt(parts[position].trim());
+        } catch (final NumberFormatException exception) {
+            throw new IllegalArgumentException(
+                String.format("Invalid shard specification '%s', numbers are expected", spec),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Estimated cost of a file.
+     * @since 0.6
+     */
+    private static final class Cost {
+
+        /**
+         * File.
+         */
+        private final Path file;
+
+        /**
+         * Relative path with '/' separators.
+         */
+        private final String rel;
+
+        /**
+         * File size.
+         */
+        private final long bytes;
+
+        /**
+         * Stable hash of the relative path.
+         */
+        private final long crc;
+
+        /**
+         * Constructor.
+         * @param root Root directory.
+         * @param file File.
+         */
+        Cost(final Path root, final Path file) {
+            this.file = file;
+            this.rel = root.relativize(file).toString().replace(File.separatorChar, '/');
+            this.bytes = Cost.sizeOf(file);
+            this.crc = Cost.checksum(this.rel);
+        }
+
+        /**
+         * File path.
+         * @return Path.
+         */
+        Path path() {
+            return this.file;
+        }
+
+        /**
+         * Relative path.
+         * @return Relative path with '/' separators.
+         */
+        String relative() {
+            return this.rel;
+        }
+
+        /**
+         * File size.
+         * @return Size in bytes.
+         */
+        long size() {
+            return this.bytes;
+        }
+
+        /**
+         * Stable hash of the relative path.
+         * It doesn't depend on the JVM or on the operating system.
+         * @return Hash.
+         */
+        long hash() {
+            return this.crc;
+        }
+
+        /**
+         * CRC32 checksum of the string.
+         * @param text String.
+         * @return Checksum.
+         */
+        private static long checksum(final String text) {
+            final CRC32 crc = new CRC32();
+            crc.update(text.getBytes(StandardCharsets.UTF_8));
+            return crc.getValue();
+        }
+
+        /**
+         * Size of the file.
+         * @param file File.
+         * @return Size in bytes.
+         */
+        private static long sizeOf(final Path file) {
+            try {
+                return Files.size(file);
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't estimate the cost of '%s'", file),
+                    exception
+                );
+            }
+        }
+    }
+}
@@ -0,0 +1,247 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Shard manifests.
+ * Reconciles manifests written by all the shards of a goal into a single manifest.
+ * @since 0.6
+ */
+final class ShardManifests {
+
+    /**
+     * Manifest file name pattern.
+     */
+    private static final Pattern NAME = Pattern.compile("(.+)-(\\d+)-of-(\\d+)\\.txt");
+
+    /**
+     * Directory with manifests.
+     */
+    private final Path dir;
+
+    /**
+     * Constructor.
+     * @param dir Directory with manifests.
+     */
+    ShardManifests(final Path dir) {
+        this.dir = dir;
+    }
+
+    /**
+     * Merge manifests of all the goals.
+     * For each goal it checks that all the shards have finished their work,
+     * that none of the files was produced twice, and that all the produced files
+     * are present in the shared output layout.
+     * @return Number of merged goals.
+     */
+    int merge() {
+        final Map<String, List<Path>> goals = this.goals();
+        goals.forEach(this::merge);
+        return goals.size();
+    }
+
+    /**
+     * Merge manifests of a single goal.
+     * @param goal Goal name.
+     * @param manifests Shard manifests of the goal.
+     */
+    private void merge(final String goal, final List<Path> manifests) {
+        final Set<Integer> totals = manifests.stream()
+            .map(ShardManifests::total)
+            .collect(Collectors.toSet());
+        if (totals.size() != 1) {
+            throw new IllegalStateException(
+                String.format(
+                    "Shards of the '%s' goal were run with a different number of nodes: %s",
+                    goal,
+                    totals
+                )
+            );
+        }
+        final int total = totals.iterator().next();
+        final Set<Integer> present = manifests.stream()
+            .map(ShardManifests::index)
+            .collect(Collectors.toSet());
+        final List<Integer> missing = IntStream.rangeClosed(1, total)
+            .filter(shard -> !present.contains(shard))
+            .boxed()
+            .collect(Collectors.toList());
+        if (!missing.isEmpty()) {
+            throw new IllegalStateException(
+                String.format(
+                    "Manifests of the shards %s of %d are missing for the '%s' goal in '%s'",
+                    missing,
+                    total,
+                    goal,
+                    this.dir
+                )
+            );
+        }
+        final Set<String> files = new TreeSet<>();
+        final Set<String> outputs = new TreeSet<>();
+        for (final Path manifest : manifests) {
+            final List<String> lines = ShardManifests.lines(manifest);
+            final String output = lines.get(1).substring(Sharded.OUTPUT.length());
+            outputs.add(output);
+            for (final String file : lines.subList(2, lines.size())) {
+                if (!files.add(file)) {
+                    throw new IllegalStateException(
+                        String.format(
+                            "The file '%s' was produced by more than one shard of the '%s' goal",
+                            file,
+                            goal
+                        )
+                    );
+                }
+                if (!Files.exists(Paths.get(output).resolve(file))) {
+                    throw new IllegalStateException(
+                        String.format(
+                            "The file '%s' listed in '%s' is absent in the output directory '%s'",
+                            file,
+                            manifest,
+                            output
+                        )
+                    );
+                }
+            }
+        }
+        final List<String> merged = new ArrayList<>(files.size() + outputs.size() + 1);
+        merged.add(String.format("%s%d", Sharded.SHARD, total));
+        outputs.forEach(output -> merged.add(String.format("%s%s", Sharded.OUTPUT, output)));
+        merged.addAll(files);
+        final Path target = this.dir.resolve(String.format("%s.txt", goal));
+        try {
+            Files.write(target, merged, StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't save merged manifest '%s'", target),
+                exception
+            );
+        }
+        Logger.info(
+            this,
+            "Manifests of %d shards of the '%s' goal were merged into '%[file]s', %d files in total",
+            total,
+            goal,
+            target,
+            files.size()
+        );
+    }
+
+    /**
+     * Find all shard manifests grouped by goal.
+     * @return Manifests grouped by goal.
+     */
+    private Map<String, List<Path>> goals() {
+        if (!Files.isDirectory(this.dir)) {
+            throw new IllegalStateException(
+                String.format("The directory with shard manifests '%s' does not exist", this.dir)
+            );
+        }
+        try (Stream<Path> all = Files.list(this.dir)) {
+            return all.filter(path -> ShardManifests.matcher(path).matches())
+                .collect(
+                    Collectors.groupingBy(
+                        path -> ShardManifests.matcher(path).replaceFirst("$1"),
+                        TreeMap::new,
+                        Collectors.toList()
+                    )
+                );
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read shard manifests from '%s'", this.dir),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Shard number of the manifest.
+     * @param manifest Manifest path.
+     * @return Shard number.
+     */
+    private static int index(final Path manifest) {
+        return Integer.parseInt(ShardManifests.matcher(manifest).replaceFirst("$2"));
+    }
+
+    /**
+     * Total number of shards of the manifest.
+     * @param manifest Manifest path.
+     * @return Total number of shards.
+     */
+    private static int total(final Path manifest) {
+        return Integer.parseInt(ShardManifests.matcher(manifest).replaceFirst("$3"));
+    }
+
+    /**
+     * Manifest name matcher.
+     * @param manifest Manifest path.
+     * @return Matcher.
+     */
+    private static Matcher matcher(final Path manifest) {
+        return ShardManifests.NAME.matcher(manifest.getFileName().toString());
+    }
+
+    /**
+     * Read manifest lines.
+     * @param manifest Manifest path.
+     * @return Lines.
+     */
+    private static List<String> lines(final Path manifest) {
+        try {
+            final List<String> lines = Files.readAllLines(manifest, StandardCharsets.UTF_8);
+            if (lines.size() < 2
+                || !lines.get(0).startsWith(Sharded.SHARD)
+                || !lines.get(1).startsWith(Sharded.OUTPUT)) {
+                throw new IllegalStateException(
+                    String.format("The shard manifest '%s' is broken", manifest)
+                );
+            }
+            return lines;
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read shard manifest '%s'", manifest),
+                exception
+            );
+        }
+    }
+}
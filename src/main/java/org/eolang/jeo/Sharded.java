@@ -0,0 +1,172 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Translator that processes only the files of a single shard.
+ * When the stream is closed, it writes a shard manifest that lists all the produced files.
+ * Manifests of all the shards are reconciled later by the {@link MergeMojo}.
+ * @since 0.6
+ */
+public final class Sharded implements Translator {
+
+    /**
+     * Manifest header that contains the shard specification.
+     */
+    static final String SHARD = "shard ";
+
+    /**
+     * Manifest header that contains the output directory.
+     */
+    static final String OUTPUT = "output ";
+
+    /**
+     * Goal name.
+     */
+    private final String goal;
+
+    /**
+     * Current shard.
+     */
+    private final Shard shard;
+
+    /**
+     * Root directory of the input files.
+     */
+    private final Path input;
+
+    /**
+     * Root directory of the output files.
+     */
+    private final Path output;
+
+    /**
+     * Directory where to save the manifest.
+     */
+    private final Path manifests;
+
+    /**
+     * Original translator.
+     */
+    private final Translator original;
+
+    /**
+     * Constructor.
+     * @param goal Goal name, like 'disassemble'.
+     * @param shard Current shard.
+     * @param input Root directory of the input files.
+     * @param output Root directory of the output files.
+     * @param manifests Directory where to save the manifest.
+     * @param original Original translator.
+     * @checkstyle ParameterNumberCheck (5 lines)
+     */
+    Sharded(
+        final String goal,
+        final Shard shard,
+        final Path input,
+        final Path output,
+        final Path manifests,
+        final Translator original
+    ) {
+        this.goal = goal;
+        this.shard = shard;
+        this.input = input;
+        this.output = output;
+        this.manifests = manifests;
+        this.original = original;
+    }
+
+    @Override
+    public Stream<Path> apply(final Stream<Path> representations) {
+        final Stream<Path> result;
+        if (this.shard.whole()) {
+            result = this.original.apply(representations);
+        } else {
+            final Collection<Path> produced = new ConcurrentLinkedQueue<>();
+            result = this.original.apply(this.shard.select(this.input, representations))
+                .peek(produced::add)
+                .onClose(() -> this.save(produced));
+        }
+        return result;
+    }
+
+    /**
+     * Manifest file name.
+     * @return File name.
+     */
+    String manifest() {
+        return String.format(
+            "%s-%s.txt",
+            this.goal,
+            this.shard.toString().replace("/", "-of-")
+        );
+    }
+
+    /**
+     * Save the shard manifest.
+     * @param produced All the files produced by the current shard.
+     */
+    private void save(final Collection<Path> produced) {
+        final Path path = this.manifests.resolve(this.manifest());
+        final List<String> lines = new ArrayList<>(produced.size() + 2);
+        lines.add(String.format("%s%s", Sharded.SHARD, this.shard));
+        lines.add(String.format("%s%s", Sharded.OUTPUT, this.output.toAbsolutePath()));
+        lines.addAll(
+            produced.stream()
+                .map(file -> this.output.relativize(file).toString())
+                .map(file -> file.replace(File.separatorChar, '/'))
+                .sorted()
+                .collect(Collectors.toList())
+        );
+        try {
+            Files.createDirectories(this.manifests);
+            Files.write(path, lines, StandardCharsets.UTF_8);
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't save shard manifest '%s'", path),
+                exception
+            );
+        }
+        Logger.info(
+            this,
+            "Shard %s processed %d files, the manifest is saved to '%[file]s'",
+            this.shard,
+            produced.size(),
+            path
+        );
+    }
+}
@@ -25,7 +25,9 @@ package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
 import java.nio.file.Path;
+import java.util.Collection;
 import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
 /**
@@ -95,16 +97,38 @@ public final class Summary implements Translator {
         );
         final long start = System.currentTimeMillis();
         final AtomicInteger counter = new AtomicInteger();
+        final Metrics metrics = Metrics.current();
         return this.original.apply(representations)
             .peek(rep -> counter.incrementAndGet())
             .onClose(
-                () -> Logger.info(
-                    this,
-                    "Total %d files were %s in %[ms]s",
-                    counter.get(),
-                    this.participle,
-                    System.currentTimeMillis() - start
-                )
+                () -> {
+                    Logger.info(
+                        this,
+                        "Total %d files were %s in %[ms]s",
+                        counter.get(),
+                        this.participle,
+                        System.currentTimeMillis() - start
+                    );
+                    this.overdue(metrics.overdue());
+                }
             );
     }
+
+    /**
+     * Report files that exceeded their time budget.
+     * @param overdue Source files.
+     */
+    private void overdue(final Collection<Path> overdue) {
+        if (!overdue.isEmpty()) {
+            Logger.warn(
+                this,
+                "%d files exceeded the time budget and were passed through unchanged: %s",
+                overdue.size(),
+                overdue.stream()
+                    .map(Path::toString)
+                    .sorted()
+                    .collect(Collectors.joining(", "))
+            );
+        }
+    }
 }
@@ -23,9 +23,12 @@
  */
 package org.eolang.jeo;
 
+import com.jcabi.xml.XML;
 import java.io.FileNotFoundException;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Path;
+import org.eolang.jeo.jfr.Flight;
+import org.eolang.jeo.jfr.JeoEvent;
 import org.eolang.jeo.representation.CanonicalXmir;
 
 /**
@@ -74,10 +77,15 @@ public final class Unroll implements Transformation {
     @Override
     public byte[] transform() {
         try {
-            return new CanonicalXmir(this.xmir)
-                .plain()
-                .toString()
-                .getBytes(StandardCharsets.UTF_8);
+            final Flight flight = JeoEvent.UNROLL.start();
+            final long start = System.nanoTime();
+            final XML plain = new CanonicalXmir(this.xmir).plain();
+            Metrics.current().phase("unroll", start);
+            final long serialization = System.nanoTime();
+            final byte[] result = plain.toString().getBytes(StandardCharsets.UTF_8);
+            Metrics.current().phase("serialize", serialization);
+            flight.file(this.xmir).sizes(this.xmir.toFile().length(), result.length).end();
+            return result;
         } catch (final FileNotFoundException exception) {
             throw new IllegalStateException(
                 String.format(
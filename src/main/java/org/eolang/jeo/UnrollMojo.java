@@ -25,6 +25,9 @@ package org.eolang.jeo;
 
 import com.jcabi.log.Logger;
 import java.io.File;
+import java.util.Collections;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
 import org.apache.maven.plugin.AbstractMojo;
 import org.apache.maven.plugins.annotations.LifecyclePhase;
 import org.apache.maven.plugins.annotations.Mojo;
@@ -35,7 +38,7 @@ import org.apache.maven.plugins.annotations.Parameter;
  * In other words, it makes XMIR understandable by jeo-maven-plugin after PHI/UNPHI transformations.
  * @since 0.6
  */
-@Mojo(name = "unroll-phi", defaultPhase = LifecyclePhase.PROCESS_CLASSES)
+@Mojo(name = "unroll-phi", defaultPhase = LifecyclePhase.PROCESS_CLASSES, threadSafe = true)
 public final class UnrollMojo extends AbstractMojo {
 
     /**
@@ -62,16 +65,144 @@ public final class UnrollMojo extends AbstractMojo {
     )
     private File outputDir;
 
+    /**
+     * Shard of the files to process on the current node.
+     * Format is 'i/n', where 'n' is the total number of nodes and 'i' is
+     * the number of the current node starting from 1. By default, all the files
+     * are processed on a single node.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.shard", defaultValue = "1/1")
+    private String shard;
+
+    /**
+     * Filter of the classes to unroll.
+     * Comma-separated list of Ant-style patterns of class names, like
+     * 'com.acme.engine.**, !**.*Dto'. Patterns with the '!' prefix exclude classes.
+     * XMIR files of excluded classes are copied as they are.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.filter", defaultValue = "**")
+    private String filter;
+
+    /**
+     * Directory where to save shard manifests.
+     * Manifests of all the shards are reconciled by the 'merge' goal.
+     *
+     * @since 0.6
+     */
+    @Parameter(
+        property = "jeo.shard.manifests",
+        defaultValue = "${project.build.directory}/jeo-shards"
+    )
+    private File manifests;
+
+    /**
+     * Number of forked worker JVMs.
+     * If it's greater than zero, files are dispatched in batches to a pool of
+     * forked worker JVMs instead of being processed inside the Maven JVM.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.fork.workers", defaultValue = "0")
+    private int workers;
+
+    /**
+     * Number of files in a single batch sent to a forked worker JVM.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.fork.batch", defaultValue = "16")
+    private int batch;
+
+    /**
+     * JVM options of each forked worker, like heap and stack sizes or GC flags.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.fork.jvm", defaultValue = "-Xmx1g -Xss256m")
+    private String jvm;
+
+    /**
+     * Directory where to save performance metrics of the goal.
+     * Metrics of each goal are saved to the '&lt;goal&gt;.json' file.
+     *
+     * @since 0.6
+     */
+    @Parameter(
+        property = "jeo.metrics",
+        defaultValue = "${project.build.directory}/jeo-metrics"
+    )
+    private File metrics;
+
+    /**
+     * Directory of the content-addressed store of transformation results shared
+     * between projects and worktrees, for example '~/.m2/jeo-cache'.
+     * The store is disabled if the directory is not set.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.cache")
+    private File cache;
+
+    /**
+     * Maximum size of the content-addressed store in megabytes.
+     * Least recently used results are removed when the store grows bigger.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.cache.size", defaultValue = "1024")
+    private long size;
+
+    /**
+     * Time budget of a single file in milliseconds.
+     * If the transformation of a file takes longer, it's interrupted and
+     * the original XMIR file is copied to the output directory as it is.
+     * Such files are listed in the summary and in the metrics of the goal.
+     * Zero means no budget.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.budget", defaultValue = "0")
+    private long budget;
+
     @Override
     @SuppressWarnings("PMD.GuardLogStatement")
     public void execute() {
         Logger.info(this, "Unrolling PHI/UNPHI transformations");
         final long start = System.currentTimeMillis();
-        final long count = new Unroller(this.sourcesDir.toPath(), this.outputDir.toPath()).unroll();
+        final AtomicLong count = new AtomicLong();
+        final Metrics measured = new Metrics("unroll-phi");
+        measured.record(
+            () -> new Scans().within(
+                () -> count.set(
+                    new Unroller(
+                        this.sourcesDir.toPath(),
+                        this.outputDir.toPath(),
+                        new Settings()
+                            .withShard(new Shard(this.shard), this.manifests.toPath())
+                            .withFilter(new ClassFilter(this.filter))
+                            .withFork(
+                                new Fork(this.workers, this.batch, this.jvm, Collections.emptyList())
+                            )
+                            .withStore(
+                                new ContentStore(
+                                    Optional.ofNullable(this.cache).map(File::toString).orElse(""),
+                                    this.size * 1024 * 1024
+                                )
+                            )
+                            .withBudget(this.budget)
+                    ).unroll()
+                )
+            )
+        );
+        measured.save(this.metrics.toPath());
         Logger.info(
             this,
             "Total %d PHI/UNPHI transformations were unrolled in %[ms]s",
-            count,
+            count.get(),
             System.currentTimeMillis() - start
         );
     }
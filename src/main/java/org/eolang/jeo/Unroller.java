@@ -27,7 +27,13 @@ import com.jcabi.log.Logger;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
+import org.eolang.jeo.representation.Gzip;
 
 /**
  * Unroller.
@@ -48,14 +54,31 @@ final class Unroller {
      */
     private final Path target;
 
+    /**
+     * Settings of the goal.
+     * XMIR files of the classes excluded by the filter are copied as they are.
+     */
+    private final Settings settings;
+
     /**
      * Constructor.
      * @param source Directory with XMIR files that were changed by `phi/unphi` transformations.
      * @param target Target directory where unrolled XMIR files will be saved.
      */
     Unroller(final Path source, final Path target) {
+        this(source, target, new Settings());
+    }
+
+    /**
+     * Constructor.
+     * @param source Directory with XMIR files that were changed by `phi/unphi` transformations.
+     * @param target Target directory where unrolled XMIR files will be saved.
+     * @param settings Settings of the goal.
+     */
+    Unroller(final Path source, final Path target, final Settings settings) {
         this.source = source;
         this.target = target;
+        this.settings = settings;
     }
 
     /**
@@ -63,31 +86,67 @@ final class Unroller {
      * @return The number of unrolled XMIR files.
      */
     long unroll() {
-        try (Stream<Path> xmirs = Files.walk(this.source)) {
-            return xmirs.filter(Unroller::isXmir)
-                .parallel()
-                .peek(this::unroll)
-                .count();
-        } catch (final IOException exception) {
+        if (!Files.isDirectory(this.source)) {
             throw new IllegalStateException(
-                String.format(
-                    "Failed to unroll XMIR files from '%s' directory to '%s'",
-                    this.source,
-                    this.target
-                ),
-                exception
+                String.format("Failed to read XMIR files from '%s' directory", this.source)
             );
         }
+        final Scans scans = Scans.current();
+        scans.include(this.target);
+        final List<Path> all = scans.files(this.source)
+            .filter(Gzip::xmir)
+            .collect(Collectors.toList());
+        final ClassFilter filter = this.settings.filter();
+        if (!filter.all()) {
+            final long copied = all.stream()
+                .filter(xmir -> !filter.accepts(this.source, xmir))
+                .map(this::copy)
+                .collect(Collectors.toList())
+                .size();
+            Logger.info(
+                this,
+                "%d XMIR files excluded by '%s' were copied as they are",
+                copied,
+                filter
+            );
+        }
+        try (
+            Stream<Path> xmirs = new Summary(
+                "Unrolling",
+                "unrolled",
+                this.source,
+                this.target,
+                new Sharded(
+                    "unroll-phi",
+                    this.settings.shard(),
+                    this.source,
+                    this.target,
+                    this.settings.manifests(this.target),
+                    this.settings.fork().translator(
+                        this::unroll,
+                        this.settings.task("unroll-phi", this.source, this.target)
+                    )
+                )
+            ).apply(filter.select(this.source, all.stream()))
+        ) {
+            return xmirs.collect(Collectors.toList()).size();
+        }
     }
 
     /**
      * Unrolls the XMIR file.
      * @param xmir The path to the XMIR file.
+     * @return The path to the unrolled XMIR file.
      */
-    private void unroll(final Path xmir) {
-        this.prepareThread();
-        final Transformation trans = new Caching(
-            new Unroll(this.source, this.target, xmir)
+    Path unroll(final Path xmir) {
+        final Transformation trans = new Budgeted(
+            new Caching(
+                new Unroll(this.source, this.target, xmir),
+                this.settings.store(),
+                "unroll-phi"
+            ),
+            this.settings.budget(),
+            Passthrough.COPY
         );
         final Path output = trans.target();
         Logger.info(this, "Unrolling XMIR file '%s' to '%s'", xmir, output);
@@ -100,31 +159,31 @@ final class Unroller {
             output.getFileName(),
             end
         );
+        return output;
     }
 
     /**
-     * Prepares the thread for unrolling.
-     * ATTENTION! DO NOT REMOVE THIS METHOD!
-     * This method was added to solve the problem with class loading during the unrolling process.
-     * Since we unroll files in parallel, we need to set the context class loader for each thread.
-     * Otherwise, the class loader won't be able to find `net.sf.saxon.TransformerFactoryImpl`.
-     * This method is a workaround for the problem with class loading during the unrolling process.
+     * Copy the XMIR file to the target directory as it is.
+     * @param xmir XMIR file.
+     * @return Copied file.
      */
-    @SuppressWarnings("PMD.UseProperClassLoader")
-    private void prepareThread() {
-        System.setProperty(
-            "javax.xml.transform.TransformerFactory",
-            "net.sf.saxon.TransformerFactoryImpl"
-        );
-        Thread.currentThread().setContextClassLoader(this.getClass().getClassLoader());
-    }
-
-    /**
-     * Checks if the file is an XMIR file.
-     * @param path The path to the file.
-     * @return True if the file is an XMIR file, false otherwise.
-     */
-    private static boolean isXmir(final Path path) {
-        return Files.isRegularFile(path) && path.toString().endsWith(".xmir");
+    private Path copy(final Path xmir) {
+        final Path output = this.target.resolve(this.source.relativize(xmir));
+        final Scans scans = Scans.current();
+        try {
+            final Optional<FileTime> copied = scans.modified(output);
+            if (!copied.isPresent()
+                || copied.get().compareTo(scans.modified(xmir).get()) < 0) {
+                Files.createDirectories(output.getParent());
+                Files.copy(xmir, output, StandardCopyOption.REPLACE_EXISTING);
+                scans.written(output, scans.size(xmir));
+            }
+            return output;
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Failed to copy XMIR file '%s' to '%s'", xmir, output),
+                exception
+            );
+        }
     }
 }
@@ -0,0 +1,167 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * Results of previous bytecode verifications.
+ * It remembers the fingerprints of the classes that passed verification, so
+ * the next run can skip them if neither their bytes nor their super types changed.
+ * Each line of the file is a class name and its fingerprint separated by a tab.
+ * @since 0.6
+ */
+final class VerificationCache {
+
+    /**
+     * Separator between a class name and its fingerprint.
+     */
+    private static final String SEPARATOR = "\t";
+
+    /**
+     * File with the results, empty if results are kept only in memory.
+     */
+    private final Optional<Path> file;
+
+    /**
+     * Fingerprints of the classes that passed verification.
+     */
+    private final Unchecked<Map<String, String>> passed;
+
+    /**
+     * Constructor.
+     * Results are kept only in memory.
+     */
+    VerificationCache() {
+        this(Optional.empty());
+    }
+
+    /**
+     * Constructor.
+     * @param file File with the results.
+     */
+    VerificationCache(final Path file) {
+        this(Optional.of(file));
+    }
+
+    /**
+     * Constructor.
+     * @param file File with the results, empty if results are kept only in memory.
+     */
+    private VerificationCache(final Optional<Path> file) {
+        this.file = file;
+        this.passed = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> VerificationCache.load(file)))
+        );
+    }
+
+    /**
+     * Did the class with the same fingerprint pass verification before?
+     * @param name Class name.
+     * @param fingerprint Fingerprint of the class.
+     * @return True if it did.
+     */
+    boolean passed(final String name, final String fingerprint) {
+        return fingerprint.equals(this.passed.value().get(name));
+    }
+
+    /**
+     * Remember that the class passed verification.
+     * @param name Class name.
+     * @param fingerprint Fingerprint of the class.
+     */
+    void pass(final String name, final String fingerprint) {
+        this.passed.value().put(name, fingerprint);
+    }
+
+    /**
+     * Forget the class, since it failed verification.
+     * @param name Class name.
+     */
+    void fail(final String name) {
+        this.passed.value().remove(name);
+    }
+
+    /**
+     * Save the results to the file.
+     */
+    void save() {
+        if (this.file.isPresent()) {
+            final Path path = this.file.get();
+            try {
+                Files.createDirectories(path.toAbsolutePath().getParent());
+                Files.write(
+                    path,
+                    this.passed.value().entrySet().stream()
+                        .map(
+                            entry -> String.join(
+                                VerificationCache.SEPARATOR, entry.getKey(), entry.getValue()
+                            )
+                        )
+                        .sorted()
+                        .collect(Collectors.toList()),
+                    StandardCharsets.UTF_8
+                );
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't save verification results to '%s'", path),
+                    exception
+                );
+            }
+        }
+    }
+
+    /**
+     * Load results from the file.
+     * @param file File with the results.
+     * @return Fingerprints by class names.
+     */
+    private static Map<String, String> load(final Optional<Path> file) {
+        final Map<String, String> result = new ConcurrentHashMap<>(0);
+        if (file.isPresent() && Files.exists(file.get())) {
+            try (Stream<String> lines = Files.lines(file.get(), StandardCharsets.UTF_8)) {
+                lines.map(line -> line.split(VerificationCache.SEPARATOR))
+                    .filter(parts -> parts.length == 2)
+                    .forEach(parts -> result.put(parts[0], parts[1]));
+            } catch (final IOException exception) {
+                throw new IllegalStateException(
+                    String.format("Can't read verification results from '%s'", file.get()),
+                    exception
+                );
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.File;
+import java.io.IOException;
+import org.apache.maven.artifact.DependencyResolutionRequiredException;
+import org.apache.maven.execution.MavenSession;
+import org.apache.maven.plugin.AbstractMojo;
+import org.apache.maven.plugin.MojoExecutionException;
+import org.apache.maven.plugins.annotations.Mojo;
+import org.apache.maven.plugins.annotations.Parameter;
+import org.apache.maven.project.MavenProject;
+
+/**
+ * Watches classes and XMIR files and re-transforms them when they change.
+ * Changed classes are disassembled and changed XMIR files are assembled.
+ * The goal keeps the JVM warm, so only the touched files are transformed
+ * and all the caches stay alive between changes.
+ * The goal runs until Maven is stopped, for example, by Ctrl+C.
+ *
+ * @since 0.6
+ */
+@Mojo(name = "watch", threadSafe = true)
+public final class WatchMojo extends AbstractMojo {
+
+    /**
+     * Maven project.
+     *
+     * @since 0.6
+     */
+    @Parameter(defaultValue = "${project}", required = true, readonly = true)
+    private MavenProject project;
+
+    /**
+     * Maven session.
+     * Warm state, like opened jar files and indexes of folders of other modules,
+     * is shared by all the executions of the session.
+     *
+     * @since 0.6
+     */
+    @Parameter(defaultValue = "${session}", required = true, readonly = true)
+    private MavenSession session;
+
+    /**
+     * Directory with classes.
+     *
+     * @since 0.6
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.watch.classesDir",
+        defaultValue = "${project.build.outputDirectory}"
+    )
+    private File classesDir;
+
+    /**
+     * Directory with XMIR files.
+     *
+     * @since 0.6
+     * @checkstyle MemberNameCheck (6 lines)
+     */
+    @Parameter(
+        property = "jeo.watch.xmirDir",
+        defaultValue = "${project.build.directory}/generated-sources/jeo-xmir"
+    )
+    private File xmirDir;
+
+    /**
+     * How long the directories should be quiet before the changed files are
+     * transformed, in milliseconds.
+     * All the files changed during this period are transformed in a single batch.
+     *
+     * @since 0.6
+     */
+    @Parameter(property = "jeo.watch.debounce", defaultValue = "200")
+    private long debounce;
+
+    @Override
+    public void execute() throws MojoExecutionException {
+        try {
+            final PluginStartup startup = new PluginStartup(
+                this.project, SessionCache.of(this.session), this.classesDir.toPath()
+            );
+            try (Watcher watcher = new Watcher(
+                this.classesDir.toPath(),
+                this.xmirDir.toPath(),
+                this.debounce,
+                startup::loader
+            )) {
+                Logger.info(
+                    this,
+                    "Watching '%s' and '%s' for changes, press Ctrl+C to stop",
+                    this.classesDir,
+                    this.xmirDir
+                );
+                while (!Thread.currentThread().isInterrupted()) {
+                    watcher.step(1000L);
+                }
+            }
+        } catch (final InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            Logger.info(this, "Watching is stopped");
+        } catch (final DependencyResolutionRequiredException | IOException exception) {
+            throw new MojoExecutionException(exception);
+        }
+    }
+}
@@ -0,0 +1,295 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import java.nio.file.FileSystems;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardWatchEventKinds;
+import java.nio.file.WatchEvent;
+import java.nio.file.WatchKey;
+import java.nio.file.WatchService;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eolang.jeo.representation.Gzip;
+
+/**
+ * Watcher of classes and XMIR directories.
+ * It disassembles changed class files and assembles changed XMIR files.
+ * Bursts of events are debounced: the watcher waits until the directories are
+ * quiet for a while and then transforms all the touched files in a single batch.
+ * Files written by the watcher itself are ignored, so disassembling a class
+ * doesn't trigger assembling of the same class back.
+ * A file that fails to transform, like a half-edited XMIR, is reported and
+ * skipped, and the watcher goes on: it will be transformed once it's fixed.
+ * @since 0.6
+ */
+final class Watcher implements AutoCloseable {
+
+    /**
+     * Directory with classes.
+     */
+    private final Path classes;
+
+    /**
+     * Directory with XMIR files.
+     */
+    private final Path xmir;
+
+    /**
+     * How long the directories should be quiet before the batch starts, in milliseconds.
+     */
+    private final long debounce;
+
+    /**
+     * Class loader of each batch, for example, a fresh one with the latest classes.
+     */
+    private final Supplier<? extends ClassLoader> loader;
+
+    /**
+     * Watch service.
+     */
+    private final WatchService service;
+
+    /**
+     * Watched directories by their keys.
+     */
+    private final Map<WatchKey, Path> keys;
+
+    /**
+     * Files written by the watcher with their modification times.
+     */
+    private final Map<Path, FileTime> written;
+
+    /**
+     * Constructor.
+     * @param classes Directory with classes.
+     * @param xmir Directory with XMIR files.
+     * @param debounce How long the directories should be quiet, in milliseconds.
+     * @param loader Class loader of each batch.
+     * @throws IOException If the directories can't be watched.
+     */
+    Watcher(
+        final Path classes,
+        final Path xmir,
+        final long debounce,
+        final Supplier<? extends ClassLoader> loader
+    ) throws IOException {
+        this.classes = classes;
+        this.xmir = xmir;
+        this.debounce = debounce;
+        this.loader = loader;
+        this.service = FileSystems.getDefault().newWatchService();
+        this.keys = new ConcurrentHashMap<>(0);
+        this.written = new ConcurrentHashMap<>(0);
+        Files.createDirectories(classes);
+        Files.createDirectories(xmir);
+        this.register(classes);
+        this.register(xmir);
+    }
+
+    /**
+     * Wait for changes and transform all the touched files.
+     * @param timeout How long to wait for the first change, in milliseconds.
+     * @return Number of transformed files.
+     * @throws InterruptedException If the thread is interrupted.
+     */
+    int step(final long timeout) throws InterruptedException {
+        final Set<Path> touched = new TreeSet<>();
+        WatchKey key = this.service.poll(timeout, TimeUnit.MILLISECONDS);
+        while (key != null) {
+            this.collect(key, touched);
+            key = this.service.poll(this.debounce, TimeUnit.MILLISECONDS);
+        }
+        final Set<Path> changed = touched.stream()
+            .filter(this::changed)
+            .collect(Collectors.toCollection(TreeSet::new));
+        if (!changed.isEmpty()) {
+            Logger.info(this, "%d files changed, transforming them", changed.size());
+            final long start = System.currentTimeMillis();
+            final Set<Path> failed = new ConcurrentSkipListSet<>();
+            final long done = new ParallelTranslator(
+                path -> this.transform(path, failed), this.loader.get()
+            ).apply(changed.stream()).collect(Collectors.toList()).size() - failed.size();
+            Logger.info(
+                this,
+                "%d files were transformed in %[ms]s, %d failed",
+                done,
+                System.currentTimeMillis() - start,
+                failed.size()
+            );
+        }
+        return changed.size();
+    }
+
+    @Override
+    public void close() throws IOException {
+        this.service.close();
+    }
+
+    /**
+     * Collect touched files from the key.
+     * New directories are registered as well.
+     * @param key Watch key.
+     * @param touched Touched files.
+     */
+    private void collect(final WatchKey key, final Set<Path> touched) {
+        final Path dir = this.keys.get(key);
+        for (final WatchEvent<?> event : key.pollEvents()) {
+            if (dir != null && event.kind() != StandardWatchEventKinds.OVERFLOW) {
+                final Path path = dir.resolve((Path) event.context());
+                if (Files.isDirectory(path)) {
+                    this.register(path);
+                    try (Stream<Path> walk = Files.walk(path)) {
+                        walk.filter(Files::isRegularFile).forEach(touched::add);
+                    } catch (final IOException exception) {
+                        Logger.warn(this, "Can't walk the new directory '%s': %s", path, exception);
+                    }
+                } else {
+                    touched.add(path);
+                }
+            }
+        }
+        if (!key.reset()) {
+            this.keys.remove(key);
+        }
+    }
+
+    /**
+     * Was the file changed by somebody else, not by the watcher?
+     * @param path File.
+     * @return True if it was.
+     */
+    private boolean changed(final Path path) {
+        boolean result = Files.isRegularFile(path) && (Watcher.isClass(path) || Watcher.isXmir(path));
+        if (result) {
+            try {
+                result = !Files.getLastModifiedTime(path).equals(this.written.get(path));
+            } catch (final IOException exception) {
+                result = false;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Transform the changed file and report the failure if it can't be transformed.
+     * @param path Changed file.
+     * @param failed Files that failed to transform.
+     * @return Transformed file or the changed file itself if it failed.
+     * @checkstyle IllegalCatchCheck (20 lines)
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private Path transform(final Path path, final Set<Path> failed) {
+        Path result;
+        try {
+            result = this.transform(path);
+        } catch (final RuntimeException exception) {
+            Logger.error(
+                this,
+                "Can't transform '%s', it's skipped until the next change: %[exception]s",
+                path,
+                exception
+            );
+            failed.add(path);
+            result = path;
+        }
+        return result;
+    }
+
+    /**
+     * Transform the changed file.
+     * @param path Changed file.
+     * @return Transformed file.
+     */
+    private Path transform(final Path path) {
+        final Path result;
+        if (path.startsWith(this.classes) && Watcher.isClass(path)) {
+            result = new Disassembler(this.classes, this.xmir).disassemble(path);
+        } else {
+            result = new Assembler(this.xmir, this.classes).assemble(path);
+        }
+        try {
+            this.written.put(result, Files.getLastModifiedTime(result));
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read the modification time of '%s'", result),
+                exception
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Register the directory and all its subdirectories.
+     * @param root Directory.
+     */
+    private void register(final Path root) {
+        try (Stream<Path> walk = Files.walk(root)) {
+            for (final Path dir : walk.filter(Files::isDirectory).collect(Collectors.toList())) {
+                this.keys.put(
+                    dir.register(
+                        this.service,
+                        StandardWatchEventKinds.ENTRY_CREATE,
+                        StandardWatchEventKinds.ENTRY_MODIFY
+                    ),
+                    dir
+                );
+            }
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't watch the directory '%s'", root),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Is it a class file?
+     * @param path File.
+     * @return True if it is.
+     */
+    private static boolean isClass(final Path path) {
+        return path.getFileName().toString().endsWith(".class");
+    }
+
+    /**
+     * Is it an XMIR file?
+     * @param path File.
+     * @return True if it is.
+     */
+    private static boolean isXmir(final Path path) {
+        return Gzip.xmir(path);
+    }
+}
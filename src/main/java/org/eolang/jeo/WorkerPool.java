@@ -0,0 +1,377 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.net.URISyntaxException;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Pool of forked worker JVMs.
+ * Each worker is a separate JVM process that runs {@link ForkedWorker}.
+ * The pool talks to workers through their standard input and output streams
+ * by means of a simple line-based protocol, see {@link ForkedWorker}.
+ * @since 0.6
+ */
+final class WorkerPool implements AutoCloseable {
+
+    /**
+     * Idle workers.
+     */
+    private final BlockingQueue<Jvm> idle;
+
+    /**
+     * All the workers ever started, to stop them at the end.
+     */
+    private final Collection<Jvm> started;
+
+    /**
+     * Number of workers.
+     */
+    private final int total;
+
+    /**
+     * Constructor.
+     * @param workers Number of workers.
+     * @param options JVM options of each worker.
+     * @param folders Folders with classes that workers need to load.
+     */
+    WorkerPool(final int workers, final List<String> options, final Collection<String> folders) {
+        this.total = workers;
+        this.idle = new ArrayBlockingQueue<>(workers);
+        this.started = new ArrayList<>(workers);
+        final List<String> command = WorkerPool.command(options);
+        for (int index = 0; index < workers; ++index) {
+            this.idle.add(new Jvm(command, folders));
+        }
+    }
+
+    /**
+     * Number of workers.
+     * @return Number of workers.
+     */
+    int size() {
+        return this.total;
+    }
+
+    /**
+     * Process a batch of files in one of the workers.
+     * If the worker crashes, the files of the batch it hasn't answered for yet
+     * are reported as failed, and the worker is replaced with a new one.
+     * @param task Task: named options of the goal.
+     * @param files Files of the batch.
+     * @param translated Where to put paths of translated files.
+     * @param failures Where to put failure descriptions.
+     * @return Number of files in the batch.
+     * @throws InterruptedException If interrupted while waiting for an idle worker.
+     */
+    int process(
+        final Map<String, String> task,
+        final List<Path> files,
+        final Collection<Path> translated,
+        final Collection<String> failures
+    ) throws InterruptedException {
+        final Collection<Path> pending = new LinkedHashSet<>(files);
+        Jvm jvm = this.idle.take();
+        try {
+            this.start(jvm);
+            jvm.run(task, pending, translated, failures);
+        } catch (final IOException exception) {
+            failures.addAll(
+                pending.stream()
+                    .map(
+                        file -> String.format(
+                            "'%s': the worker JVM crashed while processing the batch, %s",
+                            file,
+                            exception.getMessage()
+                        )
+                    ).collect(Collectors.toList())
+            );
+            jvm.stop();
+            jvm = jvm.fresh();
+        } finally {
+            this.idle.put(jvm);
+        }
+        return files.size();
+    }
+
+    @Override
+    public void close() {
+        synchronized (this.started) {
+            this.started.forEach(Jvm::stop);
+        }
+    }
+
+    /**
+     * Start the worker if it isn't started yet.
+     * @param jvm Worker.
+     * @throws IOException If the worker can't be started.
+     */
+    private void start(final Jvm jvm) throws IOException {
+        if (!jvm.alive()) {
+            jvm.start();
+            synchronized (this.started) {
+                this.started.add(jvm);
+            }
+        }
+    }
+
+    /**
+     * Command to start a worker JVM.
+     * @param options JVM options.
+     * @return Command.
+     */
+    private static List<String> command(final List<String> options) {
+        final List<String> command = new ArrayList<>(options.size() + 4);
+        command.add(
+            Paths.get(System.getProperty("java.home"), "bin", "java").toString()
+        );
+        command.addAll(options);
+        command.add("-cp");
+        command.add(WorkerPool.classpath());
+        command.add(ForkedWorker.class.getName());
+        return command;
+    }
+
+    /**
+     * Classpath of the plugin.
+     * Inside Maven the plugin is loaded by a URL class loader, so we take its URLs.
+     * Otherwise, we use the classpath of the current JVM.
+     * @return Classpath.
+     */
+    static String classpath() {
+        final ClassLoader loader = WorkerPool.class.getClassLoader();
+        final String result;
+        if (loader instanceof URLClassLoader) {
+            result = Arrays.stream(((URLClassLoader) loader).getURLs())
+                .map(
+                    url -> {
+                        try {
+                            return Paths.get(url.toURI()).toString();
+                        } catch (final URISyntaxException exception) {
+                            throw new IllegalStateException(
+                                String.format("Can't convert '%s' to a classpath element", url),
+                                exception
+                            );
+                        }
+                    }
+                ).collect(Collectors.joining(File.pathSeparator));
+        } else {
+            result = System.getProperty("java.class.path");
+        }
+        return result;
+    }
+
+    /**
+     * Single worker JVM.
+     * @since 0.6
+     */
+    private static final class Jvm {
+
+        /**
+         * Command to start the JVM.
+         */
+        private final List<String> command;
+
+        /**
+         * Folders with classes that the worker needs to load.
+         */
+        private final Collection<String> folders;
+
+        /**
+         * Running process.
+         */
+        private Process process;
+
+        /**
+         * Input of the process.
+         */
+        private BufferedWriter input;
+
+        /**
+         * Output of the process.
+         */
+        private BufferedReader output;
+
+        /**
+         * Constructor.
+         * @param command Command to start the JVM.
+         * @param folders Folders with classes that the worker needs to load.
+         */
+        Jvm(final List<String> command, final Collection<String> folders) {
+            this.command = command;
+            this.folders = folders;
+        }
+
+        /**
+         * Is the process running?
+         * @return True if it is.
+         */
+        boolean alive() {
+            return this.process != null && this.process.isAlive();
+        }
+
+        /**
+         * A new worker with the same settings.
+         * @return Worker.
+         */
+        Jvm fresh() {
+            return new Jvm(this.command, this.folders);
+        }
+
+        /**
+         * Start the process.
+         * @throws IOException If fails.
+         */
+        void start() throws IOException {
+            this.process = new ProcessBuilder(this.command)
+                .redirectError(ProcessBuilder.Redirect.INHERIT)
+                .start();
+            this.input = new BufferedWriter(
+                new OutputStreamWriter(this.process.getOutputStream(), StandardCharsets.UTF_8)
+            );
+            this.output = new BufferedReader(
+                new InputStreamReader(this.process.getInputStream(), StandardCharsets.UTF_8)
+            );
+            this.send(ForkedWorker.INIT, this.folders);
+            this.input.flush();
+        }
+
+        /**
+         * Run a batch of files.
+         * Files are removed from the batch as soon as the worker answers for them,
+         * so if the worker crashes, the batch keeps only the files without results.
+         * @param task Task: named options of the goal.
+         * @param files Files of the batch.
+         * @param translated Where to put paths of translated files.
+         * @param failures Where to put failure descriptions.
+         * @throws IOException If the worker crashed.
+         */
+        void run(
+            final Map<String, String> task,
+            final Collection<Path> files,
+            final Collection<Path> translated,
+            final Collection<String> failures
+        ) throws IOException {
+            final List<String> options = task.entrySet().stream()
+                .map(option -> String.format("%s=%s", option.getKey(), option.getValue()))
+                .collect(Collectors.toList());
+            for (final Path file : files) {
+                final List<String> line = new ArrayList<>(options);
+                line.add(String.format("%s=%s", ForkedWorker.FILE, file));
+                this.send(ForkedWorker.TASK, line);
+            }
+            this.send(ForkedWorker.END, new ArrayList<>(0));
+            this.input.flush();
+            while (true) {
+                final String line = this.output.readLine();
+                if (line == null) {
+                    throw new IOException(this.exit());
+                }
+                final List<String> parts = ForkedWorker.decode(line);
+                if (ForkedWorker.DONE.equals(parts.get(0))) {
+                    break;
+                } else if (ForkedWorker.OK.equals(parts.get(0))) {
+                    files.remove(Paths.get(parts.get(1)));
+                    translated.add(Paths.get(parts.get(2)));
+                } else if (ForkedWorker.FAIL.equals(parts.get(0))) {
+                    files.remove(Paths.get(parts.get(1)));
+                    failures.add(String.format("'%s': %s", parts.get(1), parts.get(2)));
+                }
+            }
+        }
+
+        /**
+         * Stop the process.
+         */
+        void stop() {
+            if (this.alive()) {
+                try {
+                    this.send(ForkedWorker.EXIT, new ArrayList<>(0));
+                    this.input.close();
+                    if (!this.process.waitFor(10L, TimeUnit.SECONDS)) {
+                        this.process.destroyForcibly();
+                    }
+                } catch (final IOException exception) {
+                    this.process.destroyForcibly();
+                } catch (final InterruptedException exception) {
+                    this.process.destroyForcibly();
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+
+        /**
+         * Describe how the process exited.
+         * @return Description.
+         */
+        private String exit() {
+            String result;
+            try {
+                if (this.process.waitFor(10L, TimeUnit.SECONDS)) {
+                    result = String.format("the worker exited with code %d", this.process.exitValue());
+                } else {
+                    result = "the worker closed its output";
+                }
+            } catch (final InterruptedException exception) {
+                Thread.currentThread().interrupt();
+                result = "the worker was interrupted";
+            }
+            return result;
+        }
+
+        /**
+         * Send a command to the worker.
+         * @param command Command.
+         * @param args Arguments.
+         * @throws IOException If fails.
+         */
+        private void send(final String command, final Collection<String> args)
+            throws IOException {
+            final List<String> parts = new ArrayList<>(args.size() + 1);
+            parts.add(command);
+            parts.addAll(args);
+            this.input.write(ForkedWorker.encode(parts));
+            this.input.newLine();
+        }
+    }
+}
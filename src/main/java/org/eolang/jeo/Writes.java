@@ -0,0 +1,143 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import org.eolang.jeo.representation.Gzip;
+
+/**
+ * Writes of transformed files.
+ * By default, files are written immediately. {@link PipelinedTranslator} defers
+ * writes of its transformation threads, so they can go on with the next file,
+ * while the files are written by a separate writer thread. Files with the '.gz'
+ * extension are compressed while they are written, so compression runs on
+ * the writer thread too.
+ * @since 0.6
+ */
+final class Writes {
+
+    /**
+     * Deferred writes of the current thread.
+     */
+    private static final ThreadLocal<Writes> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Files to write with their content.
+     */
+    private final Map<Path, byte[]> pending;
+
+    /**
+     * Compression of the files to write.
+     */
+    private final Map<Path, Gzip> compression;
+
+    /**
+     * Constructor.
+     */
+    Writes() {
+        this.pending = new LinkedHashMap<>(1);
+        this.compression = new LinkedHashMap<>(1);
+    }
+
+    /**
+     * Write the file or defer the write if the current thread defers writes.
+     * @param target File to write.
+     * @param content Content of the file.
+     * @throws IOException If the file can't be written.
+     */
+    static void write(final Path target, final byte[] content) throws IOException {
+        Writes.write(target, content, new Gzip());
+    }
+
+    /**
+     * Write the file or defer the write if the current thread defers writes.
+     * @param target File to write, it is compressed if it has the '.gz' extension.
+     * @param content Content of the file.
+     * @param gzip Compression of the file.
+     * @throws IOException If the file can't be written.
+     */
+    static void write(final Path target, final byte[] content, final Gzip gzip)
+        throws IOException {
+        final Writes deferred = Writes.CURRENT.get();
+        if (deferred == null) {
+            Writes.save(target, content, gzip);
+        } else {
+            deferred.pending.put(target, content);
+            deferred.compression.put(target, gzip);
+        }
+    }
+
+    /**
+     * Defer all the writes of the current thread to these writes.
+     * @return Writes deferred before, which should be restored by {@link #restore(Writes)}.
+     */
+    Writes defer() {
+        final Writes previous = Writes.CURRENT.get();
+        Writes.CURRENT.set(this);
+        return previous;
+    }
+
+    /**
+     * Restore writes deferred before.
+     * @param previous Writes returned by {@link #defer()}.
+     */
+    static void restore(final Writes previous) {
+        if (previous == null) {
+            Writes.CURRENT.remove();
+        } else {
+            Writes.CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Write all the deferred files.
+     * @throws IOException If a file can't be written.
+     */
+    void flush() throws IOException {
+        for (final Map.Entry<Path, byte[]> entry : this.pending.entrySet()) {
+            Writes.save(entry.getKey(), entry.getValue(), this.compression.get(entry.getKey()));
+        }
+        this.pending.clear();
+        this.compression.clear();
+    }
+
+    /**
+     * Write the file.
+     * @param target File to write.
+     * @param content Content of the file.
+     * @param gzip Compression of the file.
+     * @throws IOException If the file can't be written.
+     */
+    private static void save(final Path target, final byte[] content, final Gzip gzip)
+        throws IOException {
+        final long start = System.nanoTime();
+        Files.createDirectories(target.getParent());
+        Scans.current().written(target, gzip.write(target, content));
+        Metrics.current().phase("write", start);
+    }
+}
@@ -23,7 +23,6 @@
  */
 package org.eolang.jeo;
 
-import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.stream.Stream;
@@ -57,13 +56,9 @@ final class XmirFiles {
      */
     public Stream<Path> all() {
         final Path path = this.objectspath;
-        try {
-            return Files.walk(path).filter(Files::isRegularFile);
-        } catch (final IOException exception) {
-            throw new IllegalStateException(
-                String.format("Can't read folder '%s'", path),
-                exception
-            );
+        if (!Files.isDirectory(path)) {
+            throw new IllegalStateException(String.format("Can't read folder '%s'", path));
         }
+        return Scans.current().files(path);
     }
 }
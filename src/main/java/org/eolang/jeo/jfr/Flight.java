@@ -0,0 +1,125 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.jfr;
+
+import java.nio.file.Path;
+
+/**
+ * Java Flight Recorder event that is being recorded.
+ * If the event is disabled, or the JVM has no Flight Recorder, all the methods
+ * do nothing, so it's cheap to keep events in production builds.
+ * @since 0.6
+ */
+public interface Flight {
+
+    /**
+     * Is the event recorded?
+     * Use it to skip computing expensive event details.
+     * @return True if it is.
+     */
+    boolean recorded();
+
+    /**
+     * Set the file being transformed.
+     * @param path File.
+     * @return This flight.
+     */
+    Flight file(Path path);
+
+    /**
+     * Set the class name, the number of methods and instructions from class file bytes.
+     * @param bytes Bytes of the class file.
+     * @return This flight.
+     */
+    Flight bytecode(byte[] bytes);
+
+    /**
+     * Set the class name.
+     * @param name Class name.
+     * @return This flight.
+     */
+    Flight clazz(String name);
+
+    /**
+     * Set the number of instructions.
+     * @param count Number of instructions.
+     * @return This flight.
+     */
+    Flight instructions(int count);
+
+    /**
+     * Set the sizes of the input and the output.
+     * @param input Size of the input in bytes.
+     * @param output Size of the output in bytes.
+     * @return This flight.
+     */
+    Flight sizes(long input, long output);
+
+    /**
+     * End the event and commit it.
+     */
+    void end();
+
+    /**
+     * Flight that records nothing.
+     * @since 0.6
+     */
+    final class Silent implements Flight {
+
+        @Override
+        public boolean recorded() {
+            return false;
+        }
+
+        @Override
+        public Flight file(final Path path) {
+            return this;
+        }
+
+        @Override
+        public Flight bytecode(final byte[] bytes) {
+            return this;
+        }
+
+        @Override
+        public Flight clazz(final String name) {
+            return this;
+        }
+
+        @Override
+        public Flight instructions(final int count) {
+            return this;
+        }
+
+        @Override
+        public Flight sizes(final long input, final long output) {
+            return this;
+        }
+
+        @Override
+        public void end() {
+            // Nothing to record.
+        }
+    }
+}
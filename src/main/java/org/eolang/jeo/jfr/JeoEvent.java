@@ -0,0 +1,101 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.jfr;
+
+/**
+ * Kinds of jeo events for Java Flight Recorder.
+ * Event classes are loaded only if the JVM has Flight Recorder, so jeo still
+ * works on JVMs without the 'jdk.jfr' module.
+ * @since 0.6
+ */
+public enum JeoEvent {
+    /**
+     * Disassembling of a class file ('jeo.Disassemble').
+     */
+    DISASSEMBLE,
+
+    /**
+     * Assembling of a class file ('jeo.Assemble').
+     */
+    ASSEMBLE,
+
+    /**
+     * Unrolling of an XMIR file ('jeo.Unroll').
+     */
+    UNROLL,
+
+    /**
+     * Validation of XMIR against the schema ('jeo.SchemaValidation').
+     */
+    SCHEMA_VALIDATION,
+
+    /**
+     * Computation of method maxs ('jeo.MaxsComputation').
+     */
+    MAXS_COMPUTATION,
+
+    /**
+     * Verification of a class file ('jeo.Verify').
+     */
+    VERIFY;
+
+    /**
+     * Does the JVM have Flight Recorder?
+     */
+    private static final boolean AVAILABLE = JeoEvent.available();
+
+    /**
+     * Flight that records nothing.
+     */
+    private static final Flight SILENT = new Flight.Silent();
+
+    /**
+     * Start the event.
+     * @return Flight of the event.
+     */
+    public Flight start() {
+        final Flight result;
+        if (JeoEvent.AVAILABLE) {
+            result = JfrFlight.start(this).orElse(JeoEvent.SILENT);
+        } else {
+            result = JeoEvent.SILENT;
+        }
+        return result;
+    }
+
+    /**
+     * Check whether the JVM has Flight Recorder.
+     * @return True if it has.
+     */
+    private static boolean available() {
+        boolean result;
+        try {
+            Class.forName("jdk.jfr.Event", false, JeoEvent.class.getClassLoader());
+            result = true;
+        } catch (final ClassNotFoundException | LinkageError exception) {
+            result = false;
+        }
+        return result;
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.jfr;
+
+import java.nio.file.Path;
+import java.util.Optional;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.tree.ClassNode;
+
+/**
+ * Flight of a Java Flight Recorder event.
+ * @since 0.6
+ */
+final class JfrFlight implements Flight {
+
+    /**
+     * Event.
+     */
+    private final TransformationEvent event;
+
+    /**
+     * Constructor.
+     * @param event Event.
+     */
+    private JfrFlight(final TransformationEvent event) {
+        this.event = event;
+    }
+
+    @Override
+    public boolean recorded() {
+        return true;
+    }
+
+    @Override
+    public Flight file(final Path path) {
+        this.event.file = path.toString();
+        return this;
+    }
+
+    @Override
+    public Flight bytecode(final byte[] bytes) {
+        final ClassNode node = new ClassNode();
+        try {
+            new ClassReader(bytes)
+                .accept(node, ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES);
+            this.event.clazz = node.name;
+            this.event.methods = node.methods.size();
+            this.event.instructions = node.methods.stream()
+                .mapToInt(method -> method.instructions.size())
+                .sum();
+        } catch (final IllegalArgumentException | IndexOutOfBoundsException exception) {
+            this.event.clazz = "<broken class file>";
+        }
+        return this;
+    }
+
+    @Override
+    public Flight clazz(final String name) {
+        this.event.clazz = name;
+        return this;
+    }
+
+    @Override
+    public Flight instructions(final int count) {
+        this.event.instructions = count;
+        return this;
+    }
+
+    @Override
+    public Flight sizes(final long input, final long output) {
+        this.event.input = input;
+        this.event.output = output;
+        return this;
+    }
+
+    @Override
+    public void end() {
+        this.event.commit();
+    }
+
+    /**
+     * Start the event if it's enabled.
+     * @param kind Kind of the event.
+     * @return Flight or empty if the event is disabled.
+     */
+    static Optional<Flight> start(final JeoEvent kind) {
+        final TransformationEvent event = JfrFlight.event(kind);
+        final Optional<Flight> result;
+        if (event.isEnabled()) {
+            event.begin();
+            result = Optional.of(new JfrFlight(event));
+        } else {
+            result = Optional.empty();
+        }
+        return result;
+    }
+
+    /**
+     * New event of the kind.
+     * @param kind Kind of the event.
+     * @return Event.
+     */
+    private static TransformationEvent event(final JeoEvent kind) {
+        final TransformationEvent result;
+        switch (kind) {
+            case DISASSEMBLE:
+                result = new TransformationEvent.Disassemble();
+                break;
+            case ASSEMBLE:
+                result = new TransformationEvent.Assemble();
+                break;
+            case UNROLL:
+                result = new TransformationEvent.Unroll();
+                break;
+            case SCHEMA_VALIDATION:
+                result = new TransformationEvent.SchemaValidation();
+                break;
+            case MAXS_COMPUTATION:
+                result = new TransformationEvent.MaxsComputation();
+                break;
+            case VERIFY:
+                result = new TransformationEvent.Verify();
+                break;
+            default:
+                throw new IllegalArgumentException(
+                    String.format("Unknown kind of jeo event: %s", kind)
+                );
+        }
+        return result;
+    }
+}
@@ -0,0 +1,140 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder event of a jeo transformation.
+ * Fields are package-private because Flight Recorder reads them directly.
+ * @since 0.6
+ * @checkstyle VisibilityModifierCheck (100 lines)
+ */
+@Category("jeo")
+@SuppressWarnings({"PMD.DefaultPackage", "PMD.CommentDefaultAccessModifier"})
+abstract class TransformationEvent extends Event {
+
+    /**
+     * File being transformed.
+     */
+    @Label("File")
+    String file;
+
+    /**
+     * Class name.
+     */
+    @Label("Class")
+    String clazz;
+
+    /**
+     * Number of methods.
+     */
+    @Label("Methods")
+    int methods;
+
+    /**
+     * Number of instructions.
+     */
+    @Label("Instructions")
+    int instructions;
+
+    /**
+     * Size of the input.
+     */
+    @Label("Bytes In")
+    @DataAmount
+    long input;
+
+    /**
+     * Size of the output.
+     */
+    @Label("Bytes Out")
+    @DataAmount
+    long output;
+
+    /**
+     * Disassembling of a class file.
+     * @since 0.6
+     */
+    @Name("jeo.Disassemble")
+    @Label("Disassemble")
+    @Description("Disassembling of a class file into XMIR")
+    static final class Disassemble extends TransformationEvent {
+    }
+
+    /**
+     * Assembling of a class file.
+     * @since 0.6
+     */
+    @Name("jeo.Assemble")
+    @Label("Assemble")
+    @Description("Assembling of XMIR into a class file")
+    static final class Assemble extends TransformationEvent {
+    }
+
+    /**
+     * Unrolling of an XMIR file.
+     * @since 0.6
+     */
+    @Name("jeo.Unroll")
+    @Label("Unroll")
+    @Description("Unrolling of PHI/UNPHI transformations in an XMIR file")
+    static final class Unroll extends TransformationEvent {
+    }
+
+    /**
+     * Validation of XMIR against the schema.
+     * @since 0.6
+     */
+    @Name("jeo.SchemaValidation")
+    @Label("Schema Validation")
+    @Description("Validation of XMIR against the XSD schema")
+    static final class SchemaValidation extends TransformationEvent {
+    }
+
+    /**
+     * Computation of method maxs.
+     * @since 0.6
+     */
+    @Name("jeo.MaxsComputation")
+    @Label("Maxs Computation")
+    @Description("Computation of max stack and max locals of a method")
+    static final class MaxsComputation extends TransformationEvent {
+    }
+
+    /**
+     * Verification of a class file.
+     * @since 0.6
+     */
+    @Name("jeo.Verify")
+    @Label("Verify")
+    @Description("Verification of a generated class file")
+    static final class Verify extends TransformationEvent {
+    }
+}
@@ -29,13 +29,15 @@ import java.util.Arrays;
 import lombok.ToString;
 import org.cactoos.Input;
 import org.cactoos.bytes.BytesOf;
-import org.cactoos.io.InputOf;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Synced;
 import org.cactoos.scalar.Unchecked;
+import org.eolang.jeo.Metrics;
 import org.eolang.jeo.representation.asm.AsmProgram;
 import org.eolang.jeo.representation.asm.DisassembleMode;
+import org.eolang.jeo.representation.asm.MethodSelector;
 import org.eolang.jeo.representation.bytecode.Bytecode;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
 import org.eolang.jeo.representation.directives.DirectivesProgram;
 import org.objectweb.asm.ClassReader;
 import org.xembly.ImpossibleModificationException;
@@ -110,9 +112,28 @@ public final class BytecodeRepresentation {
      * @return XML representation of bytecode.
      */
     public XML toEO(final DisassembleMode mode) {
-        final DirectivesProgram directives = new AsmProgram(this.input.value())
-            .bytecode(mode.asmOptions())
-            .directives(new BytecodeListing(this.input.value()).toString());
+        return this.toEO(mode, new MethodSelector());
+    }
+
+    /**
+     * Converts bytecode into XML.
+     * @param mode Disassemble mode.
+     * @param selector Selector of methods to disassemble into instructions,
+     *  the rest of the methods are kept as opaque blobs.
+     * @return XML representation of bytecode.
+     */
+    public XML toEO(final DisassembleMode mode, final MethodSelector selector) {
+        final Metrics metrics = Metrics.current();
+        long start = System.nanoTime();
+        final BytecodeProgram program = new AsmProgram(this.input.value())
+            .bytecode(mode.asmOptions(), selector);
+        metrics.phase("asm", start);
+        start = System.nanoTime();
+        final String listing = new BytecodeListing(this.input.value()).toString();
+        metrics.phase("listing", start);
+        start = System.nanoTime();
+        final DirectivesProgram directives = program.directives(listing);
+        metrics.phase("directives", start);
         try {
             return new MeasuredEo(new VerifiedEo(directives)).asXml();
         } catch (final IllegalStateException exception) {
@@ -138,11 +159,12 @@ public final class BytecodeRepresentation {
 
     /**
      * Prestructor that converts a file to a byte source.
+     * The file read ahead by {@link Prefetched} is taken from memory.
      * @param path Path to the file.
      * @return Byte source.
      */
     private static Unchecked<byte[]> fromFile(final Path path) {
-        return BytecodeRepresentation.fromInput(new InputOf(path));
+        return new Unchecked<>(new Synced<>(new Sticky<>(() -> Gzip.read(path))));
     }
 
     /**
@@ -23,23 +23,20 @@
  */
 package org.eolang.jeo.representation;
 
-import com.jcabi.log.Logger;
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
 import com.yegor256.xsline.Shift;
-import com.yegor256.xsline.StClasspath;
 import com.yegor256.xsline.StEndless;
-import com.yegor256.xsline.TrClasspath;
 import com.yegor256.xsline.TrDefault;
 import com.yegor256.xsline.TrFast;
-import com.yegor256.xsline.TrJoined;
+import com.yegor256.xsline.Train;
 import com.yegor256.xsline.Xsline;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
-import org.cactoos.io.InputOf;
-import org.eolang.parser.EoSyntax;
-import org.eolang.parser.xmir.Xmir;
+import org.xembly.Directives;
+import org.xembly.Xembler;
 
 /**
  * Canonical XMIR.
@@ -50,6 +47,25 @@ import org.eolang.parser.xmir.Xmir;
  */
 public final class CanonicalXmir {
 
+    /**
+     * Transformations that unroll XMIR.
+     * Stylesheets are compiled once and shared by all the threads and goal executions.
+     */
+    private static final Train<Shift> TRAIN = new TrFast(
+        new TrDefault<Shift>(
+            new CompiledShift("/org/eolang/parser/normalize-objects.xsl"),
+            new NumberedObjects(),
+            new CompiledShift("/org/eolang/parser/wrap-method-calls.xsl"),
+            new StEndless(new CompiledShift("/org/eolang/parser/roll-bases.xsl")),
+            new CompiledShift("/org/eolang/parser/add-refs.xsl"),
+            new CompiledShift("/org/eolang/parser/add-cuts.xsl"),
+            new StEndless(new CompiledShift("/org/eolang/parser/vars-float-down.xsl")),
+            new CompiledShift("/org/eolang/parser/remove-cuts.xsl")
+        ),
+        CanonicalXmir.class,
+        5
+    );
+
     /**
      * Name of the XMIR.
      */
@@ -62,12 +78,13 @@ public final class CanonicalXmir {
 
     /**
      * Constructor.
-     * @param canonical Path to the xmir Significantly modified XMIR after "phi/unphi".
+     * @param canonical Path to the xmir Significantly modified XMIR after "phi/unphi",
+     *  either plain '.xmir' or compressed '.xmir.gz'.
      */
     public CanonicalXmir(final Path canonical) throws FileNotFoundException {
         this(
             CanonicalXmir.nameWithoutExtension(canonical),
-            new XMLDocument(canonical)
+            CanonicalXmir.document(canonical)
         );
     }
 
@@ -91,50 +108,23 @@ public final class CanonicalXmir {
 
     /**
      * Convert canonical XMIR to plain XMIR.
+     * Objects are normalized right in XMIR, the same way as if they were
+     * printed to EO and parsed back, and then unrolled.
      * @return Plain XMIR.
      */
     public XML plain() {
-        try {
-            return CanonicalXmir.unroll(this.parse(this.toEo()));
-        } catch (final IOException exception) {
-            throw new IllegalStateException(
-                "Can't parse the canonical XMIR",
-                exception
-            );
-        }
-    }
-
-    /**
-     * Convert XMIR to EO.
-     * @return EO.
-     */
-    private String toEo() {
-        return new Xmir.Default(this.canonical).toEO();
-    }
-
-    /**
-     * Parse XMIR.
-     * @param eoprog Eo program.
-     * @return Parsed XMIR.
-     * @throws IOException If fails.
-     */
-    @SuppressWarnings("PMD.GuardLogStatement")
-    private XML parse(final String eoprog) throws IOException {
-        final long start = System.currentTimeMillis();
-        final XML parsed = new EoSyntax(this.name, new InputOf(eoprog)).parsed();
-        final long end = System.currentTimeMillis();
-        Logger.info(
-            this,
-            "We need to parse XMIR by using EoSyntax#parsed to make unrolling. The '%s' was parsed in %[ms]s",
-            this.name,
-            end - start
+        return CanonicalXmir.unroll(
+            new XMLDocument(
+                new Xembler(
+                    new Directives().xpath("/program").attr("name", this.name)
+                ).applyQuietly(this.canonical.node())
+            )
         );
-        return parsed;
     }
 
     /**
      * Unroll all the changes made by the "phi/unphi" transformations.
-     * @param parsed Parsed XMIR.
+     * @param parsed Canonical XMIR.
      * @return Unrolled XMIR.
      * @todo #923:30min Do we need all the transformations in the unroll method?
      *  Most probably, some of the steps might be skipped and removed from the unroll method.
@@ -144,38 +134,27 @@ public final class CanonicalXmir {
      *  At least for add-cuts.xsl, remove-cuts.xsl, and vars-float-down.xsl.
      */
     private static XML unroll(final XML parsed) {
-        return new Xsline(
-            new TrFast(
-                new TrJoined<Shift>(
-                    new TrClasspath<Shift>(
-                        "/org/eolang/parser/wrap-method-calls.xsl"
-                    ).back(),
-                    new TrDefault<Shift>(
-                        new StEndless(
-                            new StClasspath(
-                                "/org/eolang/parser/roll-bases.xsl"
-                            )
-                        )
-                    ),
-                    new TrClasspath<Shift>(
-                        "/org/eolang/parser/add-refs.xsl",
-                        "/org/eolang/parser/add-cuts.xsl"
-                    ).back(),
-                    new TrDefault<Shift>(
-                        new StEndless(
-                            new StClasspath(
-                                "/org/eolang/parser/vars-float-down.xsl"
-                            )
-                        )
-                    ),
-                    new TrClasspath<Shift>(
-                        "/org/eolang/parser/remove-cuts.xsl"
-                    ).back()
-                ),
-                CanonicalXmir.class,
-                5
-            )
-        ).pass(parsed);
+        return new Xsline(CanonicalXmir.TRAIN).pass(parsed);
+    }
+
+    /**
+     * Read XML document, decompressing it if needed.
+     * @param path Path to the plain or compressed XMIR.
+     * @return XML document.
+     * @throws FileNotFoundException If the file does not exist.
+     */
+    private static XML document(final Path path) throws FileNotFoundException {
+        if (!Files.exists(path)) {
+            throw new FileNotFoundException(path.toString());
+        }
+        try {
+            return new XMLDocument(Gzip.read(path));
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read XMIR '%s'", path),
+                exception
+            );
+        }
     }
 
     /**
@@ -185,11 +164,11 @@ public final class CanonicalXmir {
      */
     private static String nameWithoutExtension(final Path path) {
         final String result;
-        final String name = path.getFileName().toString();
+        final String name = Gzip.plain(path.getFileName().toString());
         if (name.lastIndexOf('.') == -1) {
             result = name;
         } else {
-            result = name.substring(0, path.getFileName().toString().lastIndexOf('.'));
+            result = name.substring(0, name.lastIndexOf('.'));
         }
         return result;
     }
@@ -0,0 +1,153 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.representation;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.yegor256.xsline.Shift;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import javax.xml.transform.Templates;
+import javax.xml.transform.TransformerException;
+import javax.xml.transform.TransformerFactory;
+import javax.xml.transform.dom.DOMResult;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamSource;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+
+/**
+ * XSL stylesheet compiled only once.
+ * {@link com.yegor256.xsline.StClasspath} compiles the stylesheet on each
+ * transformation. This shift compiles it into {@link Templates} on the first
+ * transformation and reuses them afterwards, since templates are thread-safe.
+ * The stylesheet is compiled by Saxon, which is requested explicitly, so the
+ * global 'javax.xml.transform.TransformerFactory' property is not needed.
+ * Stylesheets are taken either from the classpath or from any URL, like
+ * stylesheets of the 'optimize' goal.
+ * @since 0.6
+ */
+public final class CompiledShift implements Shift {
+
+    /**
+     * Saxon transformer factory.
+     */
+    private static final String SAXON = "net.sf.saxon.TransformerFactoryImpl";
+
+    /**
+     * Path of the stylesheet in the classpath or its URL.
+     */
+    private final String path;
+
+    /**
+     * Compiled stylesheet.
+     */
+    private final Unchecked<Templates> templates;
+
+    /**
+     * Constructor.
+     * @param path Path of the stylesheet in the classpath, like '/org/eolang/parser/add-refs.xsl'.
+     */
+    CompiledShift(final String path) {
+        this(path, CompiledShift.resource(path));
+    }
+
+    /**
+     * Constructor.
+     * @param url URL of the stylesheet.
+     */
+    public CompiledShift(final URL url) {
+        this(url.toString(), url);
+    }
+
+    /**
+     * Constructor.
+     * @param path Path of the stylesheet in error messages.
+     * @param url URL of the stylesheet.
+     */
+    private CompiledShift(final String path, final URL url) {
+        this.path = path;
+        this.templates = new Unchecked<>(
+            new Synced<>(new Sticky<>(() -> CompiledShift.compile(url)))
+        );
+    }
+
+    @Override
+    public String uid() {
+        return this.path.substring(this.path.lastIndexOf('/') + 1).replace(".xsl", "");
+    }
+
+    @Override
+    public XML apply(final int position, final XML xml) {
+        if (Thread.currentThread().isInterrupted()) {
+            throw new IllegalStateException(
+                String.format("Interrupted before the stylesheet '%s'", this.path)
+            );
+        }
+        try {
+            final DOMResult result = new DOMResult();
+            this.templates.value().newTransformer().transform(new DOMSource(xml.node()), result);
+            return new XMLDocument(result.getNode());
+        } catch (final TransformerException exception) {
+            throw new IllegalStateException(
+                String.format("Failed to apply the stylesheet '%s'", this.path),
+                exception
+            );
+        }
+    }
+
+    /**
+     * Find the stylesheet in the classpath.
+     * @param path Path of the stylesheet in the classpath.
+     * @return URL of the stylesheet.
+     */
+    private static URL resource(final String path) {
+        final URL url = CompiledShift.class.getResource(path);
+        if (url == null) {
+            throw new IllegalArgumentException(
+                String.format("Stylesheet '%s' not found in classpath", path)
+            );
+        }
+        return url;
+    }
+
+    /**
+     * Compile the stylesheet.
+     * @param url URL of the stylesheet.
+     * @return Compiled stylesheet.
+     * @throws IOException If the stylesheet can't be read.
+     * @throws TransformerException If the stylesheet can't be compiled.
+     */
+    private static Templates compile(final URL url)
+        throws IOException, TransformerException {
+        try (InputStream input = url.openStream()) {
+            return TransformerFactory.newInstance(
+                CompiledShift.SAXON,
+                CompiledShift.class.getClassLoader()
+            ).newTemplates(new StreamSource(input, url.toString()));
+        }
+    }
+}
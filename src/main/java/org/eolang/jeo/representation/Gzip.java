@@ -0,0 +1,260 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.representation;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.UUID;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Gzip compression of XMIR files.
+ * Files with the '.gz' extension are compressed on write and decompressed
+ * on read, all the other files are written and read as they are. So, every
+ * reader of XMIR accepts both '.xmir' and '.xmir.gz' files.
+ * @since 0.6
+ */
+public final class Gzip {
+
+    /**
+     * Extension of compressed files.
+     */
+    private static final String EXTENSION = ".gz";
+
+    /**
+     * Extension of XMIR files.
+     */
+    private static final String XMIR = ".xmir";
+
+    /**
+     * Size of the stream buffers.
+     */
+    private static final int BUFFER = 1 << 16;
+
+    /**
+     * Compression level from 0 to 9 or -1 for the default level.
+     */
+    private final int level;
+
+    /**
+     * Constructor with the default compression level.
+     */
+    public Gzip() {
+        this(Deflater.DEFAULT_COMPRESSION);
+    }
+
+    /**
+     * Constructor.
+     * @param level Compression level from 0 to 9 or -1 for the default level.
+     */
+    public Gzip(final int level) {
+        if (level < Deflater.DEFAULT_COMPRESSION || level > Deflater.BEST_COMPRESSION) {
+            throw new IllegalArgumentException(
+                String.format("Invalid gzip compression level %d, expected -1..9", level)
+            );
+        }
+        this.level = level;
+    }
+
+    /**
+     * Write the file, compressing it if it has the '.gz' extension.
+     * The content is deflated while it is streamed to a temporary sibling, which
+     * then atomically replaces the target, so concurrent readers see either the old
+     * file or the new one, never a half-written one. The same file with
+     * the opposite compression left from previous runs is removed, so readers
+     * never see both of them.
+     * @param target File to write.
+     * @param content Content of the file.
+     * @return Size of the written file.
+     * @throws IOException If the file can't be written.
+     */
+    public long write(final Path target, final byte[] content) throws IOException {
+        final String name = target.getFileName().toString();
+        final Path temp = target.resolveSibling(
+            String.format(".%s.%s.tmp", name, UUID.randomUUID())
+        );
+        final long size;
+        try {
+            if (Gzip.compressed(target)) {
+                Files.deleteIfExists(target.resolveSibling(Gzip.plain(name)));
+                try (Deflating output = new Deflating(Files.newOutputStream(temp), this.level)) {
+                    output.write(content);
+                    output.finish();
+                    size = output.size();
+                }
+            } else {
+                Files.deleteIfExists(target.resolveSibling(name.concat(Gzip.EXTENSION)));
+                Files.write(temp, content);
+                size = content.length;
+            }
+            Gzip.replace(temp, target);
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+        return size;
+    }
+
+    /**
+     * Read the whole file, decompressing it if it has the '.gz' extension.
+     * The content read ahead by {@link Prefetched} is taken from memory.
+     * @param path File to read.
+     * @return Content of the file.
+     * @throws IOException If the file can't be read.
+     */
+    public static byte[] read(final Path path) throws IOException {
+        final byte[] result;
+        if (Gzip.compressed(path)) {
+            try (InputStream input = Gzip.open(path)) {
+                result = Gzip.drain(input);
+            }
+        } else {
+            result = Prefetched.read(path);
+        }
+        return result;
+    }
+
+    /**
+     * Open the file, decompressing it if it has the '.gz' extension.
+     * The content read ahead by {@link Prefetched} is taken from memory.
+     * @param path File to open.
+     * @return Stream with the content of the file.
+     * @throws IOException If the file can't be opened.
+     */
+    public static InputStream open(final Path path) throws IOException {
+        final InputStream result;
+        if (Gzip.compressed(path)) {
+            result = new GZIPInputStream(Prefetched.open(path), Gzip.BUFFER);
+        } else {
+            result = Prefetched.open(path);
+        }
+        return result;
+    }
+
+    /**
+     * Is the file compressed?
+     * @param path File.
+     * @return True if it has the '.gz' extension.
+     */
+    public static boolean compressed(final Path path) {
+        return path.getFileName().toString().endsWith(Gzip.EXTENSION);
+    }
+
+    /**
+     * Is it an XMIR file, compressed or not?
+     * @param path File.
+     * @return True if it has either the '.xmir' or the '.xmir.gz' extension.
+     */
+    public static boolean xmir(final Path path) {
+        return Gzip.plain(path.getFileName().toString()).endsWith(Gzip.XMIR);
+    }
+
+    /**
+     * Name of the file without the '.gz' extension.
+     * @param name File name.
+     * @return Name of the uncompressed file.
+     */
+    public static String plain(final String name) {
+        final String result;
+        if (name.endsWith(Gzip.EXTENSION)) {
+            result = name.substring(0, name.length() - Gzip.EXTENSION.length());
+        } else {
+            result = name;
+        }
+        return result;
+    }
+
+    /**
+     * Replace the target with the written temporary file.
+     * Falls back to an ordinary move on file systems without atomic moves.
+     * @param temp Written temporary file.
+     * @param target File to replace.
+     * @throws IOException If the file can't be moved.
+     */
+    private static void replace(final Path temp, final Path target) throws IOException {
+        try {
+            Files.move(
+                temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING
+            );
+        } catch (final AtomicMoveNotSupportedException exception) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    /**
+     * Read all the bytes of the stream.
+     * @param input Stream.
+     * @return All the bytes.
+     * @throws IOException If the stream can't be read.
+     */
+    private static byte[] drain(final InputStream input) throws IOException {
+        final ByteArrayOutputStream result = new ByteArrayOutputStream(Gzip.BUFFER);
+        final byte[] buffer = new byte[Gzip.BUFFER];
+        int read = input.read(buffer);
+        while (read >= 0) {
+            result.write(buffer, 0, read);
+            read = input.read(buffer);
+        }
+        return result.toByteArray();
+    }
+
+    /**
+     * Gzip stream with the given compression level.
+     * @since 0.6
+     */
+    private static final class Deflating extends GZIPOutputStream {
+
+        /**
+         * Size of the gzip header and trailer.
+         */
+        private static final long ENVELOPE = 18L;
+
+        /**
+         * Constructor.
+         * @param output Stream to write compressed data to.
+         * @param level Compression level.
+         * @throws IOException If the gzip header can't be written.
+         */
+        Deflating(final OutputStream output, final int level) throws IOException {
+            super(output, Gzip.BUFFER);
+            this.def.setLevel(level);
+        }
+
+        /**
+         * Size of the compressed file with the gzip header and trailer.
+         * Must be called after the stream is finished.
+         * @return Size in bytes.
+         */
+        long size() {
+            return this.def.getBytesWritten() + Deflating.ENVELOPE;
+        }
+    }
+}
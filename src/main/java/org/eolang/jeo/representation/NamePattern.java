@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.representation;
+
+import java.util.regex.Pattern;
+
+/**
+ * Ant-style pattern of dotted names, like class names.
+ * In patterns, '**' matches any number of packages, '*' matches any part of
+ * a single package or class name, and '?' matches a single character of it.
+ * For example, 'com.acme.**' matches all the classes in the 'com.acme' package
+ * and its subpackages, and '**.*Dto' matches all the classes whose names end
+ * with 'Dto' in any package, including the default one.
+ * @since 0.6
+ */
+public final class NamePattern {
+
+    /**
+     * Original pattern.
+     */
+    private final String original;
+
+    /**
+     * Compiled regular expression.
+     */
+    private final Pattern regex;
+
+    /**
+     * Constructor.
+     * @param pattern Pattern, like 'com.acme.**'.
+     */
+    public NamePattern(final String pattern) {
+        this(pattern, NamePattern.compile(pattern));
+    }
+
+    /**
+     * Constructor.
+     * @param original Original pattern.
+     * @param regex Compiled regular expression.
+     */
+    private NamePattern(final String original, final Pattern regex) {
+        this.original = original;
+        this.regex = regex;
+    }
+
+    @Override
+    public String toString() {
+        return this.original;
+    }
+
+    /**
+     * Does the pattern match any name?
+     * @return True if it does.
+     */
+    public boolean any() {
+        return "**".equals(this.original);
+    }
+
+    /**
+     * Does the name match the pattern?
+     * @param name Dotted name, like 'com.acme.Engine'.
+     * @return True if it does.
+     */
+    public boolean matches(final String name) {
+        return this.regex.matcher(name).matches();
+    }
+
+    /**
+     * Compile Ant-style pattern into a regular expression.
+     * @param pattern Pattern like 'com.acme.**' or '**.*Dto'.
+     * @return Regular expression.
+     */
+    private static Pattern compile(final String pattern) {
+        final StringBuilder regex = new StringBuilder(pattern.length() * 2);
+        int pos = 0;
+        while (pos < pattern.length()) {
+            if (pattern.startsWith("**.", pos)) {
+                regex.append("(.*\\.)?");
+                pos += 3;
+            } else if (pattern.startsWith(".**", pos) && pos + 3 == pattern.length()) {
+                regex.append("(\\..*)?");
+                pos += 3;
+            } else if (pattern.startsWith("**", pos)) {
+                regex.append(".*");
+                pos += 2;
+            } else {
+                final char chr = pattern.charAt(pos);
+                if (chr == '*') {
+                    regex.append("[^.]*");
+                } else if (chr == '?') {
+                    regex.append("[^.]");
+                } else {
+                    regex.append(Pattern.quote(String.valueOf(chr)));
+                }
+                pos += 1;
+            }
+        }
+        return Pattern.compile(regex.toString());
+    }
+}
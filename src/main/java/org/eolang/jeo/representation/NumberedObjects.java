@@ -0,0 +1,68 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.representation;
+
+import com.jcabi.xml.XML;
+import com.jcabi.xml.XMLDocument;
+import com.yegor256.xsline.Shift;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.Node;
+import org.w3c.dom.NodeList;
+
+/**
+ * Shift that gives each object of XMIR its own line.
+ * Unrolling stylesheets identify objects by their '@line' attributes, which
+ * EO parser sets when it parses the program. Canonical XMIR is never parsed,
+ * so objects are numbered here in the document order, in a single pass.
+ * Numbering them with 'xsl:number' takes quadratic time.
+ * The document is modified in place, since {@link XML#node()} returns a copy.
+ * @since 0.6
+ */
+final class NumberedObjects implements Shift {
+
+    @Override
+    public String uid() {
+        return "numbered-objects";
+    }
+
+    @Override
+    public XML apply(final int position, final XML xml) {
+        final Node node = xml.node();
+        final Document document;
+        if (node instanceof Document) {
+            document = (Document) node;
+        } else {
+            document = node.getOwnerDocument();
+        }
+        final NodeList objects = document.getElementsByTagName("o");
+        final int total = objects.getLength();
+        for (int index = 0; index < total; ++index) {
+            ((Element) objects.item(index)).setAttribute(
+                "line", String.valueOf(index + 1)
+            );
+        }
+        return new XMLDocument(document);
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.representation;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+
+/**
+ * Input file read ahead of its transformation.
+ * {@link org.eolang.jeo.PipelinedTranslator} reads input files on a separate thread
+ * and attaches the content of each file to the thread that transforms it. Readers
+ * of class files and XMIR, which open files through {@link Gzip}, take the attached
+ * content from memory instead of reading the same file from the disk again.
+ * All the other files are read from the disk as usual.
+ * @since 0.6
+ */
+public final class Prefetched {
+
+    /**
+     * File attached to the current thread.
+     */
+    private static final ThreadLocal<Prefetched> CURRENT = new ThreadLocal<>();
+
+    /**
+     * Absolute and normalized path to the file.
+     */
+    private final Path path;
+
+    /**
+     * Content of the file as it is on the disk or empty if it wasn't read.
+     */
+    private final Optional<byte[]> content;
+
+    /**
+     * Constructor of the file that wasn't read ahead.
+     * @param path Path to the file.
+     */
+    public Prefetched(final Path path) {
+        this(path, Optional.empty());
+    }
+
+    /**
+     * Constructor.
+     * @param path Path to the file.
+     * @param content Content of the file as it is on the disk.
+     */
+    public Prefetched(final Path path, final byte[] content) {
+        this(path, Optional.of(content));
+    }
+
+    /**
+     * Constructor.
+     * @param path Path to the file.
+     * @param content Content of the file or empty if it wasn't read.
+     */
+    private Prefetched(final Path path, final Optional<byte[]> content) {
+        this.path = path.toAbsolutePath().normalize();
+        this.content = content;
+    }
+
+    /**
+     * Attach the file to the current thread.
+     * @return File attached before, which should be restored by {@link #detach(Prefetched)}.
+     */
+    public Prefetched attach() {
+        final Prefetched previous = Prefetched.CURRENT.get();
+        Prefetched.CURRENT.set(this);
+        return previous;
+    }
+
+    /**
+     * Restore the file attached before.
+     * @param previous File returned by {@link #attach()}.
+     */
+    public static void detach(final Prefetched previous) {
+        if (previous == null) {
+            Prefetched.CURRENT.remove();
+        } else {
+            Prefetched.CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Read all the bytes of the file, as they are on the disk.
+     * @param path File to read.
+     * @return Content of the file.
+     * @throws IOException If the file can't be read.
+     */
+    static byte[] read(final Path path) throws IOException {
+        final Optional<byte[]> attached = Prefetched.attached(path);
+        final byte[] result;
+        if (attached.isPresent()) {
+            result = attached.get();
+        } else {
+            result = Files.readAllBytes(path);
+        }
+        return result;
+    }
+
+    /**
+     * Open the file, as it is on the disk.
+     * @param path File to open.
+     * @return Stream with the content of the file.
+     * @throws IOException If the file can't be opened.
+     */
+    static InputStream open(final Path path) throws IOException {
+        final Optional<byte[]> attached = Prefetched.attached(path);
+        final InputStream result;
+        if (attached.isPresent()) {
+            result = new ByteArrayInputStream(attached.get());
+        } else {
+            result = Files.newInputStream(path);
+        }
+        return result;
+    }
+
+    /**
+     * Content of the file if it is attached to the current thread.
+     * @param path File.
+     * @return Content or empty if the file isn't attached or wasn't read.
+     */
+    private static Optional<byte[]> attached(final Path path) {
+        return Optional.ofNullable(Prefetched.CURRENT.get())
+            .filter(current -> current.path.equals(path.toAbsolutePath().normalize()))
+            .flatMap(current -> current.content);
+    }
+}
@@ -25,7 +25,9 @@ package org.eolang.jeo.representation;
 
 import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
-import org.eolang.parser.Schema;
+import org.eolang.jeo.Metrics;
+import org.eolang.jeo.jfr.Flight;
+import org.eolang.jeo.jfr.JeoEvent;
 import org.xembly.Directive;
 import org.xembly.ImpossibleModificationException;
 import org.xembly.Xembler;
@@ -57,8 +59,14 @@ final class VerifiedEo {
      * @throws ImpossibleModificationException If something goes wrong.
      */
     XML asXml() throws ImpossibleModificationException {
+        long start = System.nanoTime();
         final XML res = new XMLDocument(new Xembler(this.directives).xml());
-        new Schema(res).check();
+        Metrics.current().phase("xembly", start);
+        final Flight flight = JeoEvent.SCHEMA_VALIDATION.start();
+        start = System.nanoTime();
+        new XmirSchema(res.node()).check();
+        Metrics.current().phase("schema", start);
+        flight.end();
         return res;
     }
 
@@ -26,23 +26,28 @@ package org.eolang.jeo.representation;
 import com.jcabi.xml.XML;
 import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.Optional;
+import java.util.function.Supplier;
+import javax.xml.parsers.DocumentBuilder;
 import javax.xml.parsers.DocumentBuilderFactory;
-import javax.xml.transform.dom.DOMSource;
-import javax.xml.transform.stream.StreamSource;
-import javax.xml.validation.SchemaFactory;
+import javax.xml.parsers.ParserConfigurationException;
 import javax.xml.xpath.XPath;
 import javax.xml.xpath.XPathConstants;
 import javax.xml.xpath.XPathExpressionException;
 import javax.xml.xpath.XPathFactory;
-import org.cactoos.io.ResourceOf;
-import org.cactoos.io.UncheckedInput;
 import org.cactoos.scalar.Sticky;
 import org.cactoos.scalar.Synced;
 import org.cactoos.scalar.Unchecked;
+import org.eolang.jeo.Metrics;
+import org.eolang.jeo.jfr.Flight;
+import org.eolang.jeo.jfr.JeoEvent;
 import org.eolang.jeo.representation.bytecode.Bytecode;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
 import org.eolang.jeo.representation.xmir.XmlProgram;
+import org.w3c.dom.Document;
 import org.w3c.dom.Node;
 import org.xml.sax.SAXException;
 
@@ -55,14 +60,38 @@ public final class XmirRepresentation {
 
     /**
      * XPath's factory.
+     * Factories are not thread-safe, so they are used only under their own lock.
      */
     private static final XPathFactory XPATH_FACTORY = XPathFactory.newInstance();
 
     /**
      * XML document factory.
+     * Factories are not thread-safe, so they are used only under their own lock.
      */
     private static final DocumentBuilderFactory DOC_FACTORY = DocumentBuilderFactory.newInstance();
 
+    /**
+     * XPath objects of each thread.
+     * They are not thread-safe, but can be reused, so each thread creates
+     * its own XPath only once.
+     */
+    private static final ThreadLocal<XPath> XPATHS = ThreadLocal.withInitial(
+        () -> {
+            synchronized (XmirRepresentation.XPATH_FACTORY) {
+                return XmirRepresentation.XPATH_FACTORY.newXPath();
+            }
+        }
+    );
+
+    /**
+     * XML parsers of each thread.
+     * They are not thread-safe, but can be reset and reused, so each thread
+     * creates its own parser only once.
+     */
+    private static final ThreadLocal<DocumentBuilder> BUILDERS = ThreadLocal.withInitial(
+        XmirRepresentation::builder
+    );
+
     /**
      * XML.
      */
@@ -81,6 +110,16 @@ public final class XmirRepresentation {
         this(XmirRepresentation.fromFile(path), path.toAbsolutePath().toString());
     }
 
+    /**
+     * Constructor.
+     * The stream is read only once, when XMIR is needed for the first time.
+     * It is not closed.
+     * @param input Stream with XMIR.
+     */
+    public XmirRepresentation(final InputStream input) {
+        this(XmirRepresentation.fromStream(input), "Stream");
+    }
+
     /**
      * Constructor.
      * @param xml XML.
@@ -122,7 +161,8 @@ public final class XmirRepresentation {
      */
     public String name() {
         final Node node = this.xml.value();
-        final XPath xpath = XmirRepresentation.XPATH_FACTORY.newXPath();
+        final XPath xpath = XmirRepresentation.XPATHS.get();
+        xpath.reset();
         try {
             return new ClassName(
                 Optional.ofNullable(
@@ -153,10 +193,54 @@ public final class XmirRepresentation {
      * @return Array of bytes.
      */
     public Bytecode toBytecode() {
+        final BytecodeProgram program = this.program();
+        return this.guarded(
+            this.xml.value(),
+            () -> {
+                final long start = System.nanoTime();
+                final Bytecode bytecode = program.bytecode();
+                Metrics.current().phase("bytecode", start);
+                return bytecode;
+            }
+        );
+    }
+
+    /**
+     * Convert to bytecode program.
+     * XMIR is checked against the schema first.
+     * @return Bytecode program.
+     */
+    public BytecodeProgram program() {
+        final Metrics metrics = Metrics.current();
+        final long parsing = System.nanoTime();
         final Node xmir = this.xml.value();
+        metrics.phase("parse", parsing);
+        return this.guarded(
+            xmir,
+            () -> {
+                final Flight flight = JeoEvent.SCHEMA_VALIDATION.start();
+                final long checking = System.nanoTime();
+                new XmirSchema(xmir).check();
+                metrics.phase("schema", checking);
+                flight.end();
+                final long start = System.nanoTime();
+                final BytecodeProgram program = new XmlProgram(xmir).bytecode();
+                metrics.phase("xmir", start);
+                return program;
+            }
+        );
+    }
+
+    /**
+     * Run a conversion and explain its failures.
+     * @param xmir XMIR.
+     * @param conversion Conversion of XMIR.
+     * @param <T> Type of the result.
+     * @return Result of the conversion.
+     */
+    private <T> T guarded(final Node xmir, final Supplier<T> conversion) {
         try {
-            new OptimizedSchema(xmir).check();
-            return new XmlProgram(xmir).bytecode().bytecode();
+            return conversion.get();
         } catch (final IllegalArgumentException exception) {
             throw new IllegalArgumentException(
                 String.format("Can't transform '%s' to bytecode", xmir),
@@ -179,20 +263,46 @@ public final class XmirRepresentation {
         return new Unchecked<>(new Synced<>(new Sticky<>(() -> XmirRepresentation.open(path))));
     }
 
+    /**
+     * Prestructor that reads a stream lazily.
+     * @param input Stream with XMIR.
+     * @return Lazy XML.
+     */
+    private static Unchecked<Node> fromStream(final InputStream input) {
+        return new Unchecked<>(new Synced<>(new Sticky<>(() -> XmirRepresentation.read(input))));
+    }
+
+    /**
+     * Parse XML from a stream.
+     * @param input Stream with XMIR.
+     * @return XML.
+     */
+    private static Node read(final InputStream input) {
+        try {
+            return XmirRepresentation.parser().parse(input).getDocumentElement();
+        } catch (final IOException | SAXException exception) {
+            throw new IllegalStateException("Can't parse XML from the stream", exception);
+        }
+    }
+
     /**
      * Convert a path to XML.
+     * Files with the '.xmir.gz' extension are decompressed while they are parsed.
+     * Files read ahead by {@link Prefetched} are parsed from memory.
      * @param path Path to XML file.
      * @return XML.
-     * @checkstyle IllegalCatchCheck (20 lines)
+     * @checkstyle IllegalCatchCheck (30 lines)
      */
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     private static Node open(final Path path) {
         try {
-            return XmirRepresentation.DOC_FACTORY
-                .newDocumentBuilder()
-                .parse(path.toFile())
-                .getDocumentElement();
-        } catch (final FileNotFoundException exception) {
+            final DocumentBuilder builder = XmirRepresentation.parser();
+            final Document document;
+            try (InputStream input = Gzip.open(path)) {
+                document = builder.parse(input, path.toUri().toString());
+            }
+            return document.getDocumentElement();
+        } catch (final FileNotFoundException | NoSuchFileException exception) {
             throw new IllegalStateException(
                 String.format("Can't find file '%s'", path),
                 exception
@@ -209,60 +319,25 @@ public final class XmirRepresentation {
     }
 
     /**
-     * Optimized schema for XMIR.
-     * It is an optimized version of {@link org.eolang.parser.Schema} class.
-     * @since 0.6
-     * @todo #889:30min Use the `Schema` class instead of `OptimizedSchema`.
-     *  The `OptimizedSchema` class is a temporary solution to avoid the performance
-     *  issues with the `Schema` class. We will be able to remove this class after
-     *  the following issue is resolved:
-     *  https://github.com/jcabi/jcabi-xml/issues/277
+     * XML parser of the current thread.
+     * @return Parser that is ready to parse a new document.
      */
-    private static class OptimizedSchema {
-        /**
-         * Node.
-         */
-        private final Node node;
-
-        /**
-         * Schema factory.
-         */
-        private final SchemaFactory factory;
-
-        /**
-         * Constructor.
-         * @param node Node.
-         */
-        OptimizedSchema(final Node node) {
-            this(node, SchemaFactory.newInstance("http://www.w3.org/2001/XMLSchema"));
-        }
-
-        /**
-         * Constructor.
-         * @param node Node.
-         * @param factory Schema factory.
-         */
-        private OptimizedSchema(final Node node, final SchemaFactory factory) {
-            this.node = node;
-            this.factory = factory;
-        }
+    private static DocumentBuilder parser() {
+        final DocumentBuilder builder = XmirRepresentation.BUILDERS.get();
+        builder.reset();
+        return builder;
+    }
 
-        /**
-         * Check the node.
-         */
-        void check() {
+    /**
+     * New XML parser.
+     * @return Parser.
+     */
+    private static DocumentBuilder builder() {
+        synchronized (XmirRepresentation.DOC_FACTORY) {
             try {
-                this.factory.newSchema(
-                    new StreamSource(new UncheckedInput(new ResourceOf("XMIR.xsd")).stream())
-                ).newValidator().validate(new DOMSource(this.node));
-            } catch (final IOException | SAXException exception) {
-                throw new IllegalStateException(
-                    String.format(
-                        "There are XSD violations, see the log",
-                        exception.getMessage()
-                    ),
-                    exception
-                );
+                return XmirRepresentation.DOC_FACTORY.newDocumentBuilder();
+            } catch (final ParserConfigurationException exception) {
+                throw new IllegalStateException("Can't create XML parser", exception);
             }
         }
     }
@@ -0,0 +1,97 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.representation;
+
+import com.jcabi.log.Logger;
+import java.io.IOException;
+import javax.xml.transform.dom.DOMSource;
+import javax.xml.transform.stream.StreamSource;
+import javax.xml.validation.Schema;
+import javax.xml.validation.SchemaFactory;
+import org.cactoos.io.ResourceOf;
+import org.cactoos.io.UncheckedInput;
+import org.cactoos.scalar.Sticky;
+import org.cactoos.scalar.Synced;
+import org.cactoos.scalar.Unchecked;
+import org.w3c.dom.Node;
+import org.xml.sax.SAXException;
+
+/**
+ * Optimized schema for XMIR.
+ * It is an optimized version of {@link org.eolang.parser.Schema} class, which
+ * reads and compiles the XSD on each check. It's used both after disassembling
+ * and before assembling.
+ * @since 0.6
+ * @todo #889:30min Use the `Schema` class instead of `XmirSchema`.
+ *  The `XmirSchema` class is a temporary solution to avoid the performance
+ *  issues with the `Schema` class. We will be able to remove this class after
+ *  the following issue is resolved:
+ *  https://github.com/jcabi/jcabi-xml/issues/277
+ */
+final class XmirSchema {
+
+    /**
+     * Compiled XSD schema of XMIR.
+     * It depends only on the plugin resources, so it's compiled once and
+     * shared by all the goal executions and threads, since {@link Schema}
+     * is thread-safe. Only validators are created for each check.
+     */
+    private static final Unchecked<Schema> XSD = new Unchecked<>(
+        new Synced<>(
+            new Sticky<>(
+                () -> SchemaFactory.newInstance("http://www.w3.org/2001/XMLSchema").newSchema(
+                    new StreamSource(new UncheckedInput(new ResourceOf("XMIR.xsd")).stream())
+                )
+            )
+        )
+    );
+
+    /**
+     * Node.
+     */
+    private final Node node;
+
+    /**
+     * Constructor.
+     * @param node Node.
+     */
+    XmirSchema(final Node node) {
+        this.node = node;
+    }
+
+    /**
+     * Check the node.
+     */
+    void check() {
+        try {
+            XmirSchema.XSD.value().newValidator().validate(new DOMSource(this.node));
+        } catch (final IOException | SAXException exception) {
+            Logger.error(this, "XSD failure: %s", exception.getMessage());
+            throw new IllegalStateException(
+                "There are XSD violations, see the log",
+                exception
+            );
+        }
+    }
+}
@@ -25,6 +25,7 @@ package org.eolang.jeo.representation.asm;
 
 import java.util.List;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import org.eolang.jeo.representation.ClassName;
 import org.eolang.jeo.representation.bytecode.BytecodeAttributes;
 import org.eolang.jeo.representation.bytecode.BytecodeClass;
@@ -33,6 +34,7 @@ import org.eolang.jeo.representation.bytecode.BytecodeField;
 import org.eolang.jeo.representation.bytecode.BytecodeMethod;
 import org.eolang.jeo.representation.bytecode.InnerClass;
 import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
 
 /**
  * ASM bytecode parser for a class.
@@ -45,12 +47,34 @@ public final class AsmClass {
      */
     private final ClassNode node;
 
+    /**
+     * The same class node read with frames and debug information.
+     */
+    private final ClassNode pristine;
+
+    /**
+     * Selector of methods to convert into instructions.
+     */
+    private final MethodSelector selector;
+
     /**
      * Constructor.
      * @param node Class node.
      */
     AsmClass(final ClassNode node) {
+        this(node, node, new MethodSelector());
+    }
+
+    /**
+     * Constructor.
+     * @param node Class node.
+     * @param pristine The same class node read with frames and debug information.
+     * @param selector Selector of methods to convert into instructions.
+     */
+    AsmClass(final ClassNode node, final ClassNode pristine, final MethodSelector selector) {
         this.node = node;
+        this.pristine = pristine;
+        this.selector = selector;
     }
 
     /**
@@ -88,15 +112,31 @@ public final class AsmClass {
 
     /**
      * Convert asm methods to domain methods.
+     * Methods that are not selected are converted into opaque methods.
      * @return Domain methods.
      */
     private List<BytecodeMethod> methods() {
-        return this.node.methods.stream()
-            .map(AsmMethod::new)
-            .map(AsmMethod::bytecode)
+        return IntStream.range(0, this.node.methods.size())
+            .mapToObj(this::method)
             .collect(Collectors.toList());
     }
 
+    /**
+     * Convert asm method to domain method.
+     * @param index Index of the method.
+     * @return Domain method.
+     */
+    private BytecodeMethod method(final int index) {
+        final MethodNode method = this.node.methods.get(index);
+        final BytecodeMethod result;
+        if (this.selector.all() || this.selector.selects(this.node.name, method)) {
+            result = new AsmMethod(method).bytecode();
+        } else {
+            result = new AsmMethod(this.pristine.methods.get(index)).opaque(this.node.version);
+        }
+        return result;
+    }
+
     /**
      * Retrieve domain attributes from asm class.
      * @return Domain attributes.
@@ -36,6 +36,8 @@ import org.eolang.jeo.representation.bytecode.BytecodeMethod;
 import org.eolang.jeo.representation.bytecode.BytecodeMethodProperties;
 import org.eolang.jeo.representation.bytecode.BytecodeTryCatchBlock;
 import org.eolang.jeo.representation.bytecode.LocalVariable;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Opcodes;
 import org.objectweb.asm.tree.LocalVariableNode;
 import org.objectweb.asm.tree.MethodNode;
 
@@ -68,20 +70,43 @@ final class AsmMethod {
             this.tryblocks(),
             this.instructions(),
             new AsmAnnotations(this.node).bytecode(),
-            new BytecodeMethodProperties(
-                this.node.access,
-                this.node.name,
-                this.node.desc,
-                this.node.signature,
-                new AsmMethodParameters(this.node).bytecode(),
-                this.node.exceptions.toArray(new String[0])
-            ),
+            this.properties(),
             this.defvalue(),
             this.maxs(),
             this.attributes()
         );
     }
 
+    /**
+     * Convert asm method to opaque domain method.
+     * The whole method is written into a blob as the only method of an
+     * auxiliary class file, so it can be written back as it is.
+     * @param version Class file version.
+     * @return Opaque domain method.
+     */
+    BytecodeMethod opaque(final int version) {
+        final ClassWriter writer = new ClassWriter(0);
+        writer.visit(version, Opcodes.ACC_PUBLIC, "jeo/Opaque", null, "java/lang/Object", null);
+        this.node.accept(writer);
+        writer.visitEnd();
+        return new BytecodeMethod(this.properties(), writer.toByteArray());
+    }
+
+    /**
+     * Convert asm method to domain method properties.
+     * @return Domain method properties.
+     */
+    private BytecodeMethodProperties properties() {
+        return new BytecodeMethodProperties(
+            this.node.access,
+            this.node.name,
+            this.node.desc,
+            this.node.signature,
+            new AsmMethodParameters(this.node).bytecode(),
+            this.node.exceptions.toArray(new String[0])
+        );
+    }
+
     /**
      * Convert asm method to domain method attributes.
      * @return Domain method attributes.
@@ -23,10 +23,15 @@
  */
 package org.eolang.jeo.representation.asm;
 
+import java.util.Arrays;
 import org.eolang.jeo.representation.ClassName;
 import org.eolang.jeo.representation.bytecode.BytecodeProgram;
 import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.JumpInsnNode;
+import org.objectweb.asm.tree.LookupSwitchInsnNode;
+import org.objectweb.asm.tree.MethodNode;
+import org.objectweb.asm.tree.TableSwitchInsnNode;
 
 /**
  * ASM bytecode parser.
@@ -67,11 +72,57 @@ public final class AsmProgram {
      * @return Bytecode.
      */
     public BytecodeProgram bytecode(final int flags) {
+        return this.bytecode(flags, new MethodSelector());
+    }
+
+    /**
+     * Convert to bytecode.
+     * Methods that are not selected are kept as opaque blobs. Since they are
+     * written back as they are, they are read with all their frames and debug
+     * information, regardless of the flags.
+     * @param flags Flags.
+     * @param selector Selector of methods to convert into instructions.
+     * @return Bytecode.
+     */
+    public BytecodeProgram bytecode(final int flags, final MethodSelector selector) {
+        final ClassReader reader = new ClassReader(this.bytes);
         final ClassNode node = new ClassNode();
-        new ClassReader(this.bytes).accept(node, flags);
+        reader.accept(node, flags);
+        if ((flags & ClassReader.SKIP_FRAMES) != 0) {
+            AsmProgram.frameless(node);
+        }
+        final ClassNode pristine;
+        if (selector.all() || flags == 0) {
+            pristine = node;
+        } else {
+            pristine = new ClassNode();
+            reader.accept(pristine, 0);
+        }
         return new BytecodeProgram(
             new ClassName(node.name).pckg(),
-            new AsmClass(node).bytecode()
+            new AsmClass(node, pristine, selector).bytecode()
         );
     }
+
+    /**
+     * Mark methods that lost their frames.
+     * Methods with jumps or exception handlers need stack map frames. Since the
+     * frames were skipped, we reset maxs of these methods to zero, which means that
+     * maxs and frames must be computed again during assembling.
+     * @param node Class node read without frames.
+     */
+    private static void frameless(final ClassNode node) {
+        for (final MethodNode method : node.methods) {
+            final boolean branches = !method.tryCatchBlocks.isEmpty()
+                || Arrays.stream(method.instructions.toArray()).anyMatch(
+                    insn -> insn instanceof JumpInsnNode
+                        || insn instanceof TableSwitchInsnNode
+                        || insn instanceof LookupSwitchInsnNode
+                );
+            if (branches) {
+                method.maxStack = 0;
+                method.maxLocals = 0;
+            }
+        }
+    }
 }
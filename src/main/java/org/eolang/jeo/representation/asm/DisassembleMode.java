@@ -38,7 +38,14 @@ public enum DisassembleMode {
     /**
      * Assemble mode.
      */
-    DEBUG;
+    DEBUG,
+    /**
+     * Frameless mode.
+     * This mode will disassemble the bytecode without any additional information and
+     * without stack map frames. Methods that need frames get zero maxs, so the
+     * frames and maxs are computed again during assembling.
+     */
+    FRAMELESS;
 
     /**
      * Unknown mode message.
@@ -60,6 +67,9 @@ public enum DisassembleMode {
             case "debug":
                 result = DisassembleMode.DEBUG;
                 break;
+            case "frameless":
+                result = DisassembleMode.FRAMELESS;
+                break;
             default:
                 throw new IllegalArgumentException(String.format(DisassembleMode.UNKNOWN, mode));
         }
@@ -79,6 +89,9 @@ public enum DisassembleMode {
             case DEBUG:
                 result = 0;
                 break;
+            case FRAMELESS:
+                result = ClassReader.SKIP_DEBUG | ClassReader.SKIP_FRAMES;
+                break;
             default:
                 throw new IllegalArgumentException(String.format(DisassembleMode.UNKNOWN, this));
         }
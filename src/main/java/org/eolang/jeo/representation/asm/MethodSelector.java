@@ -0,0 +1,258 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.representation.asm;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.eolang.jeo.representation.NamePattern;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * Selector of methods to disassemble into instructions.
+ * <p>Methods that are not selected are kept in XMIR as opaque blobs, which
+ * are written back to bytecode as they are.</p>
+ * <p>The specification is a comma-separated list of patterns like
+ * {@code *.process*, com.acme.**.run, !**.toString}. The part of a pattern after
+ * the last dot matches the method name, and the part before it matches the
+ * class name, see {@link NamePattern}. If the class part has no dots, it matches
+ * the simple class name. A pattern without dots matches methods of any class.
+ * Patterns with the '!' prefix exclude methods. Besides, methods with fewer
+ * instructions than the given minimum are not selected.</p>
+ * @since 0.6
+ */
+public final class MethodSelector {
+
+    /**
+     * Prefix of exclude patterns.
+     */
+    private static final String EXCLUDE = "!";
+
+    /**
+     * Original specification.
+     */
+    private final String spec;
+
+    /**
+     * Minimum number of instructions of a selected method.
+     */
+    private final int instructions;
+
+    /**
+     * Include patterns.
+     */
+    private final List<Method> includes;
+
+    /**
+     * Exclude patterns.
+     */
+    private final List<Method> excludes;
+
+    /**
+     * Constructor.
+     * The selector of all the methods.
+     */
+    public MethodSelector() {
+        this("**", 0);
+    }
+
+    /**
+     * Constructor.
+     * @param spec Comma-separated list of patterns, like '*.process*, !**.toString'.
+     * @param instructions Minimum number of instructions of a selected method.
+     */
+    public MethodSelector(final String spec, final int instructions) {
+        this.spec = spec;
+        this.instructions = instructions;
+        this.includes = MethodSelector.patterns(spec, false);
+        this.excludes = MethodSelector.patterns(spec, true);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%s %d", this.spec, this.instructions);
+    }
+
+    /**
+     * Original specification.
+     * @return Comma-separated list of patterns.
+     */
+    public String spec() {
+        return this.spec;
+    }
+
+    /**
+     * Minimum number of instructions of a selected method.
+     * @return Number of instructions.
+     */
+    public int instructions() {
+        return this.instructions;
+    }
+
+    /**
+     * Does the selector select all the methods?
+     * @return True if it does.
+     */
+    public boolean all() {
+        return this.instructions <= 0
+            && this.excludes.isEmpty()
+            && this.includes.stream().anyMatch(Method::any);
+    }
+
+    /**
+     * Is the method selected?
+     * @param clazz Internal class name, like 'com/acme/Engine'.
+     * @param method Method node.
+     * @return True if it is selected.
+     */
+    boolean selects(final String clazz, final MethodNode method) {
+        final String name = clazz.replace('/', '.');
+        return MethodSelector.size(method) >= this.instructions
+            && (this.includes.isEmpty()
+                || this.includes.stream().anyMatch(pattern -> pattern.matches(name, method.name)))
+            && this.excludes.stream().noneMatch(pattern -> pattern.matches(name, method.name));
+    }
+
+    /**
+     * Number of instructions of the method, without labels, lines and frames.
+     * @param method Method node.
+     * @return Number of instructions.
+     */
+    private static long size(final MethodNode method) {
+        return Arrays.stream(method.instructions.toArray())
+            .filter(insn -> insn.getOpcode() >= 0)
+            .count();
+    }
+
+    /**
+     * Parse patterns of the specification.
+     * @param spec Specification.
+     * @param exclude Parse exclude patterns or include patterns.
+     * @return Patterns.
+     */
+    private static List<Method> patterns(final String spec, final boolean exclude) {
+        return Arrays.stream(spec.split(","))
+            .map(String::trim)
+            .filter(pattern -> !pattern.isEmpty())
+            .filter(pattern -> pattern.startsWith(MethodSelector.EXCLUDE) == exclude)
+            .map(pattern -> pattern.replaceFirst("^!", "").trim())
+            .map(Method::new)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Pattern of a method.
+     * @since 0.6
+     */
+    private static final class Method {
+
+        /**
+         * Pattern of the class name.
+         */
+        private final NamePattern clazz;
+
+        /**
+         * Pattern of the method name.
+         */
+        private final NamePattern name;
+
+        /**
+         * Does the class pattern match the simple class name?
+         */
+        private final boolean simple;
+
+        /**
+         * Constructor.
+         * @param pattern Pattern, like 'com.acme.*.process*'.
+         */
+        Method(final String pattern) {
+            this(pattern, pattern.lastIndexOf('.'));
+        }
+
+        /**
+         * Constructor.
+         * @param pattern Pattern.
+         * @param dot Position of the last dot in the pattern.
+         */
+        private Method(final String pattern, final int dot) {
+            this(
+                new NamePattern(Method.before(pattern, dot)),
+                new NamePattern(pattern.substring(dot + 1)),
+                Method.before(pattern, dot).indexOf('.') < 0
+            );
+        }
+
+        /**
+         * Constructor.
+         * @param clazz Pattern of the class name.
+         * @param name Pattern of the method name.
+         * @param simple Does the class pattern match the simple class name?
+         */
+        private Method(final NamePattern clazz, final NamePattern name, final boolean simple) {
+            this.clazz = clazz;
+            this.name = name;
+            this.simple = simple;
+        }
+
+        /**
+         * Does the pattern match any method?
+         * @return True if it does.
+         */
+        boolean any() {
+            return this.clazz.any() && this.name.any();
+        }
+
+        /**
+         * Does the pattern match the method?
+         * @param clazz Dotted class name, like 'com.acme.Engine'.
+         * @param method Method name.
+         * @return True if it does.
+         */
+        boolean matches(final String clazz, final String method) {
+            final String owner;
+            if (this.simple) {
+                owner = clazz.substring(clazz.lastIndexOf('.') + 1);
+            } else {
+                owner = clazz;
+            }
+            return this.clazz.matches(owner) && this.name.matches(method);
+        }
+
+        /**
+         * Class part of the pattern.
+         * @param pattern Pattern.
+         * @param dot Position of the last dot in the pattern.
+         * @return Class part, which is '**' if the pattern has no dots.
+         */
+        private static String before(final String pattern, final int dot) {
+            final String result;
+            if (dot < 0) {
+                result = "**";
+            } else {
+                result = pattern.substring(0, dot);
+            }
+            return result;
+        }
+    }
+}
@@ -30,12 +30,18 @@ import java.util.List;
 import java.util.stream.Collectors;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
+import org.eolang.jeo.Metrics;
+import org.eolang.jeo.jfr.Flight;
+import org.eolang.jeo.jfr.JeoEvent;
 import org.eolang.jeo.representation.MethodName;
 import org.eolang.jeo.representation.Signature;
 import org.eolang.jeo.representation.asm.AsmLabels;
 import org.eolang.jeo.representation.directives.DirectivesMethod;
+import org.eolang.jeo.representation.directives.DirectivesValue;
+import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.MethodVisitor;
 import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
 
 /**
  * Bytecode method.
@@ -81,6 +87,13 @@ public final class BytecodeMethod {
      */
     private final BytecodeAttributes attributes;
 
+    /**
+     * Opaque method.
+     * The whole method written as the only method of an auxiliary class file.
+     * It's empty if the method is represented by instructions.
+     */
+    private final byte[] opaque;
+
     /**
      * Constructor for tests.
      */
@@ -178,6 +191,26 @@ public final class BytecodeMethod {
         );
     }
 
+    /**
+     * Constructor of an opaque method.
+     * The method is written to bytecode from the blob as it is, while the
+     * properties only describe it in XMIR.
+     * @param properties Method properties.
+     * @param opaque The whole method written as the only method of an auxiliary class file.
+     */
+    public BytecodeMethod(final BytecodeMethodProperties properties, final byte[] opaque) {
+        this(
+            new ArrayList<>(0),
+            new ArrayList<>(0),
+            new BytecodeAnnotations(),
+            properties,
+            new ArrayList<>(0),
+            new BytecodeMaxs(0, 0),
+            new BytecodeAttributes(),
+            opaque
+        );
+    }
+
     /**
      * Constructor.
      * @param tryblocks Try-catch blocks.
@@ -197,6 +230,40 @@ public final class BytecodeMethod {
         final List<BytecodeDefaultValue> defvalues,
         final BytecodeMaxs maxs,
         final BytecodeAttributes attributes
+    ) {
+        this(
+            tryblocks,
+            instructions,
+            annotations,
+            properties,
+            defvalues,
+            maxs,
+            attributes,
+            new byte[0]
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param tryblocks Try-catch blocks.
+     * @param instructions Method instructions.
+     * @param annotations Method annotations.
+     * @param properties Method properties.
+     * @param defvalues Default values.
+     * @param maxs Max stack and locals.
+     * @param attributes Method attributes.
+     * @param opaque Opaque method or empty array.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private BytecodeMethod(
+        final List<BytecodeEntry> tryblocks,
+        final List<BytecodeEntry> instructions,
+        final BytecodeAnnotations annotations,
+        final BytecodeMethodProperties properties,
+        final List<BytecodeDefaultValue> defvalues,
+        final BytecodeMaxs maxs,
+        final BytecodeAttributes attributes,
+        final byte[] opaque
     ) {
         this.tryblocks = tryblocks;
         this.instructions = instructions;
@@ -205,6 +272,7 @@ public final class BytecodeMethod {
         this.defvalues = defvalues;
         this.maxs = maxs;
         this.attributes = attributes;
+        this.opaque = opaque.clone();
     }
 
     /**
@@ -219,7 +287,8 @@ public final class BytecodeMethod {
             this.properties,
             this.defvalues,
             new BytecodeMaxs(),
-            this.attributes
+            this.attributes,
+            this.opaque
         );
     }
 
@@ -288,7 +357,8 @@ public final class BytecodeMethod {
             this.defvalues.stream()
                 .map(BytecodeDefaultValue::directives)
                 .collect(Collectors.toList()),
-            this.attributes.directives("local-variable-table")
+            this.attributes.directives("local-variable-table"),
+            this.opaqueDirectives()
         );
     }
 
@@ -306,6 +376,19 @@ public final class BytecodeMethod {
      */
     @SuppressWarnings("PMD.AvoidCatchingGenericException")
     void write(final CustomClassWriter visitor) {
+        if (this.opaque.length > 0) {
+            this.writeOpaque(visitor);
+        } else {
+            this.writeInstructions(visitor);
+        }
+    }
+
+    /**
+     * Generate bytecode of the method represented by instructions.
+     * @param visitor Visitor.
+     */
+    @SuppressWarnings("PMD.AvoidCatchingGenericException")
+    private void writeInstructions(final CustomClassWriter visitor) {
         try {
             final MethodVisitor mvisitor = this.properties.writeMethod(
                 visitor,
@@ -318,7 +401,11 @@ public final class BytecodeMethod {
                 mvisitor.visitCode();
                 this.tryblocks.forEach(block -> block.writeTo(mvisitor, all));
                 this.instructions.forEach(instruction -> instruction.writeTo(mvisitor, all));
+                final Flight flight = JeoEvent.MAXS_COMPUTATION.start();
+                final long start = System.nanoTime();
                 final BytecodeMaxs computed = this.computeMaxs();
+                Metrics.current().phase("maxs", start);
+                flight.instructions(this.instructions.size()).end();
                 mvisitor.visitMaxs(computed.stack(), computed.locals());
             }
             this.attributes.write(mvisitor, all);
@@ -360,6 +447,37 @@ public final class BytecodeMethod {
         }
     }
 
+    /**
+     * Copy the opaque method to bytecode as it is.
+     * @param visitor Visitor.
+     */
+    private void writeOpaque(final CustomClassWriter visitor) {
+        final ClassNode node = new ClassNode();
+        try {
+            new ClassReader(this.opaque).accept(node, 0);
+        } catch (final IllegalArgumentException | ArrayIndexOutOfBoundsException exception) {
+            throw new IllegalStateException(
+                String.format("Failed to read opaque method %s", this.properties),
+                exception
+            );
+        }
+        node.methods.get(0).accept(visitor);
+    }
+
+    /**
+     * Directives of the opaque method.
+     * @return Directives or empty list if the method is represented by instructions.
+     */
+    private List<DirectivesValue> opaqueDirectives() {
+        final List<DirectivesValue> result;
+        if (this.opaque.length > 0) {
+            result = Collections.singletonList(new DirectivesValue("opaque", this.opaque));
+        } else {
+            result = Collections.emptyList();
+        }
+        return result;
+    }
+
     /**
      * Compute maxs.
      * @return Maxs.
@@ -0,0 +1,354 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.WeakHashMap;
+import java.util.concurrent.ConcurrentHashMap;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Class hierarchy built from class file headers.
+ * It answers questions about super classes and interfaces without loading classes
+ * into the JVM: it only reads the header of the class file (super name, interfaces
+ * and access flags) found by the class loader as a resource. So, it doesn't define
+ * classes, doesn't trigger static initializers, and doesn't fail on classes that
+ * refer to missing optional dependencies.
+ * Headers are cached per class loader and shared between all the threads.
+ * @since 0.6
+ */
+public final class ClassHierarchy {
+
+    /**
+     * Root of all the classes.
+     */
+    private static final String OBJECT = "java/lang/Object";
+
+    /**
+     * Headers cached per class loader.
+     */
+    private static final Map<ClassLoader, Map<String, Header>> CACHE =
+        Collections.synchronizedMap(new WeakHashMap<>(0));
+
+    /**
+     * Class loader to find class files.
+     */
+    private final ClassLoader loader;
+
+    /**
+     * Headers of classes by their internal names.
+     */
+    private final Map<String, Header> headers;
+
+    /**
+     * Constructor.
+     * Uses the context class loader of the current thread.
+     */
+    public ClassHierarchy() {
+        this(
+            Optional.ofNullable(Thread.currentThread().getContextClassLoader())
+                .orElseGet(ClassLoader::getSystemClassLoader)
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param loader Class loader to find class files.
+     */
+    public ClassHierarchy(final ClassLoader loader) {
+        this(
+            loader,
+            ClassHierarchy.CACHE.computeIfAbsent(loader, key -> new ConcurrentHashMap<>(0))
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param loader Class loader to find class files.
+     * @param headers Headers of classes by their internal names.
+     */
+    private ClassHierarchy(final ClassLoader loader, final Map<String, Header> headers) {
+        this.loader = loader;
+        this.headers = headers;
+    }
+
+    /**
+     * Is the class an interface?
+     * @param name Internal name of the class.
+     * @return True if it is.
+     */
+    public boolean isInterface(final String name) {
+        return this.header(name).iface();
+    }
+
+    /**
+     * Super class.
+     * @param name Internal name of the class.
+     * @return Internal name of the super class or null for 'java/lang/Object'.
+     */
+    public String superName(final String name) {
+        return this.header(name).parent();
+    }
+
+    /**
+     * Interfaces implemented directly by the class.
+     * @param name Internal name of the class.
+     * @return Internal names of the interfaces.
+     */
+    public List<String> interfaces(final String name) {
+        return Collections.unmodifiableList(this.header(name).interfaces());
+    }
+
+    /**
+     * Can a value of the actual class be assigned to a variable of the expected class?
+     * Unknown classes are considered direct subclasses of 'java/lang/Object'.
+     * @param expected Internal name of the expected class.
+     * @param actual Internal name of the actual class.
+     * @return True if it can.
+     */
+    public boolean isAssignableFrom(final String expected, final String actual) {
+        boolean result = expected.equals(actual) || ClassHierarchy.OBJECT.equals(expected);
+        if (!result) {
+            final Header header = this.header(actual);
+            result = header.parent() != null && this.isAssignableFrom(expected, header.parent());
+            if (!result) {
+                for (final String iface : header.interfaces()) {
+                    if (this.isAssignableFrom(expected, iface)) {
+                        result = true;
+                        break;
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Are the class and all its super classes and interfaces found?
+     * @param name Internal name of the class.
+     * @return True if the whole hierarchy of the class is known.
+     */
+    public boolean resolved(final String name) {
+        final Header header = this.header(name);
+        boolean result = header.known();
+        if (result && header.parent() != null) {
+            result = this.resolved(header.parent());
+        }
+        if (result) {
+            for (final String iface : header.interfaces()) {
+                if (!this.resolved(iface)) {
+                    result = false;
+                    break;
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Common super class of two classes.
+     * It follows the contract of {@link org.objectweb.asm.ClassWriter#getCommonSuperClass}.
+     * @param first Internal name of the first class.
+     * @param second Internal name of the second class.
+     * @return Internal name of the common super class.
+     */
+    public String commonSuperClass(final String first, final String second) {
+        final String result;
+        if (this.isAssignableFrom(first, second)) {
+            result = first;
+        } else if (this.isAssignableFrom(second, first)) {
+            result = second;
+        } else if (this.isInterface(first) || this.isInterface(second)) {
+            result = ClassHierarchy.OBJECT;
+        } else {
+            String current = first;
+            do {
+                current = Optional.ofNullable(this.superName(current))
+                    .orElse(ClassHierarchy.OBJECT);
+            } while (!this.isAssignableFrom(current, second));
+            result = current;
+        }
+        return result;
+    }
+
+    /**
+     * Header of the class.
+     * Headers that can't be parsed are treated as unknown classes, but they
+     * aren't cached, so the class file is read again next time.
+     * @param name Internal name of the class.
+     * @return Header.
+     */
+    private Header header(final String name) {
+        Header result = this.headers.get(name);
+        if (result == null) {
+            final Optional<Header> read = this.read(name);
+            if (read.isPresent()) {
+                result = read.get();
+                this.headers.putIfAbsent(name, result);
+            } else {
+                result = new Header(name);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Read the header of the class file.
+     * @param name Internal name of the class.
+     * @return Header or empty if the class file can't be parsed.
+     */
+    private Optional<Header> read(final String name) {
+        Optional<Header> result;
+        try (InputStream input = this.loader.getResourceAsStream(String.format("%s.class", name))) {
+            if (input == null) {
+                result = Optional.of(new Header(name));
+            } else {
+                final ClassReader reader = new ClassReader(input);
+                result = Optional.of(
+                    new Header(
+                        reader.getSuperName(),
+                        Arrays.asList(reader.getInterfaces()),
+                        reader.getAccess()
+                    )
+                );
+            }
+        } catch (final IllegalArgumentException | IndexOutOfBoundsException broken) {
+            result = Optional.empty();
+        } catch (final IOException exception) {
+            throw new IllegalStateException(
+                String.format("Can't read the header of the class '%s'", name),
+                exception
+            );
+        }
+        return result;
+    }
+
+    /**
+     * Class file header.
+     * @since 0.6
+     */
+    private static final class Header {
+
+        /**
+         * Internal name of the super class or null.
+         */
+        private final String sup;
+
+        /**
+         * Internal names of the interfaces.
+         */
+        private final List<String> ifaces;
+
+        /**
+         * Access flags.
+         */
+        private final int access;
+
+        /**
+         * Was the class file found?
+         */
+        private final boolean found;
+
+        /**
+         * Constructor of the header of an unknown class.
+         * @param name Internal name of the class.
+         */
+        Header(final String name) {
+            this(
+                Optional.of(ClassHierarchy.OBJECT)
+                    .filter(root -> !root.equals(name))
+                    .orElse(null),
+                Collections.emptyList(),
+                0,
+                false
+            );
+        }
+
+        /**
+         * Constructor.
+         * @param sup Internal name of the super class or null.
+         * @param ifaces Internal names of the interfaces.
+         * @param access Access flags.
+         */
+        Header(final String sup, final List<String> ifaces, final int access) {
+            this(sup, ifaces, access, true);
+        }
+
+        /**
+         * Constructor.
+         * @param sup Internal name of the super class or null.
+         * @param ifaces Internal names of the interfaces.
+         * @param access Access flags.
+         * @param found Was the class file found?
+         * @checkstyle ParameterNumberCheck (5 lines)
+         */
+        private Header(
+            final String sup, final List<String> ifaces, final int access, final boolean found
+        ) {
+            this.sup = sup;
+            this.ifaces = ifaces;
+            this.access = access;
+            this.found = found;
+        }
+
+        /**
+         * Super class.
+         * @return Internal name of the super class or null.
+         */
+        String parent() {
+            return this.sup;
+        }
+
+        /**
+         * Interfaces.
+         * @return Internal names of the interfaces.
+         */
+        List<String> interfaces() {
+            return this.ifaces;
+        }
+
+        /**
+         * Is it an interface?
+         * @return True if it is.
+         */
+        boolean iface() {
+            return (this.access & Opcodes.ACC_INTERFACE) != 0;
+        }
+
+        /**
+         * Was the class file found?
+         * @return True if it was.
+         */
+        boolean known() {
+            return this.found;
+        }
+    }
+}
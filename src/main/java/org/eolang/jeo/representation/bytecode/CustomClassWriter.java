@@ -23,14 +23,15 @@
  */
 package org.eolang.jeo.representation.bytecode;
 
-import java.lang.reflect.Field;
 import lombok.EqualsAndHashCode;
 import lombok.ToString;
-import org.eolang.jeo.PluginStartup;
 import org.eolang.jeo.representation.DefaultVersion;
+import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.ClassVisitor;
 import org.objectweb.asm.ClassWriter;
 import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.MethodNode;
 
 /**
  * Custom class writer.
@@ -46,29 +47,70 @@ public final class CustomClassWriter extends ClassVisitor {
      */
     private final ClassesAwareWriter writer;
 
+    /**
+     * Header of the class being written.
+     * We need it to compute frames of methods in a separate class.
+     */
+    private final ClassNode header;
+
+    /**
+     * Class hierarchy to compute frames.
+     * It's resolved once for the whole class, so the cache of class headers
+     * shared between threads is not looked up on each frame computation.
+     */
+    private final ClassHierarchy hierarchy;
+
     /**
      * Constructor.
+     * Uses the context class loader of the current thread.
      */
     CustomClassWriter() {
-        this(new ClassesAwareWriter());
+        this(new ClassHierarchy());
+    }
+
+    /**
+     * Constructor.
+     * @param hierarchy Class hierarchy to compute frames.
+     */
+    private CustomClassWriter(final ClassHierarchy hierarchy) {
+        this(new ClassesAwareWriter(hierarchy), hierarchy);
     }
 
     /**
      * Constructor.
      * @param writer Writer.
+     * @param hierarchy Class hierarchy to compute frames.
      */
-    private CustomClassWriter(final ClassesAwareWriter writer) {
-        this(new DefaultVersion().api(), writer);
+    private CustomClassWriter(final ClassesAwareWriter writer, final ClassHierarchy hierarchy) {
+        this(new DefaultVersion().api(), writer, hierarchy);
     }
 
     /**
      * Constructor.
      * @param api Java ASM API version.
      * @param writer Writer.
+     * @param hierarchy Class hierarchy to compute frames.
      */
-    private CustomClassWriter(final int api, final ClassesAwareWriter writer) {
+    private CustomClassWriter(
+        final int api, final ClassesAwareWriter writer, final ClassHierarchy hierarchy
+    ) {
         super(api, writer);
         this.writer = writer;
+        this.header = new ClassNode(api);
+        this.hierarchy = hierarchy;
+    }
+
+    @Override
+    public void visit(
+        final int version,
+        final int access,
+        final String name,
+        final String signature,
+        final String supername,
+        final String[] interfaces
+    ) {
+        this.header.visit(version, access, name, signature, supername, interfaces);
+        super.visit(version, access, name, signature, supername, interfaces);
     }
 
     /**
@@ -88,12 +130,6 @@ public final class CustomClassWriter extends ClassVisitor {
      * @param exceptions Method exceptions.
      * @param compute If frames should be computed.
      * @return Method visitor.
-     * @todo #540:90min Compute StackMap frames for Java methods.
-     *  Currently we compute only max locals and max stack values for the methods.
-     *  See {@link BytecodeMethod#computeMaxs()} method.
-     *  However it's not enough to compute only max locals and max stack values.
-     *  We also need to compute StackMap frames for the methods.
-     *  When we compute frames we can remove this class entirely.
      * @checkstyle ParameterNumberCheck (5 lines)
      */
     @SuppressWarnings("PMD.UseObjectForClearerAPI")
@@ -116,6 +152,9 @@ public final class CustomClassWriter extends ClassVisitor {
 
     /**
      * Visits a method of the class and compute all required stack values, locals, and frames.
+     * The method is buffered and its frames are computed in a separate class with the
+     * same header. Then the method with computed frames is copied to the class being
+     * written. So, the rest of the methods keep their frames as they are.
      * @param access Access flags.
      * @param name Method name.
      * @param descriptor Method descriptor.
@@ -124,7 +163,7 @@ public final class CustomClassWriter extends ClassVisitor {
      * @return Method visitor.
      * @checkstyle ParameterNumberCheck (5 lines)
      */
-    @SuppressWarnings({"PMD.AvoidAccessibilityAlteration", "PMD.UseObjectForClearerAPI"})
+    @SuppressWarnings("PMD.UseObjectForClearerAPI")
     private MethodVisitor visitMethodWithoutFrames(
         final int access,
         final String name,
@@ -132,37 +171,24 @@ public final class CustomClassWriter extends ClassVisitor {
         final String signature,
         final String... exceptions
     ) {
-        final ClassVisitor delegate = this.getDelegate();
-        try {
-            final Field field = ClassWriter.class.getDeclaredField("compute");
-            field.setAccessible(true);
-            final int previous = field.getInt(delegate);
-            field.setInt(delegate, 4);
-            final MethodVisitor original = this.visitMethod(
-                access, name, descriptor, signature, exceptions
-            );
-            field.setInt(delegate, previous);
-            return original;
-        } catch (final NoSuchFieldException | IllegalAccessException exception) {
-            throw new IllegalStateException(
-                String.format(
-                    "Can't set compute field for ASM ClassWriter '%s' and change the computation mode to COMPUTE_ALL_FRAMES",
-                    delegate
-                ),
-                exception
-            );
-        }
+        return new FramedMethod(
+            this.api, this.header, this.hierarchy, this.getDelegate(), access, name,
+            descriptor, signature, exceptions
+        );
     }
 
     /**
      * Class writer that knows about additional classes loaded.
-     * This class works in couple with {@link PluginStartup#init()} ()} method that sets
-     * the maven classloader as the current thread classloader.
+     * This class works in couple with translators that set the class loader of
+     * {@code PluginStartup#loader()} as the context classloader of their threads.
      * Originally we faced with the problem that {@link ClassWriter} uses classes from ClassLoader
      * to perform {@link MethodVisitor#visitMaxs(int, int)} method and if it can't
      * find the class it throws {@link ClassNotFoundException}. To prevent this we override
      * {@link ClassWriter#getClassLoader()} method and return the current thread classloader that
      * knows about all classes that were compiled on the previous maven phases.
+     * Moreover, we override {@link ClassWriter#getCommonSuperClass(String, String)} to
+     * answer it by {@link ClassHierarchy} from class file headers, so frame computation
+     * never loads classes into the JVM.
      * You can read more about this problem here:
      * - https://gitlab.ow2.org/asm/asm/-/issues/317918
      * - https://stackoverflow.com/questions/11292701/error-while-instrumenting-class-files-asm-classwriter-getcommonsuperclass
@@ -174,20 +200,33 @@ public final class CustomClassWriter extends ClassVisitor {
     @EqualsAndHashCode(callSuper = false)
     private static class ClassesAwareWriter extends ClassWriter {
 
+        /**
+         * Class hierarchy.
+         */
+        private final ClassHierarchy hierarchy;
+
         /**
          * Constructor.
          * Do not compute frames automatically.
+         * @param hierarchy Class hierarchy.
          */
-        ClassesAwareWriter() {
-            this(0);
+        ClassesAwareWriter(final ClassHierarchy hierarchy) {
+            this(0, hierarchy);
         }
 
         /**
          * Constructor.
          * @param flags Flags. See {@link ClassWriter#COMPUTE_FRAMES} for more information.
+         * @param hierarchy Class hierarchy.
          */
-        private ClassesAwareWriter(final int flags) {
+        ClassesAwareWriter(final int flags, final ClassHierarchy hierarchy) {
             super(flags);
+            this.hierarchy = hierarchy;
+        }
+
+        @Override
+        protected final String getCommonSuperClass(final String first, final String second) {
+            return this.hierarchy.commonSuperClass(first, second);
         }
 
         @Override
@@ -195,4 +234,78 @@ public final class CustomClassWriter extends ClassVisitor {
             return Thread.currentThread().getContextClassLoader();
         }
     }
+
+    /**
+     * Method which frames are computed when the method ends.
+     * @since 0.6
+     */
+    private static final class FramedMethod extends MethodNode {
+
+        /**
+         * Header of the class that contains the method.
+         */
+        private final ClassNode header;
+
+        /**
+         * Class hierarchy to compute frames.
+         */
+        private final ClassHierarchy hierarchy;
+
+        /**
+         * Where to write the method with computed frames.
+         */
+        private final ClassVisitor target;
+
+        /**
+         * Constructor.
+         * @param api Java ASM API version.
+         * @param header Header of the class that contains the method.
+         * @param hierarchy Class hierarchy to compute frames.
+         * @param target Where to write the method with computed frames.
+         * @param access Access flags.
+         * @param name Method name.
+         * @param descriptor Method descriptor.
+         * @param signature Method signature.
+         * @param exceptions Method exceptions.
+         * @checkstyle ParameterNumberCheck (12 lines)
+         */
+        @SuppressWarnings("PMD.UseObjectForClearerAPI")
+        FramedMethod(
+            final int api,
+            final ClassNode header,
+            final ClassHierarchy hierarchy,
+            final ClassVisitor target,
+            final int access,
+            final String name,
+            final String descriptor,
+            final String signature,
+            final String... exceptions
+        ) {
+            super(api, access, name, descriptor, signature, exceptions);
+            this.header = header;
+            this.hierarchy = hierarchy;
+            this.target = target;
+        }
+
+        @Override
+        public void visitEnd() {
+            super.visitEnd();
+            final ClassWriter scratch = new ClassesAwareWriter(
+                ClassWriter.COMPUTE_FRAMES, this.hierarchy
+            );
+            scratch.visit(
+                this.header.version,
+                this.header.access,
+                this.header.name,
+                null,
+                this.header.superName,
+                this.header.interfaces.toArray(new String[0])
+            );
+            this.accept(scratch);
+            scratch.visitEnd();
+            final ClassNode computed = new ClassNode(this.api);
+            new ClassReader(scratch.toByteArray()).accept(computed, 0);
+            computed.methods.get(0).accept(this.target);
+        }
+    }
 }
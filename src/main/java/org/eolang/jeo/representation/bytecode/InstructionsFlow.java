@@ -65,6 +65,8 @@ public final class InstructionsFlow<T extends InstructionsFlow.Reducible<T>> {
 
     /**
      * Compute the maximum value for stack or variables.
+     * The analysis stops with an exception if the thread is interrupted, for
+     * example, when the time budget of the file is exceeded.
      * @param initial Initial value.
      * @param generator Function to generate the reducible element from the instruction.
      * @return Maximum value.
@@ -76,6 +78,9 @@ public final class InstructionsFlow<T extends InstructionsFlow.Reducible<T>> {
         final int total = this.instructions.size();
         T current;
         while (!worklist.isEmpty()) {
+            if (Thread.currentThread().isInterrupted()) {
+                throw new IllegalStateException("Data-flow analysis is interrupted");
+            }
             final Entry<T> starting = worklist.pop();
             int index = starting.index();
             current = starting.value();
@@ -79,6 +79,11 @@ public final class DirectivesMethod implements Iterable<Directive> {
      */
     private final DirectivesAttributes attributes;
 
+    /**
+     * Opaque method, which is either empty or contains a single value.
+     */
+    private final List<? extends Iterable<Directive>> opaque;
+
     /**
      * Constructor.
      * @param name Method name
@@ -126,6 +131,34 @@ public final class DirectivesMethod implements Iterable<Directive> {
         final DirectivesAnnotations annotations,
         final List<Iterable<Directive>> dvalue,
         final DirectivesAttributes attributes
+    ) {
+        this(
+            name, properties, instructions, exceptions, annotations, dvalue, attributes,
+            new ArrayList<>(0)
+        );
+    }
+
+    /**
+     * Constructor.
+     * @param name Method name
+     * @param properties Method properties
+     * @param instructions Method instructions
+     * @param exceptions Method exceptions
+     * @param annotations Method annotations
+     * @param dvalue Annotation default value
+     * @param attributes Method attributes
+     * @param opaque Opaque method, which is either empty or contains a single value
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    public DirectivesMethod(
+        final Signature name,
+        final DirectivesMethodProperties properties,
+        final List<Iterable<Directive>> instructions,
+        final List<Iterable<Directive>> exceptions,
+        final DirectivesAnnotations annotations,
+        final List<Iterable<Directive>> dvalue,
+        final DirectivesAttributes attributes,
+        final List<? extends Iterable<Directive>> opaque
     ) {
         this.name = name;
         this.properties = properties;
@@ -134,6 +167,7 @@ public final class DirectivesMethod implements Iterable<Directive> {
         this.annotations = annotations;
         this.dvalue = dvalue;
         this.attributes = attributes;
+        this.opaque = opaque;
     }
 
     /**
@@ -173,7 +207,7 @@ public final class DirectivesMethod implements Iterable<Directive> {
                 ),
                 Stream.concat(
                     this.dvalue.stream(),
-                    Stream.of(this.attributes)
+                    Stream.concat(Stream.of(this.attributes), this.opaque.stream())
                 )
             ).map(Directives::new).collect(Collectors.toList())
         ).iterator();
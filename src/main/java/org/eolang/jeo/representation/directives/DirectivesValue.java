@@ -129,6 +129,8 @@ public final class DirectivesValue implements Iterable<Directive> {
         final Object object = this.value.object();
         if (object instanceof String) {
             result = String.format("\"%s\"", object);
+        } else if (object instanceof byte[]) {
+            result = String.format("%d bytes", ((byte[]) object).length);
         } else {
             result = String.valueOf(object);
         }
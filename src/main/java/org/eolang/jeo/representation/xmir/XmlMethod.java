@@ -103,6 +103,21 @@ public final class XmlMethod {
      * @return Bytecode method.
      */
     public BytecodeMethod bytecode() {
+        final Optional<XmlNode> opaque = this.node.optchild("name", "opaque");
+        final BytecodeMethod result;
+        if (opaque.isPresent()) {
+            result = new BytecodeMethod(this.properties(), new XmlValue(opaque.get()).bytes());
+        } else {
+            result = this.instructed();
+        }
+        return result;
+    }
+
+    /**
+     * Convert method represented by instructions to bytecode.
+     * @return Bytecode method.
+     */
+    private BytecodeMethod instructed() {
         try {
             return new BytecodeMethod(
                 this.trycatchEntries()
@@ -0,0 +1,63 @@
+<?xml version="1.0" encoding="UTF-8"?>
+<!--
+The MIT License (MIT)
+
+Copyright (c) 2016-2024 Objectionary.com
+
+Permission is hereby granted, free of charge, to any person obtaining a copy
+of this software and associated documentation files (the "Software"), to deal
+in the Software without restriction, including without limitation the rights
+to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+copies of the Software, and to permit persons to whom the Software is
+furnished to do so, subject to the following conditions:
+
+The above copyright notice and this permission notice shall be included
+in all copies or substantial portions of the Software.
+
+THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+SOFTWARE.
+-->
+<xsl:stylesheet xmlns:xsl="http://www.w3.org/1999/XSL/Transform" id="normalize-objects" version="2.0">
+  <!--
+  Here we bring objects of canonical XMIR to the form that EO parser
+  produces from the same objects printed as EO, without printing and
+  parsing them:
+  - only attributes that EO syntax can express are kept, including
+    @method of method calls, which are wrapped by wrap-method-calls.xsl,
+  - data objects become plain 'bytes' objects that contain only data:
+    <o base=".bytes" as="0">
+      <o base=".eolang">            <o base="bytes" as="0">2A-</o>
+        <o base=".org">        =>
+          <o base="Q"/>
+        </o>
+      </o>
+      2A-
+    </o>
+  Lines of objects are dropped here, since the unrolling stylesheets
+  need unique lines, which are set right after this stylesheet.
+  -->
+  <xsl:output encoding="UTF-8" method="xml"/>
+  <xsl:template match="o">
+    <xsl:copy>
+      <xsl:copy-of select="@abstract|@base|@as|@name|@const|@atom|@method"/>
+      <xsl:apply-templates select="o"/>
+    </xsl:copy>
+  </xsl:template>
+  <xsl:template match="o[normalize-space(string-join(text(), '')) != '']" priority="1">
+    <xsl:copy>
+      <xsl:attribute name="base" select="'bytes'"/>
+      <xsl:copy-of select="@as|@name|@const"/>
+      <xsl:value-of select="normalize-space(string-join(text(), ''))"/>
+    </xsl:copy>
+  </xsl:template>
+  <xsl:template match="node()|@*">
+    <xsl:copy>
+      <xsl:apply-templates select="node()|@*"/>
+    </xsl:copy>
+  </xsl:template>
+</xsl:stylesheet>
@@ -0,0 +1,133 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link Budgeted}.
+ * @since 0.6
+ */
+final class BudgetedTest {
+
+    @Test
+    void passesSlowFileThroughUnchanged(@TempDir final Path temp) throws IOException {
+        final Path source = temp.resolve("Slow.xmir");
+        Files.write(source, "original".getBytes(StandardCharsets.UTF_8));
+        final Metrics metrics = new Metrics("unroll-phi");
+        metrics.record(
+            () -> new Budgeted(new Endless(source, temp.resolve("out.xmir")), 50L, Passthrough.COPY)
+                .transform()
+        );
+        MatcherAssert.assertThat(
+            "The original file should be copied to the target",
+            new String(Files.readAllBytes(temp.resolve("out.xmir")), StandardCharsets.UTF_8),
+            Matchers.equalTo("original")
+        );
+        MatcherAssert.assertThat(
+            "The file should be recorded as overdue",
+            metrics.overdue(),
+            Matchers.contains(source)
+        );
+        MatcherAssert.assertThat(
+            "The interruption of the watchdog should be cleared",
+            Thread.currentThread().isInterrupted(),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void rethrowsFailuresWithinBudget(@TempDir final Path temp) {
+        MatcherAssert.assertThat(
+            "Failures that are not caused by the watchdog should be reported",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> new Budgeted(
+                    new Endless(temp.resolve("Broken.xmir"), temp.resolve("out.xmir")),
+                    60_000L,
+                    Passthrough.COPY
+                ).transform(),
+                "The transformation should fail with the original exception"
+            ).getMessage(),
+            Matchers.containsString("Broken.xmir")
+        );
+    }
+
+    /**
+     * Transformation that runs until its thread is interrupted.
+     * It fails at once if the source file doesn't exist.
+     * @since 0.6
+     */
+    private static final class Endless implements Transformation {
+
+        /**
+         * Source file.
+         */
+        private final Path src;
+
+        /**
+         * Target file.
+         */
+        private final Path trgt;
+
+        /**
+         * Constructor.
+         * @param source Source file.
+         * @param target Target file.
+         */
+        Endless(final Path source, final Path target) {
+            this.src = source;
+            this.trgt = target;
+        }
+
+        @Override
+        public Path source() {
+            return this.src;
+        }
+
+        @Override
+        public Path target() {
+            return this.trgt;
+        }
+
+        @Override
+        public byte[] transform() {
+            if (!Files.exists(this.src)) {
+                throw new IllegalStateException(String.format("No file '%s'", this.src));
+            }
+            while (!Thread.currentThread().isInterrupted()) {
+                Thread.yield();
+            }
+            throw new IllegalStateException("Interrupted");
+        }
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.Collections;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Test case for {@link BytecodeClasses}.
+ * @since 0.6
+ */
+final class BytecodeClassesTest {
+
+    @Test
+    void verifiesCorrectClasses(@TempDir final Path dir) throws IOException {
+        BytecodeClassesTest.save(dir, "Correct", Opcodes.ICONST_0);
+        Assertions.assertDoesNotThrow(
+            () -> new BytecodeClasses(dir).verify(),
+            "We expect correct classes to pass verification"
+        );
+    }
+
+    @Test
+    void reportsAllBrokenClassesTogether(@TempDir final Path dir) throws IOException {
+        BytecodeClassesTest.save(dir, "FirstBroken", Opcodes.NOP);
+        BytecodeClassesTest.save(dir, "SecondBroken", Opcodes.NOP);
+        BytecodeClassesTest.save(dir, "Correct", Opcodes.ICONST_0);
+        MatcherAssert.assertThat(
+            "We expect a single report with all the broken classes",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> new BytecodeClasses(dir).verify()
+            ).getMessage(),
+            Matchers.allOf(
+                Matchers.containsString("failed for 2 of 3 classes"),
+                Matchers.containsString("FirstBroken"),
+                Matchers.containsString("SecondBroken")
+            )
+        );
+    }
+
+    @Test
+    void reportsClassWithTruncatedMethodBody(@TempDir final Path dir) throws IOException {
+        BytecodeClassesTest.save(dir, "Truncated", Opcodes.ICONST_0);
+        final Path clazz = dir.resolve("Truncated.class");
+        final byte[] bytes = Files.readAllBytes(clazz);
+        Files.write(clazz, Arrays.copyOf(bytes, bytes.length - 8));
+        MatcherAssert.assertThat(
+            "We expect a truncated method body to be reported as a broken structure",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> new BytecodeClasses(dir).verify()
+            ).getMessage(),
+            Matchers.allOf(
+                Matchers.containsString("failed for 1 of 1 classes"),
+                Matchers.containsString("Truncated")
+            )
+        );
+    }
+
+    @Test
+    void reverifiesClassesOnlyWhenTheyChange(@TempDir final Path dir) throws IOException {
+        final Path classes = dir.resolve("classes");
+        final Path cache = dir.resolve("verification.txt");
+        Files.createDirectories(classes);
+        BytecodeClassesTest.save(classes, "Changed", Opcodes.ICONST_0);
+        new BytecodeClasses(classes, new Shard(), new VerificationCache(cache)).verify();
+        MatcherAssert.assertThat(
+            "We expect the passed class to be remembered",
+            new String(Files.readAllBytes(cache), StandardCharsets.UTF_8),
+            Matchers.containsString("Changed.class")
+        );
+        BytecodeClassesTest.save(classes, "Changed", Opcodes.NOP);
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new BytecodeClasses(classes, new Shard(), new VerificationCache(cache)).verify(),
+            "We expect the changed class to be verified again"
+        );
+    }
+
+    @Test
+    void reportsVerificationCacheHitsToMetrics(@TempDir final Path dir) throws IOException {
+        final Path classes = dir.resolve("classes");
+        final Path cache = dir.resolve("verification.txt");
+        Files.createDirectories(classes);
+        BytecodeClassesTest.save(classes, "Remembered", Opcodes.ICONST_0);
+        BytecodeClassesTest.save(classes, "Fresh", Opcodes.ICONST_1);
+        new BytecodeClasses(classes, new Shard(), new VerificationCache(cache)).verify();
+        BytecodeClassesTest.save(classes, "Fresh", Opcodes.ICONST_0);
+        final Metrics metrics = new Metrics("verify");
+        metrics.record(
+            () -> new BytecodeClasses(classes, new Shard(), new VerificationCache(cache)).verify()
+        );
+        MatcherAssert.assertThat(
+            "We expect the remembered class to be a hit and the changed one to be a miss",
+            metrics.json(),
+            Matchers.containsString("\"verification\": {\"hits\": 1, \"misses\": 1},")
+        );
+    }
+
+    @Test
+    void verifiesOnlyGivenClasses(@TempDir final Path dir) throws IOException {
+        BytecodeClassesTest.save(dir, "Produced", Opcodes.ICONST_0);
+        BytecodeClassesTest.save(dir, "Foreign", Opcodes.NOP);
+        Assertions.assertDoesNotThrow(
+            () -> new BytecodeClasses(
+                dir, new VerificationCache(), BytecodeClassesTest.class.getClassLoader()
+            ).verify(Collections.singletonList(dir.resolve("Produced.class"))),
+            "We expect only the given classes to be verified"
+        );
+    }
+
+    /**
+     * Save a class with a method that returns an integer.
+     * @param dir Directory.
+     * @param name Class name.
+     * @param push Opcode that should push the returned integer to the stack.
+     * @throws IOException If fails.
+     */
+    private static void save(final Path dir, final String name, final int push)
+        throws IOException {
+        Files.write(
+            dir.resolve(String.format("%s.class", name)),
+            new BytecodeProgram(
+                new BytecodeClass(name)
+                    .withMethod("number", "()I", Opcodes.ACC_PUBLIC, Opcodes.ACC_STATIC)
+                    .opcode(push)
+                    .opcode(Opcodes.IRETURN)
+                    .up()
+            ).bytecode().bytes()
+        );
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+/**
+ * Test case for {@link ClassFilter}.
+ * @since 0.6
+ */
+final class ClassFilterTest {
+
+    @ParameterizedTest
+    @CsvSource(
+        {
+            "com.acme.engine.Engine, true",
+            "com.acme.engine.core.Piston, true",
+            "com.acme.engine.core.PistonDto, false",
+            "com.acme.web.Controller, false",
+            "com.acme.engine, true"
+        }
+    )
+    void filtersClassesByPatterns(final String name, final boolean accepted) {
+        MatcherAssert.assertThat(
+            String.format("We expect the class '%s' to be filtered correctly", name),
+            new ClassFilter("com.acme.engine.**, !**.*Dto").accepts(name),
+            Matchers.is(accepted)
+        );
+    }
+
+    @Test
+    void excludesClassesWithoutPackage() {
+        MatcherAssert.assertThat(
+            "We expect the '**.' prefix to match classes in the default package too",
+            new ClassFilter("!**.*Dto").accepts("UserDto"),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void selectsFilesByClassNames() {
+        final Path root = Paths.get("classes");
+        MatcherAssert.assertThat(
+            "We expect only files of the accepted classes to be selected",
+            new ClassFilter("org.*.App?").select(
+                root,
+                Stream.of(
+                    root.resolve("org/eolang/App1.class"),
+                    root.resolve("org/eolang/Application.class"),
+                    root.resolve("org/eolang/deep/App2.xmir")
+                )
+            ).collect(Collectors.toList()),
+            Matchers.contains(root.resolve("org/eolang/App1.class"))
+        );
+    }
+}
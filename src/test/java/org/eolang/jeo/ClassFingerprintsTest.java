@@ -0,0 +1,96 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeClassProperties;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Test case for {@link ClassFingerprints}.
+ * @since 0.6
+ */
+final class ClassFingerprintsTest {
+
+    @Test
+    void changesSupertypesFingerprintWhenParentChanges(@TempDir final Path dir)
+        throws IOException {
+        ClassFingerprintsTest.save(dir, new BytecodeClass("Parent"));
+        ClassFingerprintsTest.save(
+            dir,
+            new BytecodeClass(
+                "Child",
+                new BytecodeClassProperties(Opcodes.ACC_PUBLIC, null, "Parent")
+            )
+        );
+        final String before = ClassFingerprintsTest.supertypes(dir, "Child");
+        MatcherAssert.assertThat(
+            "We expect the fingerprint to be the same while the parent doesn't change",
+            ClassFingerprintsTest.supertypes(dir, "Child"),
+            Matchers.equalTo(before)
+        );
+        ClassFingerprintsTest.save(dir, new BytecodeClass("Parent").withField("count"));
+        MatcherAssert.assertThat(
+            "We expect the fingerprint to change when the parent changes",
+            ClassFingerprintsTest.supertypes(dir, "Child"),
+            Matchers.not(Matchers.equalTo(before))
+        );
+    }
+
+    /**
+     * Fingerprint of super types of the class found in the directory.
+     * @param dir Directory with class files.
+     * @param name Internal name of the class.
+     * @return Fingerprint.
+     * @throws IOException If fails.
+     */
+    private static String supertypes(final Path dir, final String name) throws IOException {
+        try (URLClassLoader loader = new URLClassLoader(new URL[]{dir.toUri().toURL()})) {
+            return new ClassFingerprints(loader).supertypes(name);
+        }
+    }
+
+    /**
+     * Save the class to the directory.
+     * @param dir Directory.
+     * @param clazz Class.
+     * @throws IOException If fails.
+     */
+    private static void save(final Path dir, final BytecodeClass clazz) throws IOException {
+        Files.write(
+            dir.resolve(String.format("%s.class", clazz.name())),
+            new BytecodeProgram(clazz).bytecode().bytes()
+        );
+    }
+}
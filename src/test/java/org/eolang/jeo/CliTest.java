@@ -0,0 +1,81 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.io.FileMatchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link Cli}.
+ * @since 0.6
+ */
+final class CliTest {
+
+    @Test
+    void disassemblesAndAssemblesClassesFromJar(@TempDir final Path temp) throws IOException {
+        final Path jar = temp.resolve("app.jar");
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar))) {
+            out.putNextEntry(new JarEntry("org/eolang/jeo/Packed.class"));
+            out.write(
+                new BytecodeProgram("org/eolang/jeo", new BytecodeClass("Packed"))
+                    .bytecode()
+                    .bytes()
+            );
+            out.closeEntry();
+        }
+        final Path xmir = temp.resolve("xmir");
+        final Path classes = temp.resolve("classes");
+        new Cli("disassemble", jar.toString(), xmir.toString()).run();
+        new Cli("assemble", xmir.toString(), classes.toString()).run();
+        new Cli("verify", classes.toString()).run();
+        MatcherAssert.assertThat(
+            "The class from the jar should go through all the commands",
+            classes.resolve("org/eolang/jeo/Packed.class").toFile(),
+            FileMatchers.anExistingFile()
+        );
+    }
+
+    @Test
+    void rejectsUnknownCommand() {
+        MatcherAssert.assertThat(
+            "Unknown command should be reported with the usage",
+            Assertions.assertThrows(
+                IllegalArgumentException.class,
+                () -> new Cli("compile").run()
+            ).getMessage(),
+            Matchers.containsString("Usage")
+        );
+    }
+}
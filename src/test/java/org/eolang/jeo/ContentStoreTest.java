@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Optional;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link ContentStore}.
+ * @since 0.6
+ */
+final class ContentStoreTest {
+
+    @Test
+    void findsSavedResultByTheSameInputAndOptions(@TempDir final Path dir) {
+        final ContentStore store = new ContentStore(dir.toString(), 1024L);
+        final byte[] input = "input".getBytes(StandardCharsets.UTF_8);
+        final byte[] output = "output".getBytes(StandardCharsets.UTF_8);
+        store.put(store.key("disassemble short", input), output);
+        MatcherAssert.assertThat(
+            "We expect the result to be found by the same input and options only",
+            new Object[] {
+                store.get(store.key("disassemble short", input)).map(String::new),
+                store.get(store.key("disassemble debug", input)).isPresent(),
+            },
+            Matchers.arrayContaining(Optional.of("output"), false)
+        );
+    }
+
+    @Test
+    void changesKeyWithVersionOfJeo(@TempDir final Path dir) {
+        final byte[] input = "input".getBytes(StandardCharsets.UTF_8);
+        final String key = new ContentStore(dir.toString(), 1024L).key("assemble", input);
+        MatcherAssert.assertThat(
+            "We expect the key to depend on the version of jeo from the manifest",
+            new Object[] {
+                new ContentStore(dir.toString(), 1024L, "1.2.3-1234567").key("assemble", input),
+                new ContentStore(dir.toString(), 1024L, "1.2.4-7654321").key("assemble", input),
+            },
+            Matchers.arrayContaining(
+                Matchers.equalTo(key),
+                Matchers.not(Matchers.equalTo(key))
+            )
+        );
+    }
+
+    @Test
+    void removesLeastRecentlyUsedEntries(@TempDir final Path dir) throws Exception {
+        final ContentStore store = new ContentStore(dir.toString(), 10L);
+        final String old = store.key("assemble", new byte[] {1});
+        final String fresh = store.key("assemble", new byte[] {2});
+        store.put(old, "12345678".getBytes(StandardCharsets.UTF_8));
+        Thread.sleep(1100L);
+        store.put(fresh, "12345678".getBytes(StandardCharsets.UTF_8));
+        store.evict();
+        MatcherAssert.assertThat(
+            "We expect only the recently used entry to stay in the store",
+            new Object[] {store.get(old).isPresent(), store.get(fresh).isPresent()},
+            Matchers.arrayContaining(false, true)
+        );
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.io.FileMatchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link ForkedTranslator}.
+ * @since 0.6
+ */
+final class ForkedTranslatorTest {
+
+    @Test
+    void disassemblesInForkedWorker(@TempDir final Path temp) throws IOException {
+        final Path classes = temp.resolve("classes");
+        final Path target = temp.resolve("xmir");
+        final Path clazz = classes.resolve("org/eolang/jeo/Forked.class");
+        Files.createDirectories(clazz.getParent());
+        Files.write(
+            clazz,
+            new BytecodeProgram("org/eolang/jeo", new BytecodeClass("Forked")).bytecode().bytes()
+        );
+        final List<Path> translated = new Fork(1, 4, "-Xmx256m", Collections.emptyList())
+            .translator(path -> path, new Settings().task("disassemble", classes, target))
+            .apply(Stream.of(clazz))
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "The forked worker should disassemble the class into XMIR",
+            translated.get(0).toFile(),
+            FileMatchers.anExistingFile()
+        );
+    }
+
+    @Test
+    void reportsFailedFiles(@TempDir final Path temp) throws IOException {
+        final Path broken = temp.resolve("Broken.class");
+        Files.write(broken, new byte[]{0, 1, 2, 3});
+        MatcherAssert.assertThat(
+            "The failure of the forked worker should mention the broken file",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> new Fork(1, 4, "", Collections.emptyList())
+                    .translator(
+                        path -> path,
+                        new Settings().task("disassemble", temp, temp.resolve("xmir"))
+                    )
+                    .apply(Stream.of(broken))
+            ).getMessage(),
+            Matchers.containsString("Broken.class")
+        );
+    }
+}
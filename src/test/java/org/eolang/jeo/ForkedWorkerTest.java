@@ -0,0 +1,131 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link ForkedWorker}.
+ * @since 0.6
+ */
+final class ForkedWorkerTest {
+
+    @Test
+    void keepsSpecialCharactersOfParts() {
+        final List<String> parts = Arrays.asList("ok", "with\ttab", "new\nline\r", "back\\slash\\t", "");
+        final String line = ForkedWorker.encode(parts);
+        MatcherAssert.assertThat(
+            "We expect the encoded line to be a single line that decodes to the same parts",
+            Arrays.asList(line.contains("\n") || line.contains("\r"), ForkedWorker.decode(line)),
+            Matchers.contains(false, parts)
+        );
+    }
+
+    @Test
+    void disassemblesClassWithTabInPath(@TempDir final Path temp) throws IOException {
+        final Path classes = temp.resolve("with\ttab");
+        final Path clazz = classes.resolve("Tabbed.class");
+        Files.createDirectories(classes);
+        Files.write(clazz, new BytecodeProgram(new BytecodeClass("Tabbed")).bytecode().bytes());
+        final List<String> result = ForkedWorker.decode(
+            ForkedWorkerTest.answers(
+                ForkedWorkerTest.task(
+                    new Settings().task("disassemble", classes, temp.resolve("xmir")),
+                    clazz
+                )
+            ).get(0)
+        );
+        MatcherAssert.assertThat(
+            "We expect the worker to disassemble the class from the folder with a tab",
+            Files.exists(Paths.get(result.get(2))),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void rejectsTaskWithoutRequiredOption(@TempDir final Path temp) throws IOException {
+        final Map<String, String> task = new Settings()
+            .task("assemble", temp, temp);
+        task.remove("budget");
+        MatcherAssert.assertThat(
+            "We expect the worker to report the missing option",
+            ForkedWorkerTest.answers(ForkedWorkerTest.task(task, temp.resolve("A.xmir"))).get(0),
+            Matchers.allOf(
+                Matchers.startsWith(ForkedWorker.FAIL),
+                Matchers.containsString("'budget' is missing")
+            )
+        );
+    }
+
+    /**
+     * Task command line.
+     * @param options Named options of the task.
+     * @param file File to translate.
+     * @return Line.
+     */
+    private static String task(final Map<String, String> options, final Path file) {
+        final List<String> parts = options.entrySet().stream()
+            .map(option -> String.format("%s=%s", option.getKey(), option.getValue()))
+            .collect(Collectors.toList());
+        parts.add(0, ForkedWorker.TASK);
+        parts.add(String.format("%s=%s", ForkedWorker.FILE, file));
+        return ForkedWorker.encode(parts);
+    }
+
+    /**
+     * Run the worker with a single task and collect its answers.
+     * @param task Task command line.
+     * @return Answers of the worker.
+     * @throws IOException If fails.
+     */
+    private static List<String> answers(final String task) throws IOException {
+        final StringWriter output = new StringWriter();
+        new ForkedWorker(
+            new BufferedReader(
+                new StringReader(
+                    String.join("\n", task, ForkedWorker.END, ForkedWorker.EXIT)
+                )
+            ),
+            new PrintWriter(output)
+        ).run();
+        return Arrays.asList(output.toString().split("\\R"));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeClassProperties;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+import org.eolang.jeo.representation.bytecode.ClassHierarchy;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.objectweb.asm.Opcodes;
+
+/**
+ * Test case for {@link JeoClassLoader}.
+ * @since 0.6
+ */
+final class JeoClassLoaderTest {
+
+    @Test
+    void readsClassesOnlyWhenTheyAreRequested(@TempDir final Path dir) throws Exception {
+        final JeoClassLoader loader = new JeoClassLoader(
+            Thread.currentThread().getContextClassLoader(),
+            Collections.singleton(dir.toString())
+        );
+        final String name = "ClassCompiledAfterLoaderCreation";
+        Files.write(
+            dir.resolve(String.format("%s.class", name)),
+            new BytecodeProgram(new BytecodeClass(name)).bytecode().bytes()
+        );
+        MatcherAssert.assertThat(
+            "We expect the loader to index classes only when the first class is requested",
+            loader.loadClass(name).getName(),
+            Matchers.equalTo(name)
+        );
+    }
+
+    @Test
+    void definesClassOnceWhenLoadedConcurrently(@TempDir final Path dir) throws Exception {
+        final String name = "ClassLoadedConcurrently";
+        Files.write(
+            dir.resolve(String.format("%s.class", name)),
+            new BytecodeProgram(new BytecodeClass(name)).bytecode().bytes()
+        );
+        final JeoClassLoader loader = new JeoClassLoader(
+            Thread.currentThread().getContextClassLoader(),
+            Collections.singleton(dir.toString())
+        );
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<Class<?>>> futures = new ArrayList<>(32);
+            for (int index = 0; index < 32; ++index) {
+                futures.add(executor.submit(() -> loader.loadClass(name)));
+            }
+            final Set<Class<?>> loaded = new HashSet<>(1);
+            for (final Future<Class<?>> future : futures) {
+                loaded.add(future.get());
+            }
+            MatcherAssert.assertThat(
+                "We expect the class to be defined exactly once",
+                loaded,
+                Matchers.hasSize(1)
+            );
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void servesClassHeadersWithoutDefiningClasses(@TempDir final Path dir) throws Exception {
+        final String name = "ClassWithMissingParent";
+        Files.write(
+            dir.resolve(String.format("%s.class", name)),
+            new BytecodeProgram(
+                new BytecodeClass(
+                    name,
+                    new BytecodeClassProperties(
+                        Opcodes.ACC_PUBLIC, null, "org/eolang/jeo/MissingParent"
+                    )
+                )
+            ).bytecode().bytes()
+        );
+        MatcherAssert.assertThat(
+            "We expect the hierarchy to read the super class from the class file header, even if the class can't be defined",
+            new ClassHierarchy(
+                new JeoClassLoader(
+                    Thread.currentThread().getContextClassLoader(),
+                    Collections.singleton(dir.toString())
+                )
+            ).superName(name),
+            Matchers.equalTo("org/eolang/jeo/MissingParent")
+        );
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import com.jcabi.xml.XMLDocument;
+import com.yegor256.xsline.StLambda;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.eolang.jeo.representation.BytecodeRepresentation;
+import org.eolang.jeo.representation.bytecode.Bytecode;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test cases for {@link JeoEngine}.
+ * @since 0.6
+ */
+final class JeoEngineTest {
+
+    @Test
+    void disassemblesAndAssemblesInMemory() throws IOException {
+        final JeoEngine engine = new JeoEngine();
+        final ByteArrayOutputStream xmir = new ByteArrayOutputStream();
+        engine.disassemble(JeoEngineTest.clazz("Memory"), xmir);
+        MatcherAssert.assertThat(
+            "The class should be assembled back from XMIR stream",
+            new BytecodeRepresentation(
+                new Bytecode(engine.assemble(new ByteArrayInputStream(xmir.toByteArray())))
+            ).name(),
+            Matchers.equalTo("org/eolang/jeo/Memory")
+        );
+    }
+
+    @Test
+    void transformsAllClassesInOrder() {
+        final AtomicInteger applied = new AtomicInteger();
+        final List<String> names = IntStream.range(0, 16)
+            .mapToObj(idx -> String.format("Batch%d", idx))
+            .collect(Collectors.toList());
+        MatcherAssert.assertThat(
+            "All the classes should be transformed and kept in the same order",
+            new JeoEngine(
+                Collections.singletonList(
+                    new StLambda(
+                        xml -> {
+                            applied.incrementAndGet();
+                            return new XMLDocument(xml.node());
+                        }
+                    )
+                )
+            ).transformAll(
+                names.stream().map(JeoEngineTest::clazz).collect(Collectors.toList())
+            ).stream().map(
+                bytes -> new BytecodeRepresentation(new Bytecode(bytes)).name()
+            ).collect(Collectors.toList()),
+            Matchers.equalTo(
+                names.stream()
+                    .map(name -> String.format("org/eolang/jeo/%s", name))
+                    .collect(Collectors.toList())
+            )
+        );
+        MatcherAssert.assertThat(
+            "The pass should be applied to each class",
+            applied.get(),
+            Matchers.equalTo(names.size())
+        );
+    }
+
+    /**
+     * Bytecode of an empty class.
+     * @param name Simple name of the class.
+     * @return Bytecode.
+     */
+    private static byte[] clazz(final String name) {
+        return new BytecodeProgram("org/eolang/jeo", new BytecodeClass(name))
+            .bytecode()
+            .bytes();
+    }
+}
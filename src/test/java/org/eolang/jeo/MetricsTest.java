@@ -0,0 +1,110 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Metrics}.
+ * @since 0.6
+ */
+final class MetricsTest {
+
+    @Test
+    void collectsPhasesFromParallelThreads(@TempDir final Path dir) throws IOException {
+        final Metrics metrics = new Metrics("test");
+        metrics.record(
+            () -> new ParallelTranslator(
+                path -> {
+                    final long start = System.nanoTime();
+                    Metrics.current().file(path, start, 10, 20);
+                    Metrics.current().phase("work", start);
+                    return path;
+                }
+            ).apply(
+                IntStream.range(0, 16).mapToObj(index -> dir.resolve(String.format("%d", index)))
+            ).collect(Collectors.toList())
+        );
+        metrics.save(dir);
+        MatcherAssert.assertThat(
+            "We expect phases and files recorded by all the threads to be reported",
+            new String(Files.readAllBytes(dir.resolve("test.json")), StandardCharsets.UTF_8),
+            Matchers.allOf(
+                Matchers.containsString("\"files\": 16,"),
+                Matchers.containsString("\"bytes\": {\"in\": 160, \"out\": 320},"),
+                Matchers.containsString("\"work\": {\"count\": 16,")
+            )
+        );
+    }
+
+    @Test
+    void reportsPhasesOfSlowestFiles() {
+        final Metrics metrics = new Metrics("slowest");
+        metrics.record(
+            () -> {
+                final long start = System.nanoTime();
+                Metrics.current().begin();
+                Metrics.current().phase("parse", start);
+                Metrics.current().phase("parse", start);
+                Metrics.current().phase("schema", start);
+                Metrics.current().file(Paths.get("Slow.xmir"), start, 1, 2);
+                Metrics.current().phase("outside", start);
+                Metrics.current().file(Paths.get("Fast.xmir"), System.nanoTime(), 1, 2);
+            }
+        );
+        MatcherAssert.assertThat(
+            "We expect each of the slowest files to be reported with the phases of its transformation",
+            metrics.json(),
+            Matchers.allOf(
+                Matchers.matchesPattern(
+                    "(?s).*\\{\"file\": \"Slow.xmir\", [^}]+, \"phases\": \\{\"parse\": [0-9.]+, \"schema\": [0-9.]+}}.*"
+                ),
+                Matchers.matchesPattern(
+                    "(?s).*\\{\"file\": \"Fast.xmir\", [^}]+, \"phases\": \\{}}.*"
+                )
+            )
+        );
+    }
+
+    @Test
+    void recordsNothingWhenNotAttached() {
+        final long start = System.nanoTime();
+        Metrics.current().phase("ignored", start);
+        MatcherAssert.assertThat(
+            "We expect metrics of another goal to stay empty",
+            new Metrics("empty").json(),
+            Matchers.not(Matchers.containsString("ignored"))
+        );
+    }
+}
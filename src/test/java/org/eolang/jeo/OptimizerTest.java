@@ -0,0 +1,119 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.eolang.jeo.representation.asm.DisassembleMode;
+import org.eolang.jeo.representation.asm.MethodSelector;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.hamcrest.io.FileMatchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test cases for {@link Optimizer}.
+ * @since 0.6
+ */
+final class OptimizerTest {
+
+    @Test
+    void optimizesClassesInPlaceByAllThePasses(@TempDir final Path temp) throws IOException {
+        final Path classes = temp.resolve("classes");
+        final Path clazz = classes.resolve("org/eolang/jeo/Fast.class");
+        Files.createDirectories(clazz.getParent());
+        Files.write(
+            clazz,
+            new BytecodeProgram("org/eolang/jeo", new BytecodeClass("Fast")).bytecode().bytes()
+        );
+        Files.write(
+            temp.resolve("identity.xsl"),
+            String.join(
+                "\n",
+                "<xsl:stylesheet xmlns:xsl='http://www.w3.org/1999/XSL/Transform' version='2.0'>",
+                "  <xsl:template match='node()|@*'>",
+                "    <xsl:copy><xsl:apply-templates select='node()|@*'/></xsl:copy>",
+                "  </xsl:template>",
+                "</xsl:stylesheet>"
+            ).getBytes(StandardCharsets.UTF_8)
+        );
+        final Path dump = temp.resolve("dump");
+        final long count = new Optimizer(
+            classes,
+            classes,
+            new JeoEngine(
+                DisassembleMode.SHORT,
+                new MethodSelector(),
+                OptimizerTest.class.getClassLoader(),
+                new Passes(
+                    String.format("identity.xsl, %s", OptimizerTest.Fielded.class.getName()),
+                    temp,
+                    OptimizerTest.class.getClassLoader()
+                ).dumping(dump)
+            )
+        ).optimize();
+        MatcherAssert.assertThat(
+            "The class should be optimized by the Java pass after the stylesheet",
+            new String(Files.readAllBytes(clazz), StandardCharsets.ISO_8859_1),
+            Matchers.containsString("optimized")
+        );
+        MatcherAssert.assertThat(
+            "XMIR after each pass should be saved for debugging",
+            dump.resolve("02-Fielded/org/eolang/jeo/Fast.xmir").toFile(),
+            FileMatchers.anExistingFile()
+        );
+        MatcherAssert.assertThat(
+            "All the classes should be counted",
+            count,
+            Matchers.equalTo(1L)
+        );
+    }
+
+    @Test
+    void rejectsClassThatIsNotPass(@TempDir final Path temp) {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Passes("java.lang.Object", temp, OptimizerTest.class.getClassLoader()),
+            "A class that is neither a shift nor a program pass should be rejected"
+        );
+    }
+
+    /**
+     * Pass that adds a field to the class.
+     * @since 0.6
+     */
+    public static final class Fielded implements ProgramPass {
+        @Override
+        public BytecodeProgram apply(final BytecodeProgram program) {
+            program.top().withField("optimized");
+            return program;
+        }
+    }
+}
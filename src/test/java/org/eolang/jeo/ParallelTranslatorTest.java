@@ -24,6 +24,8 @@
 package org.eolang.jeo;
 
 import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
@@ -34,6 +36,7 @@ import java.util.stream.Stream;
 import org.eolang.jeo.representation.bytecode.BytecodeClass;
 import org.eolang.jeo.representation.bytecode.BytecodeProgram;
 import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
 import org.hamcrest.io.FileMatchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.TempDir;
@@ -121,6 +124,30 @@ final class ParallelTranslatorTest {
         );
     }
 
+    @Test
+    void usesGivenClassLoaderWithoutChangingTheCallingThread(@TempDir final Path temp) {
+        final ClassLoader loader = new URLClassLoader(new URL[0]);
+        final ClassLoader original = Thread.currentThread().getContextClassLoader();
+        MatcherAssert.assertThat(
+            "Translation threads must see the given class loader",
+            new ParallelTranslator(
+                path -> {
+                    if (Thread.currentThread().getContextClassLoader() != loader) {
+                        throw new IllegalStateException("Unexpected class loader");
+                    }
+                    return path;
+                },
+                loader
+            ).apply(Stream.of(temp.resolve("A"), temp.resolve("B"))).count(),
+            Matchers.equalTo(2L)
+        );
+        MatcherAssert.assertThat(
+            "Context class loader of the calling thread must not change",
+            Thread.currentThread().getContextClassLoader(),
+            Matchers.sameInstance(original)
+        );
+    }
+
     /**
      * Transform the path.
      * @param path Path to transform.
@@ -0,0 +1,147 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import org.eolang.jeo.representation.Gzip;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link PipelinedTranslator}.
+ * @since 0.6
+ */
+final class PipelinedTranslatorTest {
+
+    @Test
+    void returnsFilesOnlyAfterTheyAreWritten(@TempDir final Path dir) throws IOException {
+        final List<Path> sources = IntStream.range(0, 50)
+            .mapToObj(index -> dir.resolve(String.format("%d.txt", index)))
+            .collect(Collectors.toList());
+        for (final Path source : sources) {
+            Files.write(source, source.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+        }
+        final Metrics metrics = new Metrics("pipeline");
+        metrics.record(
+            () -> {
+                try (Stream<Path> all = new PipelinedTranslator(PipelinedTranslatorTest::copy, 3, 2)
+                    .apply(sources.stream())) {
+                    all.forEach(
+                        path -> MatcherAssert.assertThat(
+                            "We expect each translated file to be written before it is returned",
+                            Files.exists(path),
+                            Matchers.is(true)
+                        )
+                    );
+                }
+            }
+        );
+        MatcherAssert.assertThat(
+            "We expect utilisation of all the pipeline stages to be reported",
+            metrics.json(),
+            Matchers.allOf(
+                Matchers.containsString("\"read\": {\"threads\": 1"),
+                Matchers.containsString("\"transform\": {\"threads\": 3"),
+                Matchers.containsString("\"write\": {\"threads\": 1")
+            )
+        );
+    }
+
+    @Test
+    void rethrowsFailureOfTransformation(@TempDir final Path dir) {
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> new PipelinedTranslator(
+                path -> {
+                    throw new IllegalStateException("Broken transformation");
+                },
+                2,
+                1
+            ).apply(Stream.of(dir.resolve("a"), dir.resolve("b"), dir.resolve("c")))
+                .collect(Collectors.toList()),
+            "We expect the failure of the transformation stage to be rethrown"
+        );
+    }
+
+    @Test
+    void passesContentReadAheadToTransformation(@TempDir final Path dir) throws IOException {
+        final Path source = dir.resolve("Ahead.xmir");
+        final byte[] content = "<program/>".getBytes(StandardCharsets.UTF_8);
+        Files.write(source, content);
+        try (Stream<Path> all = new PipelinedTranslator(
+            path -> {
+                try {
+                    Files.delete(path);
+                    MatcherAssert.assertThat(
+                        "We expect the transformation to take the content read ahead from memory",
+                        Gzip.read(path),
+                        Matchers.equalTo(content)
+                    );
+                } catch (final IOException exception) {
+                    throw new UncheckedIOException(exception);
+                }
+                return path;
+            },
+            1,
+            1
+        ).apply(Stream.of(source))) {
+            MatcherAssert.assertThat(
+                "We expect the file to go through the pipeline",
+                all.collect(Collectors.toList()),
+                Matchers.contains(source)
+            );
+        }
+    }
+
+    /**
+     * Copy the file next to it.
+     * @param source File to copy.
+     * @return Copy.
+     */
+    private static Path copy(final Path source) {
+        final Path target = source.resolveSibling(String.format("%s.copy", source.getFileName()));
+        try {
+            Writes.write(target, Files.readAllBytes(source));
+        } catch (final IOException exception) {
+            throw new UncheckedIOException(exception);
+        }
+        MatcherAssert.assertThat(
+            "We expect the write to be deferred to the writer stage",
+            Files.exists(target),
+            Matchers.is(false)
+        );
+        return target;
+    }
+}
@@ -47,10 +47,9 @@ final class PluginStartupTest {
             dir.resolve("SomeClassCompiledDynamically.class"),
             new BytecodeProgram(new BytecodeClass(name)).bytecode().bytes()
         );
-        new PluginStartup(new MavenProject(), dir).init();
         MatcherAssert.assertThat(
             "We expect the class to be loaded",
-            Thread.currentThread().getContextClassLoader().loadClass(name),
+            new PluginStartup(new MavenProject(), dir).loader().loadClass(name),
             Matchers.notNullValue()
         );
     }
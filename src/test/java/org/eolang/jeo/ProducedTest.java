@@ -0,0 +1,144 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Produced}.
+ * @since 0.6
+ */
+final class ProducedTest {
+
+    @Test
+    void mergesShardsWithDroppedFiles(@TempDir final Path dir) throws IOException {
+        final Path input = dir.resolve("classes");
+        final Path output = dir.resolve("xmir");
+        final Path manifests = dir.resolve("manifests");
+        Files.createDirectories(input);
+        Files.createDirectories(output);
+        for (final String name : new String[]{"First", "Second", "Third", "Slow"}) {
+            Files.write(input.resolve(name), name.getBytes(StandardCharsets.UTF_8));
+        }
+        Files.write(output.resolve("Slow.xmir"), "stale".getBytes(StandardCharsets.UTF_8));
+        for (int index = 1; index <= 2; ++index) {
+            try (
+                Stream<Path> all = Files.list(input);
+                Stream<Path> produced = new Sharded(
+                    "disassemble",
+                    new Shard(index, 2),
+                    input,
+                    output,
+                    manifests,
+                    new Produced(
+                        new PipelinedTranslator(
+                            path -> {
+                                final Transformation trans = new Budgeted(
+                                    new Copy(path, output), 100L, Passthrough.DROP
+                                );
+                                trans.transform();
+                                return trans.target();
+                            }
+                        )
+                    )
+                ).apply(all)
+            ) {
+                produced.collect(Collectors.toList());
+            }
+        }
+        new ShardManifests(manifests).merge();
+        MatcherAssert.assertThat(
+            "We expect the merged manifest to list only the files that were produced",
+            Files.readAllLines(manifests.resolve("disassemble.txt"), StandardCharsets.UTF_8)
+                .stream()
+                .skip(2)
+                .collect(Collectors.toList()),
+            Matchers.contains("First.xmir", "Second.xmir", "Third.xmir")
+        );
+    }
+
+    /**
+     * Transformation that copies the file, or runs until its thread is
+     * interrupted if the file name starts with 'Slow'.
+     * @since 0.6
+     */
+    private static final class Copy implements Transformation {
+
+        /**
+         * Source file.
+         */
+        private final Path src;
+
+        /**
+         * Output directory.
+         */
+        private final Path output;
+
+        /**
+         * Constructor.
+         * @param source Source file.
+         * @param output Output directory.
+         */
+        Copy(final Path source, final Path output) {
+            this.src = source;
+            this.output = output;
+        }
+
+        @Override
+        public Path source() {
+            return this.src;
+        }
+
+        @Override
+        public Path target() {
+            return this.output.resolve(String.format("%s.xmir", this.src.getFileName()));
+        }
+
+        @Override
+        public byte[] transform() {
+            if (this.src.getFileName().toString().startsWith("Slow")) {
+                while (!Thread.currentThread().isInterrupted()) {
+                    Thread.yield();
+                }
+                throw new IllegalStateException("Interrupted");
+            }
+            try {
+                final byte[] result = Files.readAllBytes(this.src);
+                Writes.write(this.target(), result);
+                return result;
+            } catch (final IOException exception) {
+                throw new IllegalStateException(exception);
+            }
+        }
+    }
+}
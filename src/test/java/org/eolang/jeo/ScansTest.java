@@ -0,0 +1,88 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Scans}.
+ *
+ * @since 0.6
+ */
+final class ScansTest {
+
+    @Test
+    void scansDirectoryOnlyOnce(@TempDir final Path temp) throws IOException {
+        final Path first = temp.resolve("a/b/First.class");
+        Files.createDirectories(first.getParent());
+        Files.write(first, new byte[]{1, 2, 3});
+        final Scans scans = new Scans();
+        MatcherAssert.assertThat(
+            "Scan should find files in subdirectories",
+            scans.files(temp).collect(Collectors.toList()),
+            Matchers.contains(first)
+        );
+        Files.write(temp.resolve("Second.class"), new byte[]{1});
+        MatcherAssert.assertThat(
+            "The second call should reuse the snapshot instead of scanning again",
+            scans.files(temp).collect(Collectors.toList()),
+            Matchers.contains(first)
+        );
+        MatcherAssert.assertThat(
+            "Size should be taken from the snapshot",
+            scans.size(first),
+            Matchers.equalTo(3L)
+        );
+    }
+
+    @Test
+    void addsWrittenFilesToSnapshot(@TempDir final Path temp) {
+        final Scans scans = new Scans();
+        scans.include(temp);
+        final Path written = temp.resolve("org/Written.xmir");
+        MatcherAssert.assertThat(
+            "File missing in the snapshot should not exist",
+            scans.modified(written).isPresent(),
+            Matchers.is(false)
+        );
+        scans.written(written, 42L);
+        MatcherAssert.assertThat(
+            "Written file should be added to the snapshot",
+            scans.files(temp).collect(Collectors.toList()),
+            Matchers.contains(written)
+        );
+        MatcherAssert.assertThat(
+            "Size of the written file should be taken from the snapshot",
+            scans.size(written),
+            Matchers.equalTo(42L)
+        );
+    }
+}
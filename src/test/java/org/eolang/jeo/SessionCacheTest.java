@@ -0,0 +1,152 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collections;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import org.apache.maven.execution.DefaultMavenExecutionRequest;
+import org.apache.maven.execution.MavenExecutionRequest;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link SessionCache}.
+ *
+ * @since 0.6
+ */
+final class SessionCacheTest {
+
+    @Test
+    void indexesFoldersOfOtherModulesOnlyOnce(@TempDir final Path temp) {
+        final SessionCache cache = new SessionCache();
+        final AtomicInteger scans = new AtomicInteger();
+        for (int module = 0; module < 3; ++module) {
+            cache.classes(
+                temp,
+                false,
+                folder -> {
+                    scans.incrementAndGet();
+                    return Collections.emptyMap();
+                }
+            );
+        }
+        cache.classes(
+            temp,
+            true,
+            folder -> {
+                scans.incrementAndGet();
+                return Collections.emptyMap();
+            }
+        );
+        MatcherAssert.assertThat(
+            "A folder of another module should be indexed once, the own folder every time",
+            scans.get(),
+            Matchers.equalTo(2)
+        );
+    }
+
+    @Test
+    void reopensChangedJarFiles(@TempDir final Path temp) throws Exception {
+        final Path jar = temp.resolve("lib.jar");
+        SessionCacheTest.jar(jar, "First");
+        final SessionCache cache = new SessionCache();
+        final Archive first = cache.archive(jar);
+        MatcherAssert.assertThat(
+            "The same jar file should be opened only once",
+            cache.archive(jar),
+            Matchers.sameInstance(first)
+        );
+        SessionCacheTest.jar(jar, "Second");
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(System.currentTimeMillis() + 60_000L));
+        cache.archive(jar);
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> first.stream("First.class"),
+            "The archive of the changed jar file should be closed"
+        );
+        MatcherAssert.assertThat(
+            "The changed jar file should be opened again",
+            new JeoClassLoader(
+                Thread.currentThread().getContextClassLoader(),
+                Collections.singleton(jar.toString()),
+                cache,
+                path -> false
+            ).loadClass("Second").getName(),
+            Matchers.equalTo("Second")
+        );
+    }
+
+    @Test
+    void closesJarFilesWhenSessionEnds(@TempDir final Path temp) throws IOException {
+        final Path jar = temp.resolve("session.jar");
+        SessionCacheTest.jar(jar, "Session");
+        final Object session = new Object();
+        final MavenExecutionRequest request = new DefaultMavenExecutionRequest();
+        final SessionCache cache = SessionCache.of(session, request);
+        final Archive archive = cache.archive(jar);
+        MatcherAssert.assertThat(
+            "All the executions of the session should share the same cache",
+            SessionCache.of(session, request),
+            Matchers.sameInstance(cache)
+        );
+        request.getExecutionListener().sessionEnded(null);
+        Assertions.assertThrows(
+            IllegalStateException.class,
+            () -> archive.stream("Session.class"),
+            "Jar files should be closed when the session ends"
+        );
+        MatcherAssert.assertThat(
+            "The ended session should not keep its cache",
+            SessionCache.of(session, request),
+            Matchers.not(Matchers.sameInstance(cache))
+        );
+    }
+
+    /**
+     * Create a jar file with a single class.
+     * @param jar Path to the jar file.
+     * @param name Name of the class.
+     * @throws IOException If fails.
+     */
+    private static void jar(final Path jar, final String name) throws IOException {
+        try (OutputStream output = Files.newOutputStream(jar);
+            JarOutputStream stream = new JarOutputStream(output)) {
+            stream.putNextEntry(new JarEntry(String.format("%s.class", name)));
+            stream.write(new BytecodeProgram(new BytecodeClass(name)).bytecode().bytes());
+            stream.closeEntry();
+        }
+    }
+}
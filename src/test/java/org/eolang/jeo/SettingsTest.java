@@ -0,0 +1,84 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import org.eolang.jeo.representation.asm.DisassembleMode;
+import org.eolang.jeo.representation.asm.MethodSelector;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link Settings}.
+ * @since 0.6
+ */
+final class SettingsTest {
+
+    @Test
+    void savesManifestsToDefaultFolderUnlessSharded() {
+        final Path fallback = Paths.get("xmir");
+        MatcherAssert.assertThat(
+            "We expect manifests to be saved to the default folder of the goal",
+            new Settings().withBudget(100L).manifests(fallback),
+            Matchers.equalTo(fallback)
+        );
+    }
+
+    @Test
+    void keepsOriginalSettingsUnchanged() {
+        final Settings original = new Settings();
+        final Path manifests = Paths.get("manifests");
+        final Settings sharded = original.withShard(new Shard("1/2"), manifests)
+            .withBudget(100L);
+        MatcherAssert.assertThat(
+            "We expect a copy with the changed settings and the original left as it is",
+            new Object[]{
+                sharded.manifests(Paths.get("xmir")),
+                sharded.budget(),
+                original.budget(),
+            },
+            Matchers.arrayContaining(manifests, 100L, 0L)
+        );
+    }
+
+    @Test
+    void restoresSettingsOfTaskInForkedWorker() {
+        final Path input = Paths.get("classes");
+        final Path output = Paths.get("xmir");
+        final Map<String, String> task = new Settings()
+            .withBudget(250L)
+            .withDisassembling(
+                DisassembleMode.SHORT, new MethodSelector("Foo#bar", 10), 9
+            )
+            .task("disassemble", input, output);
+        MatcherAssert.assertThat(
+            "We expect the worker to restore the same settings from the named options of the task",
+            new Settings(task).task("disassemble", input, output),
+            Matchers.equalTo(task)
+        );
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link ShardManifests}.
+ * @since 0.6
+ */
+final class ShardManifestsTest {
+
+    @Test
+    void mergesManifestsOfAllShards(@TempDir final Path dir) throws IOException {
+        final Path output = ShardManifestsTest.output(dir, "A.xmir", "B.xmir", "C.xmir");
+        ShardManifestsTest.manifest(dir, output, 1, 2, "B.xmir");
+        ShardManifestsTest.manifest(dir, output, 2, 2, "A.xmir", "C.xmir");
+        MatcherAssert.assertThat(
+            "We expect a single goal to be merged",
+            new ShardManifests(dir).merge(),
+            Matchers.equalTo(1)
+        );
+        MatcherAssert.assertThat(
+            "We expect the merged manifest to list the files of all the shards",
+            Files.readAllLines(dir.resolve("disassemble.txt"), StandardCharsets.UTF_8),
+            Matchers.contains(
+                "shard 2",
+                String.format("output %s", output.toAbsolutePath()),
+                "A.xmir",
+                "B.xmir",
+                "C.xmir"
+            )
+        );
+    }
+
+    @Test
+    void rejectsMissingShard(@TempDir final Path dir) throws IOException {
+        final Path output = ShardManifestsTest.output(dir, "A.xmir");
+        ShardManifestsTest.manifest(dir, output, 1, 3, "A.xmir");
+        ShardManifestsTest.manifest(dir, output, 3, 3);
+        MatcherAssert.assertThat(
+            "We expect the missing shard to be reported",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> new ShardManifests(dir).merge()
+            ).getMessage(),
+            Matchers.containsString("shards [2] of 3 are missing")
+        );
+    }
+
+    @Test
+    void rejectsFileProducedTwice(@TempDir final Path dir) throws IOException {
+        final Path output = ShardManifestsTest.output(dir, "A.xmir", "B.xmir");
+        ShardManifestsTest.manifest(dir, output, 1, 2, "A.xmir", "B.xmir");
+        ShardManifestsTest.manifest(dir, output, 2, 2, "B.xmir");
+        MatcherAssert.assertThat(
+            "We expect the duplicate file to be reported",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> new ShardManifests(dir).merge()
+            ).getMessage(),
+            Matchers.containsString("'B.xmir' was produced by more than one shard")
+        );
+    }
+
+    @Test
+    void rejectsShardsWithDifferentTotals(@TempDir final Path dir) throws IOException {
+        final Path output = ShardManifestsTest.output(dir, "A.xmir", "B.xmir");
+        ShardManifestsTest.manifest(dir, output, 1, 2, "A.xmir");
+        ShardManifestsTest.manifest(dir, output, 2, 3, "B.xmir");
+        MatcherAssert.assertThat(
+            "We expect the mismatched number of nodes to be reported",
+            Assertions.assertThrows(
+                IllegalStateException.class,
+                () -> new ShardManifests(dir).merge()
+            ).getMessage(),
+            Matchers.containsString("different number of nodes")
+        );
+    }
+
+    /**
+     * Create the output directory with the files.
+     * @param dir Temporary directory.
+     * @param files Names of the produced files.
+     * @return Output directory.
+     * @throws IOException If fails.
+     */
+    private static Path output(final Path dir, final String... files) throws IOException {
+        final Path output = dir.resolve("output");
+        Files.createDirectories(output);
+        for (final String file : files) {
+            Files.write(output.resolve(file), file.getBytes(StandardCharsets.UTF_8));
+        }
+        return output;
+    }
+
+    /**
+     * Save the manifest of the 'disassemble' goal.
+     * @param dir Directory with manifests.
+     * @param output Output directory.
+     * @param index Shard number.
+     * @param total Total number of shards.
+     * @param files Files produced by the shard.
+     * @throws IOException If fails.
+     * @checkstyle ParameterNumberCheck (10 lines)
+     */
+    private static void manifest(
+        final Path dir,
+        final Path output,
+        final int index,
+        final int total,
+        final String... files
+    ) throws IOException {
+        final List<String> lines = new ArrayList<>(files.length + 2);
+        lines.add(String.format("%s%d/%d", Sharded.SHARD, index, total));
+        lines.add(String.format("%s%s", Sharded.OUTPUT, output.toAbsolutePath()));
+        lines.addAll(Arrays.asList(files));
+        Files.write(
+            dir.resolve(String.format("disassemble-%d-of-%d.txt", index, total)),
+            lines,
+            StandardCharsets.UTF_8
+        );
+    }
+}
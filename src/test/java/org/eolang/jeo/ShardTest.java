@@ -0,0 +1,122 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Shard}.
+ * @since 0.6
+ */
+final class ShardTest {
+
+    @Test
+    void splitsFilesIntoDisjointCompletePartitions(@TempDir final Path temp) throws IOException {
+        final List<Path> files = ShardTest.files(temp, 17);
+        final int total = 4;
+        final List<Path> all = new ArrayList<>(files.size());
+        for (int index = 1; index <= total; ++index) {
+            all.addAll(
+                new Shard(index, total).select(temp, files.stream()).collect(Collectors.toList())
+            );
+        }
+        MatcherAssert.assertThat(
+            "Each file should belong to exactly one shard",
+            all,
+            Matchers.containsInAnyOrder(files.toArray(new Path[0]))
+        );
+    }
+
+    @Test
+    void partitionsDeterministically(@TempDir final Path temp) throws IOException {
+        final List<Path> files = ShardTest.files(temp, 11);
+        final List<Path> reversed = new ArrayList<>(files);
+        Collections.reverse(reversed);
+        MatcherAssert.assertThat(
+            "Shard should not depend on the order of the input files",
+            new Shard("2/3").select(temp, reversed.stream()).collect(Collectors.toSet()),
+            Matchers.equalTo(
+                new Shard("2/3").select(temp, files.stream()).collect(Collectors.toSet())
+            )
+        );
+    }
+
+    @Test
+    void balancesShardsByCost(@TempDir final Path temp) throws IOException {
+        final List<Path> files = ShardTest.files(temp, 20);
+        final Collection<Integer> sizes = new ArrayList<>(2);
+        for (int index = 1; index <= 2; ++index) {
+            sizes.add(
+                new Shard(index, 2).select(temp, files.stream())
+                    .collect(Collectors.toList())
+                    .size()
+            );
+        }
+        MatcherAssert.assertThat(
+            "Shards should have a comparable number of equally sized files",
+            sizes,
+            Matchers.everyItem(Matchers.equalTo(10))
+        );
+    }
+
+    @Test
+    void rejectsInvalidSpecification() {
+        Assertions.assertThrows(
+            IllegalArgumentException.class,
+            () -> new Shard("5/4"),
+            "Shard number greater than the total number of shards should be rejected"
+        );
+    }
+
+    /**
+     * Create files of the same size.
+     * @param dir Directory.
+     * @param count Number of files.
+     * @return Created files.
+     * @throws IOException If fails.
+     */
+    private static List<Path> files(final Path dir, final int count) throws IOException {
+        final List<Path> result = new ArrayList<>(count);
+        for (final int index : IntStream.range(0, count).toArray()) {
+            final Path file = dir.resolve(String.format("pkg/Class%d.class", index));
+            Files.createDirectories(file.getParent());
+            Files.write(file, new byte[]{1, 2, 3});
+            result.add(file);
+        }
+        return result;
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Watcher}.
+ * @since 0.6
+ */
+final class WatcherTest {
+
+    @Test
+    void disassemblesChangedClassesOnlyOnce(@TempDir final Path dir) throws Exception {
+        final Path classes = dir.resolve("classes");
+        final Path xmir = dir.resolve("xmir");
+        try (Watcher watcher = new Watcher(
+            classes, xmir, 100L, WatcherTest.class::getClassLoader
+        )) {
+            final String name = "ChangedClass";
+            Files.write(
+                classes.resolve(String.format("%s.class", name)),
+                new BytecodeProgram(new BytecodeClass(name)).bytecode().bytes()
+            );
+            MatcherAssert.assertThat(
+                "We expect the watcher to disassemble the changed class",
+                watcher.step(10_000L),
+                Matchers.equalTo(1)
+            );
+            MatcherAssert.assertThat(
+                "We expect the watcher to save the disassembled class",
+                Files.exists(xmir.resolve(String.format("%s.xmir", name))),
+                Matchers.is(true)
+            );
+            MatcherAssert.assertThat(
+                "We expect the watcher to ignore the files it wrote itself",
+                watcher.step(500L),
+                Matchers.equalTo(0)
+            );
+        }
+    }
+
+    @Test
+    void keepsWatchingAfterBrokenXmir(@TempDir final Path dir) throws Exception {
+        final Path classes = dir.resolve("classes");
+        final Path xmir = dir.resolve("xmir");
+        try (Watcher watcher = new Watcher(
+            classes, xmir, 100L, WatcherTest.class::getClassLoader
+        )) {
+            final String name = "EditedClass";
+            final Path clazz = classes.resolve(String.format("%s.class", name));
+            Files.write(clazz, new BytecodeProgram(new BytecodeClass(name)).bytecode().bytes());
+            watcher.step(10_000L);
+            final Path source = xmir.resolve(String.format("%s.xmir", name));
+            final byte[] valid = Files.readAllBytes(source);
+            Files.delete(clazz);
+            Files.write(source, "<object><broken".getBytes(StandardCharsets.UTF_8));
+            MatcherAssert.assertThat(
+                "We expect the watcher to skip the broken XMIR without failing",
+                watcher.step(10_000L),
+                Matchers.equalTo(1)
+            );
+            Files.write(source, valid);
+            MatcherAssert.assertThat(
+                "We expect the watcher to assemble the XMIR once it's fixed",
+                watcher.step(10_000L),
+                Matchers.equalTo(1)
+            );
+            try (Stream<Path> all = Files.walk(classes)) {
+                MatcherAssert.assertThat(
+                    "We expect the watcher to save the assembled class",
+                    all.map(Path::getFileName).map(Path::toString).collect(Collectors.toList()),
+                    Matchers.hasItem(String.format("%s.class", name))
+                );
+            }
+        }
+    }
+}
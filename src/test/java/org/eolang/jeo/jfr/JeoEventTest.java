@@ -0,0 +1,74 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.jfr;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordingFile;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link JeoEvent}.
+ * @since 0.6
+ */
+final class JeoEventTest {
+
+    @Test
+    void recordsEnabledEvent(@TempDir final Path dir) throws IOException {
+        final Path dump = dir.resolve("jeo.jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable("jeo.Disassemble");
+            recording.start();
+            JeoEvent.DISASSEMBLE.start()
+                .file(dir.resolve("Foo.class"))
+                .clazz("Foo")
+                .sizes(10L, 20L)
+                .end();
+            recording.stop();
+            recording.dump(dump);
+        }
+        MatcherAssert.assertThat(
+            "We expect the event to be recorded with its class name",
+            RecordingFile.readAllEvents(dump).stream()
+                .filter(event -> "jeo.Disassemble".equals(event.getEventType().getName()))
+                .map(event -> event.getString("clazz"))
+                .collect(Collectors.toList()),
+            Matchers.contains("Foo")
+        );
+    }
+
+    @Test
+    void recordsNothingWhenDisabled() {
+        MatcherAssert.assertThat(
+            "We expect disabled events to be skipped",
+            JeoEvent.VERIFY.start().recorded(),
+            Matchers.is(false)
+        );
+    }
+}
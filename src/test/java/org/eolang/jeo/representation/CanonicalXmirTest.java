@@ -23,13 +23,24 @@
  */
 package org.eolang.jeo.representation;
 
+import com.jcabi.matchers.XhtmlMatchers;
+import com.jcabi.xml.XML;
 import com.jcabi.xml.XMLDocument;
+import com.jcabi.xml.XSLDocument;
+import com.yegor256.xsline.Shift;
+import com.yegor256.xsline.StEndless;
+import com.yegor256.xsline.TrDefault;
+import com.yegor256.xsline.Xsline;
+import java.io.IOException;
 import java.util.Collections;
+import org.cactoos.io.InputOf;
 import org.eolang.jeo.representation.bytecode.BytecodeClass;
 import org.eolang.jeo.representation.bytecode.BytecodeClassProperties;
 import org.eolang.jeo.representation.bytecode.BytecodeMethod;
 import org.eolang.jeo.representation.bytecode.BytecodeProgram;
 import org.eolang.jeo.representation.xmir.XmlProgram;
+import org.eolang.parser.EoSyntax;
+import org.eolang.parser.xmir.Xmir;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Disabled;
@@ -72,4 +83,86 @@ final class CanonicalXmirTest {
             Matchers.equalTo(initial)
         );
     }
+
+    @Test
+    void normalizesDataObjectsWithoutParsing() {
+        MatcherAssert.assertThat(
+            "We expect that data objects are turned into plain 'bytes' objects right in XMIR, and all the objects get their own lines",
+            new CanonicalXmir(
+                new XMLDocument(
+                    String.join(
+                        "",
+                        "<program><objects><o abstract='' name='App'>",
+                        "<o base='.bytes' as='0' name='data'>",
+                        "<o base='.eolang'><o base='.org'><o base='Q'/></o></o>",
+                        "2A-</o></o></objects></program>"
+                    )
+                )
+            ).plain(),
+            XhtmlMatchers.hasXPaths(
+                "/program[@name='unknown']",
+                "/program/objects/o[@name='App' and @line='1']",
+                "/program/objects/o/o[@base='bytes' and @name='data' and @line='2' and text()='2A-']",
+                "/program/objects/o/o[not(o)]"
+            )
+        );
+    }
+
+    @Test
+    void unrollsMethodCallsLikeParsedEo() throws IOException {
+        final XML canonical = new XMLDocument(
+            String.join(
+                "",
+                "<program><objects><o abstract='' name='app'>",
+                "<o base='.plus' name='sum'><o base='.x'><o base='$'/></o>",
+                "<o base='.y'><o base='$'/></o></o>",
+                "<o base='.eq' name='t'><o base='.less'><o base='.five'><o base='Q'/></o>",
+                "<o base='.bytes' as='0'><o base='.eolang'><o base='.org'><o base='Q'/></o></o>",
+                "2A-</o></o><o base='.z'><o base='$'/></o></o>",
+                "</o></objects></program>"
+            )
+        );
+        final XML eo = new EoSyntax("app", new InputOf(new Xmir.Default(canonical).toEO()))
+            .parsed();
+        final XML parsed = new Xsline(
+            new TrDefault<Shift>(
+                new CompiledShift("/org/eolang/parser/wrap-method-calls.xsl"),
+                new StEndless(new CompiledShift("/org/eolang/parser/roll-bases.xsl")),
+                new CompiledShift("/org/eolang/parser/add-refs.xsl"),
+                new CompiledShift("/org/eolang/parser/add-cuts.xsl"),
+                new StEndless(new CompiledShift("/org/eolang/parser/vars-float-down.xsl")),
+                new CompiledShift("/org/eolang/parser/remove-cuts.xsl")
+            )
+        ).pass(eo);
+        MatcherAssert.assertThat(
+            "We expect the same objects as the old unrolling through EO printing and parsing gives",
+            CanonicalXmirTest.objects(new CanonicalXmir(canonical).plain()),
+            Matchers.equalTo(CanonicalXmirTest.objects(parsed))
+        );
+        MatcherAssert.assertThat(
+            "We expect method calls marked with @method to be wrapped as the old unrolling does",
+            CanonicalXmirTest.objects(new CanonicalXmir(eo).plain()),
+            Matchers.equalTo(CanonicalXmirTest.objects(parsed))
+        );
+    }
+
+    /**
+     * Objects of the program without their positions in the source.
+     * @param program Program.
+     * @return Objects.
+     */
+    private static String objects(final XML program) {
+        return new XSLDocument(
+            String.join(
+                "",
+                "<xsl:stylesheet xmlns:xsl='http://www.w3.org/1999/XSL/Transform' version='2.0'>",
+                "<xsl:strip-space elements='*'/>",
+                "<xsl:template match='/'><xsl:apply-templates select='/program/objects'/></xsl:template>",
+                "<xsl:template match='@line|@pos'/>",
+                "<xsl:template match='node()|@*'>",
+                "<xsl:copy><xsl:apply-templates select='node()|@*'/></xsl:copy>",
+                "</xsl:template></xsl:stylesheet>"
+            )
+        ).transform(program).toString();
+    }
 }
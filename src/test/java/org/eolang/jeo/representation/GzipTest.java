@@ -0,0 +1,115 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.representation;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.eolang.jeo.representation.bytecode.Bytecode;
+import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeProgram;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+/**
+ * Test case for {@link Gzip}.
+ *
+ * @since 0.6
+ */
+final class GzipTest {
+
+    @Test
+    void compressesXmirAndReadsItBack(@TempDir final Path temp) throws IOException {
+        final Bytecode expected = new BytecodeProgram(
+            new BytecodeClass("Compressed").withField("foo")
+        ).bytecode();
+        final byte[] xmir = new BytecodeRepresentation(expected).toEO()
+            .toString()
+            .getBytes(StandardCharsets.UTF_8);
+        final Path compressed = temp.resolve("Compressed.xmir.gz");
+        final long size = new Gzip(9).write(compressed, xmir);
+        MatcherAssert.assertThat(
+            "Gzip should report the size of the compressed file",
+            size,
+            Matchers.equalTo(Files.size(compressed))
+        );
+        MatcherAssert.assertThat(
+            "Compressed XMIR should be smaller than the plain one",
+            Files.size(compressed),
+            Matchers.lessThan((long) xmir.length)
+        );
+        MatcherAssert.assertThat(
+            "Compressed XMIR should be assembled into the same bytecode",
+            new XmirRepresentation(compressed).toBytecode(),
+            Matchers.equalTo(expected)
+        );
+    }
+
+    @Test
+    void removesFileWithOppositeCompression(@TempDir final Path temp) throws IOException {
+        final Path plain = temp.resolve("Stale.xmir");
+        final Path compressed = temp.resolve("Stale.xmir.gz");
+        final byte[] content = "<program/>".getBytes(StandardCharsets.UTF_8);
+        new Gzip().write(plain, content);
+        new Gzip().write(compressed, content);
+        MatcherAssert.assertThat(
+            "Plain XMIR left from the previous run should be removed",
+            Files.exists(plain),
+            Matchers.is(false)
+        );
+        MatcherAssert.assertThat(
+            "Compressed XMIR should be decompressed on read",
+            Gzip.read(compressed),
+            Matchers.equalTo(content)
+        );
+    }
+
+    @Test
+    void replacesFileWithoutTruncatingItForReaders(@TempDir final Path temp) throws IOException {
+        final Path file = temp.resolve("Replaced.class");
+        final byte[] old = "old bytes of the class".getBytes(StandardCharsets.UTF_8);
+        new Gzip().write(file, old);
+        try (InputStream reader = Files.newInputStream(file)) {
+            new Gzip().write(file, "new".getBytes(StandardCharsets.UTF_8));
+            MatcherAssert.assertThat(
+                "Reader opened before the write should see the whole old file",
+                reader.readAllBytes(),
+                Matchers.equalTo(old)
+            );
+        }
+        try (Stream<Path> files = Files.list(temp)) {
+            MatcherAssert.assertThat(
+                "Temporary files should not be left next to the written file",
+                files.collect(Collectors.toList()),
+                Matchers.contains(file)
+            );
+        }
+    }
+}
@@ -23,12 +23,19 @@
  */
 package org.eolang.jeo.representation.asm;
 
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.stream.Collectors;
 import org.cactoos.bytes.BytesOf;
 import org.cactoos.io.ResourceOf;
 import org.eolang.jeo.representation.bytecode.Bytecode;
 import org.eolang.jeo.representation.bytecode.BytecodeClass;
+import org.eolang.jeo.representation.bytecode.BytecodeFrame;
 import org.eolang.jeo.representation.bytecode.BytecodeLabel;
 import org.eolang.jeo.representation.bytecode.BytecodeLine;
+import org.eolang.jeo.representation.bytecode.BytecodeMethod;
 import org.eolang.jeo.representation.bytecode.BytecodeProgram;
 import org.eolang.jeo.representation.xmir.XmlProgram;
 import org.hamcrest.MatcherAssert;
@@ -36,6 +43,12 @@ import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.objectweb.asm.ClassReader;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FrameNode;
+import org.objectweb.asm.util.Textifier;
+import org.objectweb.asm.util.TraceMethodVisitor;
 import org.xembly.Xembler;
 
 /**
@@ -84,6 +97,68 @@ final class AsmProgramTest {
         );
     }
 
+    @Test
+    void recomputesFramesSkippedByFramelessMode() {
+        final String label = UUID.randomUUID().toString();
+        final BytecodeProgram frameless = new AsmProgram(
+            new BytecodeProgram(
+                new BytecodeClass("Frameless")
+                    .withMethod("min", "(II)I", Opcodes.ACC_PUBLIC, Opcodes.ACC_STATIC)
+                    .opcode(Opcodes.ILOAD, 0)
+                    .opcode(Opcodes.ILOAD, 1)
+                    .opcode(Opcodes.IF_ICMPGE, new BytecodeLabel(label))
+                    .opcode(Opcodes.ILOAD, 0)
+                    .opcode(Opcodes.IRETURN)
+                    .label(label)
+                    .opcode(Opcodes.ILOAD, 1)
+                    .opcode(Opcodes.IRETURN)
+                    .up()
+            ).bytecode().bytes()
+        ).bytecode(DisassembleMode.FRAMELESS.asmOptions());
+        MatcherAssert.assertThat(
+            "We expect frames to be skipped",
+            frameless.top().methods().get(0).intructions().stream()
+                .anyMatch(BytecodeFrame.class::isInstance),
+            Matchers.is(false)
+        );
+        final ClassNode node = new ClassNode();
+        new ClassReader(frameless.bytecode().bytes()).accept(node, 0);
+        MatcherAssert.assertThat(
+            "We expect frames to be computed again during assembling",
+            Arrays.stream(node.methods.get(0).instructions.toArray())
+                .anyMatch(FrameNode.class::isInstance),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void keepsNotSelectedMethodsAsTheyAre() throws Exception {
+        final byte[] original = new BytesOf(new ResourceOf("FastHttpDateFormat.class")).asBytes();
+        final BytecodeProgram selective = new AsmProgram(original).bytecode(
+            DisassembleMode.FRAMELESS.asmOptions(),
+            new MethodSelector("*.format*", 0)
+        );
+        MatcherAssert.assertThat(
+            "We expect only selected methods to be disassembled into instructions",
+            selective.top().methods().stream()
+                .filter(method -> !method.intructions().isEmpty())
+                .map(BytecodeMethod::name)
+                .collect(Collectors.toSet()),
+            Matchers.contains("formatDate")
+        );
+        final ClassNode expected = new ClassNode();
+        new ClassReader(original).accept(expected, 0);
+        final ClassNode actual = new ClassNode();
+        new ClassReader(
+            new XmlProgram(new Xembler(selective.directives("")).xml()).bytecode().bytecode().bytes()
+        ).accept(actual, 0);
+        MatcherAssert.assertThat(
+            "We expect not selected methods to be written back as they are",
+            AsmProgramTest.text(actual, "parseDate"),
+            Matchers.equalTo(AsmProgramTest.text(expected, "parseDate"))
+        );
+    }
+
     @ParameterizedTest
     @ValueSource(strings = {"FixedWidth.class", "DeprecatedMethod.class", "ParamAnnotation.class"})
     void convertsToBytecodeThenToXmirAndThenBackToBytecode(final String resource) throws Exception {
@@ -98,4 +173,20 @@ final class AsmProgramTest {
             Matchers.equalTo(bytecode.bytecode())
         );
     }
+
+    /**
+     * Text of all the methods with the given name.
+     * @param node Class node.
+     * @param name Method name.
+     * @return Text of the methods.
+     */
+    private static String text(final ClassNode node, final String name) {
+        final Textifier text = new Textifier();
+        node.methods.stream()
+            .filter(method -> name.equals(method.name))
+            .forEach(method -> method.accept(new TraceMethodVisitor(text)));
+        final StringWriter writer = new StringWriter();
+        text.print(new PrintWriter(writer));
+        return writer.toString();
+    }
 }
@@ -0,0 +1,82 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.representation.asm;
+
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.InsnNode;
+import org.objectweb.asm.tree.MethodNode;
+
+/**
+ * Test case for {@link MethodSelector}.
+ * @since 0.6
+ */
+final class MethodSelectorTest {
+
+    @ParameterizedTest
+    @CsvSource(
+        {
+            "com/acme/Engine, process, true",
+            "com/acme/Engine, processAll, true",
+            "com/acme/Engine, run, false",
+            "com/acme/engine/Piston, run, true",
+            "com/acme/engine/Piston, toString, false"
+        }
+    )
+    void selectsMethodsByPatterns(final String clazz, final String name, final boolean selected) {
+        MatcherAssert.assertThat(
+            String.format("We expect the method '%s.%s' to be selected correctly", clazz, name),
+            new MethodSelector("*.process*, com.acme.engine.*.*, !**.toString", 0)
+                .selects(clazz, MethodSelectorTest.method(name, 1)),
+            Matchers.is(selected)
+        );
+    }
+
+    @Test
+    void skipsSmallMethods() {
+        MatcherAssert.assertThat(
+            "We expect methods with fewer instructions than the minimum not to be selected",
+            new MethodSelector("**", 3).selects("Small", MethodSelectorTest.method("small", 2)),
+            Matchers.is(false)
+        );
+    }
+
+    /**
+     * Method node with the given number of instructions.
+     * @param name Method name.
+     * @param size Number of instructions.
+     * @return Method node.
+     */
+    private static MethodNode method(final String name, final int size) {
+        final MethodNode method = new MethodNode(Opcodes.ACC_PUBLIC, name, "()V", null, null);
+        for (int index = 0; index < size; ++index) {
+            method.instructions.add(new InsnNode(Opcodes.NOP));
+        }
+        return method;
+    }
+}
@@ -25,12 +25,17 @@ package org.eolang.jeo.representation.bytecode;
 
 import com.jcabi.matchers.XhtmlMatchers;
 import com.jcabi.xml.XML;
+import java.util.Arrays;
+import java.util.UUID;
 import org.eolang.jeo.representation.BytecodeRepresentation;
 import org.hamcrest.MatcherAssert;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
+import org.objectweb.asm.ClassReader;
 import org.objectweb.asm.Opcodes;
+import org.objectweb.asm.tree.ClassNode;
+import org.objectweb.asm.tree.FrameNode;
 
 /**
  * Test case for {@link org.eolang.jeo.representation.bytecode.BytecodeClass}.
@@ -91,6 +96,34 @@ final class BytecodeClassTest {
         );
     }
 
+    @Test
+    void computesFramesForMethodsWithoutMaxs() {
+        final String label = UUID.randomUUID().toString();
+        final ClassNode node = new ClassNode();
+        new ClassReader(
+            new BytecodeProgram(
+                new BytecodeClass("Framed")
+                    .withMethod("max", "(II)I", Opcodes.ACC_PUBLIC, Opcodes.ACC_STATIC)
+                    .opcode(Opcodes.ILOAD, 0)
+                    .opcode(Opcodes.ILOAD, 1)
+                    .opcode(Opcodes.IF_ICMPLE, new BytecodeLabel(label))
+                    .opcode(Opcodes.ILOAD, 0)
+                    .opcode(Opcodes.IRETURN)
+                    .label(label)
+                    .opcode(Opcodes.ILOAD, 1)
+                    .opcode(Opcodes.IRETURN)
+                    .up()
+            ).bytecode().bytes()
+        ).accept(node, 0);
+        MatcherAssert.assertThat(
+            "We expect a stack map frame to be computed for the jump target",
+            Arrays.stream(node.methods.get(0).instructions.toArray())
+                .filter(FrameNode.class::isInstance)
+                .count(),
+            Matchers.equalTo(1L)
+        );
+    }
+
     @Test
     void createsBytecodeWithDefaultConstructor() {
         MatcherAssert.assertThat(
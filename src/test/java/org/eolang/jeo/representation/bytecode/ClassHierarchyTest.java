@@ -0,0 +1,121 @@
+/*
+ * The MIT License (MIT)
+ *
+ * Copyright (c) 2016-2024 Objectionary.com
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included
+ * in all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NON-INFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+package org.eolang.jeo.representation.bytecode;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import org.hamcrest.MatcherAssert;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test case for {@link ClassHierarchy}.
+ * @since 0.6
+ */
+final class ClassHierarchyTest {
+
+    @Test
+    void findsCommonSuperClass() {
+        MatcherAssert.assertThat(
+            "We expect the common super class of Integer and Long to be Number",
+            new ClassHierarchy().commonSuperClass("java/lang/Integer", "java/lang/Long"),
+            Matchers.equalTo("java/lang/Number")
+        );
+    }
+
+    @Test
+    void checksAssignabilityThroughInterfaces() {
+        MatcherAssert.assertThat(
+            "We expect ArrayList to be assignable to Iterable through its interfaces",
+            new ClassHierarchy().isAssignableFrom("java/lang/Iterable", "java/util/ArrayList"),
+            Matchers.is(true)
+        );
+    }
+
+    @Test
+    void treatsUnknownClassesAsDirectSubclassesOfObject() {
+        final ClassHierarchy hierarchy = new ClassHierarchy();
+        MatcherAssert.assertThat(
+            "We expect an unknown class to have Object as the common super class with any other class",
+            hierarchy.commonSuperClass("org/eolang/jeo/Unknown", "java/lang/Integer"),
+            Matchers.equalTo("java/lang/Object")
+        );
+        MatcherAssert.assertThat(
+            "We expect an unknown class to be reported as unresolved",
+            hierarchy.resolved("org/eolang/jeo/Unknown"),
+            Matchers.is(false)
+        );
+    }
+
+    @Test
+    void rereadsClassFileWithTruncatedHeader() throws IOException {
+        final byte[] full;
+        try (InputStream input = ClassLoader.getSystemResourceAsStream("java/util/ArrayList.class")) {
+            full = input.readAllBytes();
+        }
+        final ClassHierarchy hierarchy = new ClassHierarchy(
+            new Rewritten(Arrays.copyOf(full, 7), full)
+        );
+        MatcherAssert.assertThat(
+            "We expect a class with the truncated header to be unknown",
+            hierarchy.superName("org/eolang/jeo/Rewritten"),
+            Matchers.equalTo("java/lang/Object")
+        );
+        MatcherAssert.assertThat(
+            "We expect the truncated header not to be cached",
+            hierarchy.superName("org/eolang/jeo/Rewritten"),
+            Matchers.equalTo("java/util/AbstractList")
+        );
+    }
+
+    /**
+     * Class loader that returns the next version of the class file on every request.
+     * @since 0.6
+     */
+    private static final class Rewritten extends ClassLoader {
+
+        /**
+         * Versions of the class file.
+         */
+        private final Deque<byte[]> versions;
+
+        /**
+         * Constructor.
+         * @param versions Versions of the class file.
+         */
+        Rewritten(final byte[]... versions) {
+            super(null);
+            this.versions = new ArrayDeque<>(Arrays.asList(versions));
+        }
+
+        @Override
+        public InputStream getResourceAsStream(final String name) {
+            return new ByteArrayInputStream(this.versions.pop());
+        }
+    }
+}